@@ -0,0 +1,157 @@
+package org.boundbox.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.boundbox.Backend;
+import org.boundbox.BoundBox;
+import org.boundbox.BoundBoxField;
+import org.boundbox.benchmarks.sample.BoundBoxOfPrimitiveFieldsSample;
+import org.boundbox.benchmarks.sample.MethodHandlesOfPrimitiveFieldsSample;
+import org.boundbox.benchmarks.sample.PrimitiveFieldsSample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Getters and setters of a BoundBox, with reflection and MethodHandles, against direct field accesses.
+ * @author SNI
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+
+    private PrimitiveFieldsSample sample;
+
+    // the extra field is never accessed, it is only there for the processor to generate its accessors
+    @BoundBox(boundClass = PrimitiveFieldsSample.class, extraFields = { @BoundBoxField(fieldName = "extraValue", fieldClass = int.class) })
+    private BoundBoxOfPrimitiveFieldsSample reflection;
+
+    @BoundBox(boundClass = PrimitiveFieldsSample.class, backend = Backend.METHOD_HANDLES, prefixes = { "MethodHandlesOf", "boundBox" })
+    private MethodHandlesOfPrimitiveFieldsSample methodHandles;
+
+    private int intValue = 42;
+    private String stringValue = "42";
+
+    @Setup
+    public void setup() {
+        sample = new PrimitiveFieldsSample();
+        reflection = new BoundBoxOfPrimitiveFieldsSample(sample);
+        methodHandles = new MethodHandlesOfPrimitiveFieldsSample(sample);
+    }
+
+    @Benchmark
+    public int direct_getInt() {
+        return sample.directGetIntValue();
+    }
+
+    @Benchmark
+    public int reflection_getInt() {
+        return reflection.boundBox_getIntValue();
+    }
+
+    @Benchmark
+    public int methodHandles_getInt() {
+        return methodHandles.boundBox_getIntValue();
+    }
+
+    @Benchmark
+    public void direct_setInt() {
+        sample.directSetIntValue(intValue);
+    }
+
+    @Benchmark
+    public void reflection_setInt() {
+        reflection.boundBox_setIntValue(intValue);
+    }
+
+    @Benchmark
+    public void methodHandles_setInt() {
+        methodHandles.boundBox_setIntValue(intValue);
+    }
+
+    @Benchmark
+    public long direct_getLong() {
+        return sample.directGetLongValue();
+    }
+
+    @Benchmark
+    public long reflection_getLong() {
+        return reflection.boundBox_getLongValue();
+    }
+
+    @Benchmark
+    public long methodHandles_getLong() {
+        return methodHandles.boundBox_getLongValue();
+    }
+
+    @Benchmark
+    public double direct_getDouble() {
+        return sample.directGetDoubleValue();
+    }
+
+    @Benchmark
+    public double reflection_getDouble() {
+        return reflection.boundBox_getDoubleValue();
+    }
+
+    @Benchmark
+    public double methodHandles_getDouble() {
+        return methodHandles.boundBox_getDoubleValue();
+    }
+
+    @Benchmark
+    public String direct_getString() {
+        return sample.directGetStringValue();
+    }
+
+    @Benchmark
+    public String reflection_getString() {
+        return reflection.boundBox_getStringValue();
+    }
+
+    @Benchmark
+    public String methodHandles_getString() {
+        return methodHandles.boundBox_getStringValue();
+    }
+
+    @Benchmark
+    public void direct_setString() {
+        sample.directSetStringValue(stringValue);
+    }
+
+    @Benchmark
+    public void reflection_setString() {
+        reflection.boundBox_setStringValue(stringValue);
+    }
+
+    @Benchmark
+    public void methodHandles_setString() {
+        methodHandles.boundBox_setStringValue(stringValue);
+    }
+
+    @Benchmark
+    public int direct_getStaticInt() {
+        return PrimitiveFieldsSample.directGetStaticIntValue();
+    }
+
+    @Benchmark
+    public int reflection_getStaticInt() {
+        return BoundBoxOfPrimitiveFieldsSample.boundBox_getStaticIntValue();
+    }
+
+    @Benchmark
+    public int methodHandles_getStaticInt() {
+        return MethodHandlesOfPrimitiveFieldsSample.boundBox_getStaticIntValue();
+    }
+}
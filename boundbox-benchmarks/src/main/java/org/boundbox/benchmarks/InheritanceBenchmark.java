@@ -0,0 +1,92 @@
+package org.boundbox.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.boundbox.Backend;
+import org.boundbox.BoundBox;
+import org.boundbox.benchmarks.sample.BoundBoxOfDeepHierarchySample;
+import org.boundbox.benchmarks.sample.DeepHierarchySample;
+import org.boundbox.benchmarks.sample.MethodHandlesOfDeepHierarchySample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Accessors of hidden members of super classes, 4 levels up a hierarchy, against direct accesses.
+ * @author SNI
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InheritanceBenchmark {
+
+    private DeepHierarchySample sample;
+
+    @BoundBox(boundClass = DeepHierarchySample.class)
+    private BoundBoxOfDeepHierarchySample reflection;
+
+    @BoundBox(boundClass = DeepHierarchySample.class, backend = Backend.METHOD_HANDLES, prefixes = { "MethodHandlesOf", "boundBox" })
+    private MethodHandlesOfDeepHierarchySample methodHandles;
+
+    @Setup
+    public void setup() {
+        sample = new DeepHierarchySample();
+        reflection = new BoundBoxOfDeepHierarchySample(sample);
+        methodHandles = new MethodHandlesOfDeepHierarchySample(sample);
+    }
+
+    @Benchmark
+    public int direct_getDepth() {
+        return sample.directGetDepth();
+    }
+
+    @Benchmark
+    public int reflection_getDepth() {
+        return reflection.boundBox_getDepth();
+    }
+
+    @Benchmark
+    public int methodHandles_getDepth() {
+        return methodHandles.boundBox_getDepth();
+    }
+
+    @Benchmark
+    public int direct_getDepthOfTopLevel() {
+        return sample.directGetDepthOfLevel1();
+    }
+
+    @Benchmark
+    public int reflection_getDepthOfTopLevel() {
+        return reflection.boundBox_super_DeepHierarchyLevel1_getDepth();
+    }
+
+    @Benchmark
+    public int methodHandles_getDepthOfTopLevel() {
+        return methodHandles.boundBox_super_DeepHierarchyLevel1_getDepth();
+    }
+
+    @Benchmark
+    public int direct_depthOfTopLevel() {
+        return sample.directDepthOfLevel1();
+    }
+
+    @Benchmark
+    public int reflection_depthOfTopLevel() {
+        return reflection.boundBox_super_DeepHierarchyLevel1_depth();
+    }
+
+    @Benchmark
+    public int methodHandles_depthOfTopLevel() {
+        return methodHandles.boundBox_super_DeepHierarchyLevel1_depth();
+    }
+}
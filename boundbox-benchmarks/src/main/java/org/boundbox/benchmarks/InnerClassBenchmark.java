@@ -0,0 +1,100 @@
+package org.boundbox.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.boundbox.Backend;
+import org.boundbox.BoundBox;
+import org.boundbox.benchmarks.sample.BoundBoxOfInnerClassesSample;
+import org.boundbox.benchmarks.sample.InnerClassesSample;
+import org.boundbox.benchmarks.sample.MethodHandlesOfInnerClassesSample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inner class accessors of a BoundBox, with reflection and MethodHandles, against direct instantiations and accesses.
+ * @author SNI
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InnerClassBenchmark {
+
+    private InnerClassesSample sample;
+    private Object staticInnerClass;
+
+    @BoundBox(boundClass = InnerClassesSample.class)
+    private BoundBoxOfInnerClassesSample reflection;
+    private BoundBoxOfInnerClassesSample.BoundBoxOfStaticInnerClass reflectionOfStaticInnerClass;
+
+    @BoundBox(boundClass = InnerClassesSample.class, backend = Backend.METHOD_HANDLES, prefixes = { "MethodHandlesOf", "boundBox" })
+    private MethodHandlesOfInnerClassesSample methodHandles;
+    private MethodHandlesOfInnerClassesSample.MethodHandlesOfStaticInnerClass methodHandlesOfStaticInnerClass;
+
+    private int intValue = 42;
+
+    @Setup
+    public void setup() {
+        sample = new InnerClassesSample();
+        staticInnerClass = InnerClassesSample.directNewStaticInnerClass(intValue);
+        reflection = new BoundBoxOfInnerClassesSample(sample);
+        reflectionOfStaticInnerClass = new BoundBoxOfInnerClassesSample.BoundBoxOfStaticInnerClass(staticInnerClass);
+        methodHandles = new MethodHandlesOfInnerClassesSample(sample);
+        methodHandlesOfStaticInnerClass = new MethodHandlesOfInnerClassesSample.MethodHandlesOfStaticInnerClass(staticInnerClass);
+    }
+
+    @Benchmark
+    public Object direct_newStaticInnerClass() {
+        return InnerClassesSample.directNewStaticInnerClass(intValue);
+    }
+
+    @Benchmark
+    public Object reflection_newStaticInnerClass() {
+        return BoundBoxOfInnerClassesSample.boundBox_new_StaticInnerClass(intValue);
+    }
+
+    @Benchmark
+    public Object methodHandles_newStaticInnerClass() {
+        return MethodHandlesOfInnerClassesSample.boundBox_new_StaticInnerClass(intValue);
+    }
+
+    @Benchmark
+    public Object direct_newInnerClass() {
+        return sample.directNewInnerClass(intValue);
+    }
+
+    @Benchmark
+    public Object reflection_newInnerClass() {
+        return reflection.boundBox_new_InnerClass(intValue);
+    }
+
+    @Benchmark
+    public Object methodHandles_newInnerClass() {
+        return methodHandles.boundBox_new_InnerClass(intValue);
+    }
+
+    @Benchmark
+    public int direct_getValueOfStaticInnerClass() {
+        return InnerClassesSample.directGetValueOfStaticInnerClass(staticInnerClass);
+    }
+
+    @Benchmark
+    public int reflection_getValueOfStaticInnerClass() {
+        return reflectionOfStaticInnerClass.boundBox_getValue();
+    }
+
+    @Benchmark
+    public int methodHandles_getValueOfStaticInnerClass() {
+        return methodHandlesOfStaticInnerClass.boundBox_getValue();
+    }
+}
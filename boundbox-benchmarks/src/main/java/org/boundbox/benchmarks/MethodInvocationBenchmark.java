@@ -0,0 +1,126 @@
+package org.boundbox.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.boundbox.Backend;
+import org.boundbox.BoundBox;
+import org.boundbox.benchmarks.sample.BoundBoxOfOverloadedMethodsSample;
+import org.boundbox.benchmarks.sample.MethodHandlesOfOverloadedMethodsSample;
+import org.boundbox.benchmarks.sample.OverloadedMethodsSample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Method and constructor wrappers of a BoundBox, with reflection and MethodHandles, against direct calls.
+ * @author SNI
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MethodInvocationBenchmark {
+
+    private OverloadedMethodsSample sample;
+
+    @BoundBox(boundClass = OverloadedMethodsSample.class)
+    private BoundBoxOfOverloadedMethodsSample reflection;
+
+    @BoundBox(boundClass = OverloadedMethodsSample.class, backend = Backend.METHOD_HANDLES, prefixes = { "MethodHandlesOf", "boundBox" })
+    private MethodHandlesOfOverloadedMethodsSample methodHandles;
+
+    private int intValue = 42;
+    private long longValue = 42L;
+    private String stringValue = "42";
+
+    @Setup
+    public void setup() {
+        sample = OverloadedMethodsSample.directNew(1);
+        reflection = new BoundBoxOfOverloadedMethodsSample(sample);
+        methodHandles = new MethodHandlesOfOverloadedMethodsSample(sample);
+    }
+
+    @Benchmark
+    public int direct_addInt() {
+        return sample.directAdd(intValue, intValue);
+    }
+
+    @Benchmark
+    public int reflection_addInt() {
+        return reflection.add(intValue, intValue);
+    }
+
+    @Benchmark
+    public int methodHandles_addInt() {
+        return methodHandles.add(intValue, intValue);
+    }
+
+    @Benchmark
+    public long direct_addLong() {
+        return sample.directAdd(longValue, longValue);
+    }
+
+    @Benchmark
+    public long reflection_addLong() {
+        return reflection.add(longValue, longValue);
+    }
+
+    @Benchmark
+    public long methodHandles_addLong() {
+        return methodHandles.add(longValue, longValue);
+    }
+
+    @Benchmark
+    public String direct_addString() {
+        return sample.directAdd(stringValue, stringValue);
+    }
+
+    @Benchmark
+    public String reflection_addString() {
+        return reflection.add(stringValue, stringValue);
+    }
+
+    @Benchmark
+    public String methodHandles_addString() {
+        return methodHandles.add(stringValue, stringValue);
+    }
+
+    @Benchmark
+    public int direct_staticMultiply() {
+        return OverloadedMethodsSample.directMultiply(intValue, intValue);
+    }
+
+    @Benchmark
+    public int reflection_staticMultiply() {
+        return BoundBoxOfOverloadedMethodsSample.multiply(intValue, intValue);
+    }
+
+    @Benchmark
+    public int methodHandles_staticMultiply() {
+        return MethodHandlesOfOverloadedMethodsSample.multiply(intValue, intValue);
+    }
+
+    @Benchmark
+    public OverloadedMethodsSample direct_new() {
+        return OverloadedMethodsSample.directNew(intValue);
+    }
+
+    @Benchmark
+    public OverloadedMethodsSample reflection_new() {
+        return BoundBoxOfOverloadedMethodsSample.boundBox_new(intValue);
+    }
+
+    @Benchmark
+    public OverloadedMethodsSample methodHandles_new() {
+        return MethodHandlesOfOverloadedMethodsSample.boundBox_new(intValue);
+    }
+}
@@ -0,0 +1,115 @@
+package org.boundbox.benchmarks.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.boundbox.model.ClassInfo;
+import org.boundbox.model.MethodInfo;
+import org.boundbox.processor.BoundClassScanner;
+import org.boundbox.processor.InheritanceComputer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computes overriding methods in a bound class at the bottom of a 15 levels hierarchy, whose classes declare a growing number
+ * of members. Each class declares a third of its methods as overriding methods, a third as overloaded methods. The time per
+ * operation should grow linearly with the number of members.
+ * @author SNI
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InheritanceComputerBenchmark {
+
+    private static final int DEPTH = 15;
+
+    @Param({ "100", "400", "1600" })
+    private int membersPerClass;
+
+    private InheritanceComputer inheritanceComputer = new InheritanceComputer();
+    private ScanningProcessor scanningProcessor = new ScanningProcessor();
+
+    @Setup
+    public void setup() throws IOException {
+        ProcessorThroughputHarness.silenceLogs();
+        File directory = ProcessorThroughputHarness.createTempDirectory();
+        try {
+            List<File> listSourceFiles = new SyntheticSourceTree(1, DEPTH, membersPerClass).write(directory);
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+            List<String> options = Arrays.asList("-proc:only", "-implicit:none", "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(listSourceFiles));
+            task.setProcessors(Arrays.asList(scanningProcessor));
+            task.call();
+            fileManager.close();
+        } finally {
+            ProcessorThroughputHarness.delete(directory);
+        }
+        if (scanningProcessor.classInfo == null) {
+            throw new IllegalStateException("The synthetic bound class was not scanned.");
+        }
+    }
+
+    @Benchmark
+    public List<MethodInfo> computeInheritanceAndOverridingMethods() {
+        List<MethodInfo> listMethodInfos = scanningProcessor.classInfo.getListMethodInfos();
+        inheritanceComputer.computeInheritanceAndOverridingMethods(listMethodInfos, scanningProcessor.boundClass, scanningProcessor.elements,
+                scanningProcessor.types);
+        return listMethodInfos;
+    }
+
+    /** Scans the synthetic bound class and keeps the javac utilities needed afterwards to compute its inheritance. */
+    @SupportedAnnotationTypes("org.boundbox.BoundBox")
+    private static final class ScanningProcessor extends AbstractProcessor {
+        private ClassInfo classInfo;
+        private TypeElement boundClass;
+        private Elements elements;
+        private Types types;
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+            if (classInfo == null) {
+                elements = processingEnv.getElementUtils();
+                types = processingEnv.getTypeUtils();
+                boundClass = elements.getTypeElement("synthetic.Bound0");
+                BoundClassScanner boundClassScanner = new BoundClassScanner();
+                boundClassScanner.setBoundBoxPackageName("synthetic");
+                boundClassScanner.setElements(elements);
+                classInfo = boundClassScanner.scan(boundClass);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.boundbox.benchmarks.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.boundbox.Layout;
+import org.boundbox.model.ClassInfo;
+import org.boundbox.processor.BoundBoxProcessor;
+
+/**
+ * Compares the expanded and the compact layouts of BoundBoxes. It fully compiles {@link SyntheticSourceTree}s, processor
+ * and javac, once per layout, and reports the time of the compilation, the size of the generated sources, the size of the
+ * class files of the BoundBoxes and the number of classes and methods they declare.
+ * <p>
+ * Usage : <code>java -cp benchmarks.jar org.boundbox.benchmarks.processor.LayoutComparisonHarness [annotations depth members]...</code>.
+ * Without arguments, a default set of trees from 10 to 1,000 annotations is compiled.
+ * @author SNI
+ */
+public final class LayoutComparisonHarness {
+
+    private static final int[][] DEFAULT_TREES = { { 10, 3, 20 }, { 100, 5, 50 }, { 1000, 10, 20 }, { 10, 5, 1000 } };
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double BYTES_PER_KILOBYTE = 1024;
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private LayoutComparisonHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[][] trees = DEFAULT_TREES;
+        if (args.length > 0) {
+            if (args.length % 3 != 0) {
+                System.err.println("usage : LayoutComparisonHarness [annotations depth members]...");
+                System.exit(1);
+            }
+            trees = new int[args.length / 3][];
+            for (int index = 0; index < trees.length; index++) {
+                trees[index] = new int[] { Integer.parseInt(args[3 * index]), Integer.parseInt(args[3 * index + 1]), Integer.parseInt(args[3 * index + 2]) };
+            }
+        }
+
+        System.out.println(String.format(Locale.US, "%11s %5s %7s %8s | %9s | %10s | %10s | %7s %8s", "annotations", "depth", "members", "layout", "total ms",
+                "source KB", "bytecode KB", "classes", "methods"));
+        for (int[] tree : trees) {
+            SyntheticSourceTree sourceTree = new SyntheticSourceTree(tree[0], tree[1], tree[2]);
+            for (Layout layout : Layout.values()) {
+                Result result = measure(sourceTree, layout);
+                System.out.println(String.format(Locale.US, "%11d %5d %7d %8s | %9.1f | %10.1f | %10.1f | %7d %8d", tree[0], tree[1], tree[2],
+                        layout.name().toLowerCase(Locale.US), result.totalNanos / NANOS_PER_MILLI, result.sourceBytes / BYTES_PER_KILOBYTE, result.bytecodeBytes
+                                / BYTES_PER_KILOBYTE, result.classCount, result.methodCount));
+            }
+        }
+    }
+
+    /**
+     * Compiles a source tree {@link #WARMUP_RUNS} times, then {@link #MEASURED_RUNS} times.
+     * @return the run that took the least time among measured runs.
+     */
+    private static Result measure(SyntheticSourceTree sourceTree, Layout layout) throws IOException {
+        File directory = ProcessorThroughputHarness.createTempDirectory();
+        try {
+            File sourceDirectory = new File(directory, "src");
+            List<File> listSourceFiles = sourceTree.write(sourceDirectory);
+
+            Result bestResult = null;
+            for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+                File runDirectory = new File(directory, "run" + run);
+                Result result = compile(listSourceFiles, runDirectory, layout);
+                if (run >= WARMUP_RUNS && (bestResult == null || result.totalNanos < bestResult.totalNanos)) {
+                    bestResult = result;
+                }
+                ProcessorThroughputHarness.delete(runDirectory);
+            }
+            return bestResult;
+        } finally {
+            ProcessorThroughputHarness.delete(directory);
+        }
+    }
+
+    private static Result compile(List<File> listSourceFiles, File runDirectory, Layout layout) throws IOException {
+        File generatedDirectory = new File(runDirectory, "generated");
+        File classesDirectory = new File(runDirectory, "classes");
+        if (!generatedDirectory.mkdirs() || !classesDirectory.mkdirs()) {
+            throw new IOException("Can't create directories in " + runDirectory);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnosticCollector = new DiagnosticCollector<JavaFileObject>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnosticCollector, null, null);
+        List<String> options = Arrays.asList("-s", generatedDirectory.getAbsolutePath(), "-d", classesDirectory.getAbsolutePath(), "-classpath",
+                System.getProperty("java.class.path"), "-A" + BoundBoxProcessor.OPTION_LAYOUT + "=" + layout.name().toLowerCase(Locale.US));
+        CompilationTask task = compiler.getTask(null, fileManager, diagnosticCollector, options, null, fileManager.getJavaFileObjectsFromFiles(listSourceFiles));
+        ProcessorThroughputHarness.silenceLogs();
+        task.setProcessors(Arrays.asList(new BoundBoxProcessor()));
+
+        long startNanos = System.nanoTime();
+        boolean success = task.call();
+        long totalNanos = System.nanoTime() - startNanos;
+        fileManager.close();
+
+        if (!success) {
+            StringBuilder message = new StringBuilder("Compilation failed :");
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnosticCollector.getDiagnostics()) {
+                message.append('\n').append(diagnostic);
+            }
+            throw new IllegalStateException(message.toString());
+        }
+
+        Result result = new Result(totalNanos);
+        List<File> listGeneratedFiles = new ArrayList<File>();
+        listBoundBoxFiles(generatedDirectory, listGeneratedFiles);
+        for (File generatedFile : listGeneratedFiles) {
+            result.sourceBytes += generatedFile.length();
+        }
+        List<File> listClassFiles = new ArrayList<File>();
+        listBoundBoxFiles(classesDirectory, listClassFiles);
+        URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDirectory.toURI().toURL() }, LayoutComparisonHarness.class.getClassLoader());
+        for (File classFile : listClassFiles) {
+            if (!classFile.getName().endsWith(CLASS_FILE_EXTENSION)) {
+                continue;
+            }
+            result.bytecodeBytes += classFile.length();
+            result.classCount++;
+            result.methodCount += countMethods(classLoader, toClassName(classesDirectory, classFile));
+        }
+        return result;
+    }
+
+    /** Lists the files of BoundBoxes, sources or class files of BoundBoxes and of their inner classes. */
+    private static void listBoundBoxFiles(File directory, List<File> listBoundBoxFiles) {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                listBoundBoxFiles(child, listBoundBoxFiles);
+            } else if (child.getName().startsWith(ClassInfo.DEFAULT_BOUND_BOX_OF_CLASS_PREFIX)) {
+                listBoundBoxFiles.add(child);
+            }
+        }
+    }
+
+    private static String toClassName(File classesDirectory, File classFile) {
+        String relativePath = classFile.getAbsolutePath().substring(classesDirectory.getAbsolutePath().length() + 1);
+        return relativePath.substring(0, relativePath.length() - CLASS_FILE_EXTENSION.length()).replace(File.separatorChar, '.');
+    }
+
+    /** @return the number of methods and constructors of a class, without initializing it. */
+    private static int countMethods(ClassLoader classLoader, String className) {
+        try {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            return clazz.getDeclaredMethods().length + clazz.getDeclaredConstructors().length;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Can't load compiled BoundBox " + className, e);
+        }
+    }
+
+    /** Measures of a single compilation. */
+    private static final class Result {
+        private final long totalNanos;
+        private long sourceBytes;
+        private long bytecodeBytes;
+        private int classCount;
+        private int methodCount;
+
+        private Result(long totalNanos) {
+            this.totalNanos = totalNanos;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.boundbox.benchmarks.processor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Accumulates the time spent and the bytes allocated by the current thread in each phase of the BoundBox processor. Phases
+ * can be nested, only the outermost start and stop of a phase are recorded. Phases run by several threads, like the
+ * parallel rendering of BoundBoxes, accumulate the time and the bytes of every thread.
+ * @author SNI
+ */
+public class PhaseRecorder {
+
+    /** Phases of the processing of a {@code @BoundBox} annotation. */
+    public enum Phase {
+        SCAN, INHERITANCE, WRITE
+    }
+
+    private final AtomicLongArray nanos = new AtomicLongArray(Phase.values().length);
+    private final AtomicLongArray allocatedBytes = new AtomicLongArray(Phase.values().length);
+    private final ThreadLocal<PhaseStarts> phaseStarts = new ThreadLocal<PhaseStarts>() {
+        @Override
+        protected PhaseStarts initialValue() {
+            return new PhaseStarts();
+        }
+    };
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    public void start(Phase phase) {
+        int index = phase.ordinal();
+        PhaseStarts starts = phaseStarts.get();
+        if (starts.depths[index]++ == 0) {
+            starts.startAllocatedBytes[index] = getAllocatedBytes();
+            starts.startNanos[index] = System.nanoTime();
+        }
+    }
+
+    public void stop(Phase phase) {
+        int index = phase.ordinal();
+        PhaseStarts starts = phaseStarts.get();
+        if (--starts.depths[index] == 0) {
+            nanos.addAndGet(index, System.nanoTime() - starts.startNanos[index]);
+            allocatedBytes.addAndGet(index, getAllocatedBytes() - starts.startAllocatedBytes[index]);
+        }
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos.get(phase.ordinal());
+    }
+
+    /** @return the bytes allocated during a phase, or a negative number if the JVM can't measure them. */
+    public long getAllocatedBytes(Phase phase) {
+        return isAllocationMeasured() ? allocatedBytes.get(phase.ordinal()) : -1;
+    }
+
+    // ----------------------------------
+    // PRIVATE METHODS
+    // ----------------------------------
+
+    private boolean isAllocationMeasured() {
+        return threadMXBean instanceof com.sun.management.ThreadMXBean;
+    }
+
+    private long getAllocatedBytes() {
+        if (!isAllocationMeasured()) {
+            return 0;
+        }
+        return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /** Phases started by a thread. */
+    private static final class PhaseStarts {
+        private final int[] depths = new int[Phase.values().length];
+        private final long[] startNanos = new long[Phase.values().length];
+        private final long[] startAllocatedBytes = new long[Phase.values().length];
+    }
+}
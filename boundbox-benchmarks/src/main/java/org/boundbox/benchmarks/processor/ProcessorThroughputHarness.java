@@ -0,0 +1,280 @@
+package org.boundbox.benchmarks.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.boundbox.benchmarks.processor.PhaseRecorder.Phase;
+import org.boundbox.model.ClassInfo;
+import org.boundbox.model.FieldInfo;
+import org.boundbox.model.InnerClassInfo;
+import org.boundbox.model.MethodInfo;
+import org.boundbox.processor.BoundBoxProcessor;
+import org.boundbox.processor.BoundClassScanner;
+import org.boundbox.processor.InheritanceComputer;
+import org.boundbox.writer.BoundboxWriter;
+
+/**
+ * Measures how the BoundBox processor scales. It runs the processor through the {@link JavaCompiler} API, like
+ * BoundBoxProcessorTest does, over {@link SyntheticSourceTree}s and reports the time and the bytes allocated in each phase :
+ * scan, inheritance computation and write, and the heap retained at the end of processing. BoundBoxes are written on
+ * several threads, the time of the write phase adds up the time of every thread.
+ * <p>
+ * Usage : <code>java -cp benchmarks.jar org.boundbox.benchmarks.processor.ProcessorThroughputHarness [annotations depth members]...</code>.
+ * Without arguments, a default set of trees from 10 to 5,000 annotations is processed.
+ * @author SNI
+ */
+public final class ProcessorThroughputHarness {
+
+    private static final int[][] DEFAULT_TREES = { { 10, 3, 20 }, { 100, 5, 50 }, { 1000, 10, 50 }, { 5000, 15, 20 }, { 10, 15, 2000 } };
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private ProcessorThroughputHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[][] trees = DEFAULT_TREES;
+        if (args.length > 0) {
+            if (args.length % 3 != 0) {
+                System.err.println("usage : ProcessorThroughputHarness [annotations depth members]...");
+                System.exit(1);
+            }
+            trees = new int[args.length / 3][];
+            for (int index = 0; index < trees.length; index++) {
+                trees[index] = new int[] { Integer.parseInt(args[3 * index]), Integer.parseInt(args[3 * index + 1]), Integer.parseInt(args[3 * index + 2]) };
+            }
+        }
+
+        System.out.println(String.format(Locale.US, "%11s %5s %7s | %9s | %9s %9s | %9s %9s | %9s %9s | %11s", "annotations", "depth", "members", "total ms",
+                "scan ms", "scan MB", "inher. ms", "inher. MB", "write ms", "write MB", "retained MB"));
+        for (int[] tree : trees) {
+            SyntheticSourceTree sourceTree = new SyntheticSourceTree(tree[0], tree[1], tree[2]);
+            Result result = measure(sourceTree);
+            System.out.println(String.format(Locale.US, "%11d %5d %7d | %9.1f | %9.1f %9.1f | %9.1f %9.1f | %9.1f %9.1f | %11.1f", tree[0], tree[1], tree[2],
+                    result.totalNanos / NANOS_PER_MILLI, result.recorder.getNanos(Phase.SCAN) / NANOS_PER_MILLI, result.recorder.getAllocatedBytes(Phase.SCAN)
+                            / BYTES_PER_MEGABYTE, result.recorder.getNanos(Phase.INHERITANCE) / NANOS_PER_MILLI, result.recorder.getAllocatedBytes(Phase.INHERITANCE)
+                            / BYTES_PER_MEGABYTE, result.recorder.getNanos(Phase.WRITE) / NANOS_PER_MILLI, result.recorder.getAllocatedBytes(Phase.WRITE)
+                            / BYTES_PER_MEGABYTE, result.retainedBytes / BYTES_PER_MEGABYTE));
+        }
+    }
+
+    /**
+     * Processes a source tree {@link #WARMUP_RUNS} times, then {@link #MEASURED_RUNS} times.
+     * @return the run that took the least time among measured runs.
+     */
+    private static Result measure(SyntheticSourceTree sourceTree) throws IOException {
+        File directory = createTempDirectory();
+        try {
+            File sourceDirectory = new File(directory, "src");
+            File generatedDirectory = new File(directory, "generated");
+            List<File> listSourceFiles = sourceTree.write(sourceDirectory);
+            if (!generatedDirectory.mkdirs()) {
+                throw new IOException("Can't create directory " + generatedDirectory);
+            }
+
+            Result bestResult = null;
+            for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+                Result result = process(listSourceFiles, generatedDirectory);
+                if (run >= WARMUP_RUNS && (bestResult == null || result.totalNanos < bestResult.totalNanos)) {
+                    bestResult = result;
+                }
+            }
+            return bestResult;
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static Result process(List<File> listSourceFiles, File generatedDirectory) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnosticCollector = new DiagnosticCollector<JavaFileObject>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnosticCollector, null, null);
+        List<String> options = Arrays.asList("-proc:only", "-implicit:none", "-s", generatedDirectory.getAbsolutePath(), "-classpath",
+                System.getProperty("java.class.path"));
+        CompilationTask task = compiler.getTask(null, fileManager, diagnosticCollector, options, null, fileManager.getJavaFileObjectsFromFiles(listSourceFiles));
+
+        PhaseRecorder recorder = new PhaseRecorder();
+        BoundBoxProcessor processor = new BoundBoxProcessor();
+        processor.setBoundClassVisitor(new TimedBoundClassScanner(recorder));
+        processor.setInheritanceComputer(new TimedInheritanceComputer(recorder));
+        processor.setBoundboxWriter(new TimedBoundboxWriter(recorder));
+        silenceLogs();
+        task.setProcessors(Arrays.asList(processor));
+
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long usedBytesBefore = memoryMXBean.getHeapMemoryUsage().getUsed();
+        long startNanos = System.nanoTime();
+        boolean success = task.call();
+        long totalNanos = System.nanoTime() - startNanos;
+        System.gc();
+        long retainedBytes = memoryMXBean.getHeapMemoryUsage().getUsed() - usedBytesBefore;
+        fileManager.close();
+
+        if (!success) {
+            StringBuilder message = new StringBuilder("Processing failed :");
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnosticCollector.getDiagnostics()) {
+                message.append('\n').append(diagnostic);
+            }
+            throw new IllegalStateException(message.toString());
+        }
+        return new Result(recorder, totalNanos, retainedBytes);
+    }
+
+    static void silenceLogs() {
+        // the processor logs everything when the library is built with log.level Level.ALL
+        Logger rootLogger = Logger.getLogger("");
+        rootLogger.setLevel(Level.OFF);
+        for (Handler handler : rootLogger.getHandlers()) {
+            handler.setLevel(Level.OFF);
+        }
+    }
+
+    static File createTempDirectory() throws IOException {
+        File directory = File.createTempFile("boundbox-harness", "");
+        if (!directory.delete() || !directory.mkdirs()) {
+            throw new IOException("Can't create directory " + directory);
+        }
+        return directory;
+    }
+
+    static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /** Measures of a single run of the processor. */
+    private static final class Result {
+        private final PhaseRecorder recorder;
+        private final long totalNanos;
+        private final long retainedBytes;
+
+        private Result(PhaseRecorder recorder, long totalNanos, long retainedBytes) {
+            this.recorder = recorder;
+            this.totalNanos = totalNanos;
+            this.retainedBytes = retainedBytes;
+        }
+    }
+
+    /** Records the scan phase. */
+    private static final class TimedBoundClassScanner extends BoundClassScanner {
+        private final PhaseRecorder recorder;
+
+        private TimedBoundClassScanner(PhaseRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public ClassInfo scan(TypeElement boundClass) {
+            recorder.start(Phase.SCAN);
+            try {
+                return super.scan(boundClass);
+            } finally {
+                recorder.stop(Phase.SCAN);
+            }
+        }
+    }
+
+    /** Records the inheritance phase. */
+    private static final class TimedInheritanceComputer extends InheritanceComputer {
+        private final PhaseRecorder recorder;
+
+        private TimedInheritanceComputer(PhaseRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void computeInheritanceInInnerClasses(ClassInfo classInfo, Elements elements, Types types) {
+            recorder.start(Phase.INHERITANCE);
+            try {
+                super.computeInheritanceInInnerClasses(classInfo, elements, types);
+            } finally {
+                recorder.stop(Phase.INHERITANCE);
+            }
+        }
+
+        @Override
+        public void computeInheritanceAndHidingFields(List<FieldInfo> listFieldInfos) {
+            recorder.start(Phase.INHERITANCE);
+            try {
+                super.computeInheritanceAndHidingFields(listFieldInfos);
+            } finally {
+                recorder.stop(Phase.INHERITANCE);
+            }
+        }
+
+        @Override
+        public void computeInheritanceAndHidingInnerClasses(List<InnerClassInfo> listInnerClassInfos) {
+            recorder.start(Phase.INHERITANCE);
+            try {
+                super.computeInheritanceAndHidingInnerClasses(listInnerClassInfos);
+            } finally {
+                recorder.stop(Phase.INHERITANCE);
+            }
+        }
+
+        @Override
+        public void computeInheritanceAndOverridingMethods(List<MethodInfo> listMethodInfos, TypeElement typeElement, Elements elements, Types types) {
+            recorder.start(Phase.INHERITANCE);
+            try {
+                super.computeInheritanceAndOverridingMethods(listMethodInfos, typeElement, elements, types);
+            } finally {
+                recorder.stop(Phase.INHERITANCE);
+            }
+        }
+    }
+
+    /** Records the write phase. */
+    private static final class TimedBoundboxWriter extends BoundboxWriter {
+        private final PhaseRecorder recorder;
+
+        private TimedBoundboxWriter(PhaseRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void writeBoundBox(ClassInfo classInfo, Writer out) throws IOException {
+            recorder.start(Phase.WRITE);
+            try {
+                super.writeBoundBox(classInfo, out);
+            } finally {
+                recorder.stop(Phase.WRITE);
+            }
+        }
+
+        @Override
+        protected BoundboxWriter newInstance() {
+            // BoundBoxes rendered in parallel are written by copies of this writer
+            return new TimedBoundboxWriter(recorder);
+        }
+    }
+}
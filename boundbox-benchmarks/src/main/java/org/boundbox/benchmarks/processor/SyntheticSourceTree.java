@@ -0,0 +1,157 @@
+package org.boundbox.benchmarks.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a synthetic source tree to feed the BoundBox processor. It contains a given number of bound classes, each at the
+ * bottom of a hierarchy of a given depth, and holders annotated with one {@code @BoundBox} per bound class. Hierarchies are
+ * shared by 100 bound classes, like activities of an Android application share their super classes. Each class declares a given
+ * number of members : fields of various types hiding those of super classes, overloaded methods, and methods overriding those of
+ * super classes. Bound classes also have a static and a non static inner class.
+ * @author SNI
+ */
+public class SyntheticSourceTree {
+
+    private static final String PACKAGE_NAME = "synthetic";
+    private static final int BOUND_CLASSES_PER_HIERARCHY = 100;
+    private static final int ANNOTATIONS_PER_HOLDER = 100;
+    private static final String[] FIELD_TYPES = { "int", "long", "double", "boolean", "String", "java.util.List<String>", "Object[]" };
+
+    private final int annotationCount;
+    private final int depth;
+    private final int membersPerClass;
+
+    public SyntheticSourceTree(int annotationCount, int depth, int membersPerClass) {
+        if (annotationCount < 1 || depth < 1 || membersPerClass < 0) {
+            throw new IllegalArgumentException("A source tree needs at least 1 annotation and a depth of at least 1.");
+        }
+        this.annotationCount = annotationCount;
+        this.depth = depth;
+        this.membersPerClass = membersPerClass;
+    }
+
+    public int getHierarchyCount() {
+        return (annotationCount + BOUND_CLASSES_PER_HIERARCHY - 1) / BOUND_CLASSES_PER_HIERARCHY;
+    }
+
+    /**
+     * Writes all source files of the tree.
+     * @param sourceDirectory
+     *            root directory of the sources, the tree is written in its synthetic package.
+     * @return the list of written source files.
+     * @throws IOException
+     *             if a file can't be written.
+     */
+    public List<File> write(File sourceDirectory) throws IOException {
+        File packageDirectory = new File(sourceDirectory, PACKAGE_NAME);
+        List<File> listSourceFiles = new ArrayList<File>();
+
+        for (int hierarchy = 0; hierarchy < getHierarchyCount(); hierarchy++) {
+            for (int level = 0; level < depth - 1; level++) {
+                String superClassName = level == 0 ? null : createSuperClassName(hierarchy, level - 1);
+                listSourceFiles.add(writeClass(packageDirectory, createSuperClassName(hierarchy, level), superClassName, false));
+            }
+        }
+
+        for (int index = 0; index < annotationCount; index++) {
+            String superClassName = depth == 1 ? null : createSuperClassName(index / BOUND_CLASSES_PER_HIERARCHY, depth - 2);
+            listSourceFiles.add(writeClass(packageDirectory, createBoundClassName(index), superClassName, true));
+        }
+
+        for (int holder = 0; holder * ANNOTATIONS_PER_HOLDER < annotationCount; holder++) {
+            listSourceFiles.add(writeHolder(packageDirectory, holder));
+        }
+        return listSourceFiles;
+    }
+
+    // ----------------------------------
+    // PRIVATE METHODS
+    // ----------------------------------
+
+    private File writeClass(File packageDirectory, String className, String superClassName, boolean isBoundClass) throws IOException {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE_NAME).append(";\n\n");
+        source.append("@SuppressWarnings(\"unused\")\n");
+        source.append("public class ").append(className);
+        if (superClassName != null) {
+            source.append(" extends ").append(superClassName);
+        }
+        source.append(" {\n");
+        appendMembers(source, membersPerClass);
+        if (isBoundClass) {
+            source.append("    private static class StaticInnerClass {\n");
+            appendMembers(source, 4);
+            source.append("    }\n");
+            source.append("    private class InnerClass extends StaticInnerClass {\n");
+            appendMembers(source, 4);
+            source.append("    }\n");
+        }
+        source.append("}\n");
+        return writeSourceFile(packageDirectory, className, source);
+    }
+
+    private void appendMembers(StringBuilder source, int memberCount) {
+        int fieldCount = memberCount / 2;
+        for (int index = 0; index < fieldCount; index++) {
+            source.append("    private ").append(FIELD_TYPES[index % FIELD_TYPES.length]).append(" field").append(index).append(";\n");
+        }
+        int methodCount = memberCount - fieldCount;
+        for (int index = 0; index < methodCount; index++) {
+            switch (index % 3) {
+            case 0:
+                source.append("    protected int overridden").append(index).append("(int a) { return a; }\n");
+                break;
+            case 1:
+                source.append("    private String overloaded").append(index).append("(String a) { return a; }\n");
+                source.append("    private String overloaded").append(index).append("(String a, int b) { return a; }\n");
+                break;
+            default:
+                source.append("    private static void method").append(index).append("(java.util.List<String> a) throws java.io.IOException {}\n");
+                break;
+            }
+        }
+    }
+
+    private File writeHolder(File packageDirectory, int holder) throws IOException {
+        String className = "BoundBoxHolder" + holder;
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE_NAME).append(";\n\n");
+        source.append("import org.boundbox.BoundBox;\n\n");
+        source.append("public class ").append(className).append(" {\n");
+        int start = holder * ANNOTATIONS_PER_HOLDER;
+        for (int index = start; index < Math.min(annotationCount, start + ANNOTATIONS_PER_HOLDER); index++) {
+            source.append("    @BoundBox(boundClass = ").append(createBoundClassName(index)).append(".class)\n");
+            source.append("    private Object boundBox").append(index).append(";\n");
+        }
+        source.append("}\n");
+        return writeSourceFile(packageDirectory, className, source);
+    }
+
+    private File writeSourceFile(File packageDirectory, String className, StringBuilder source) throws IOException {
+        if (!packageDirectory.isDirectory() && !packageDirectory.mkdirs()) {
+            throw new IOException("Can't create directory " + packageDirectory);
+        }
+        File sourceFile = new File(packageDirectory, className + ".java");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(sourceFile), "UTF-8");
+        try {
+            writer.write(source.toString());
+        } finally {
+            writer.close();
+        }
+        return sourceFile;
+    }
+
+    private String createSuperClassName(int hierarchy, int level) {
+        return "Hierarchy" + hierarchy + "Level" + level;
+    }
+
+    private String createBoundClassName(int index) {
+        return "Bound" + index;
+    }
+}
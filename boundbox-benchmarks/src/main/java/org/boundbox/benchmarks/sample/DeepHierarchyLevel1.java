@@ -0,0 +1,22 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Level 1 of a deep hierarchy. Each level hides the fields and methods of the level above.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+public class DeepHierarchyLevel1 {
+    private int depth = 1;
+
+    private int depth() {
+        return depth;
+    }
+
+    public final int directGetDepthOfLevel1() {
+        return depth;
+    }
+
+    public final int directDepthOfLevel1() {
+        return depth();
+    }
+}
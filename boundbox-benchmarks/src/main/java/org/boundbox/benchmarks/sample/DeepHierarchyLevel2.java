@@ -0,0 +1,14 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Level 2 of a deep hierarchy. Each level hides the fields and methods of the level above.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+public class DeepHierarchyLevel2 extends DeepHierarchyLevel1 {
+    private int depth = 2;
+
+    private int depth() {
+        return depth;
+    }
+}
@@ -0,0 +1,14 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Level 3 of a deep hierarchy. Each level hides the fields and methods of the level above.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+public class DeepHierarchyLevel3 extends DeepHierarchyLevel2 {
+    private int depth = 3;
+
+    private int depth() {
+        return depth;
+    }
+}
@@ -0,0 +1,14 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Level 4 of a deep hierarchy. Each level hides the fields and methods of the level above.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+public class DeepHierarchyLevel4 extends DeepHierarchyLevel3 {
+    private int depth = 4;
+
+    private int depth() {
+        return depth;
+    }
+}
@@ -0,0 +1,18 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Bottom of a deep hierarchy. Its BoundBox exposes the hidden fields and methods of all levels.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+public class DeepHierarchySample extends DeepHierarchyLevel4 {
+    private int depth = 5;
+
+    private int depth() {
+        return depth;
+    }
+
+    public final int directGetDepth() {
+        return depth;
+    }
+}
@@ -0,0 +1,38 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Private static and non static inner classes. Public methods instantiating them are the baseline of the benchmarks.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+public class InnerClassesSample {
+    private int outerValue;
+
+    private static class StaticInnerClass {
+        private int value;
+
+        private StaticInnerClass(int value) {
+            this.value = value;
+        }
+    }
+
+    private class InnerClass {
+        private int value;
+
+        private InnerClass(int value) {
+            this.value = value + outerValue;
+        }
+    }
+
+    public static Object directNewStaticInnerClass(int value) {
+        return new StaticInnerClass(value);
+    }
+
+    public Object directNewInnerClass(int value) {
+        return new InnerClass(value);
+    }
+
+    public static int directGetValueOfStaticInnerClass(Object staticInnerClass) {
+        return ((StaticInnerClass) staticInnerClass).value;
+    }
+}
@@ -0,0 +1,62 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Private overloaded methods and constructors. Public methods calling them are the baseline of the benchmarks.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+public class OverloadedMethodsSample {
+    private final int seed;
+
+    private OverloadedMethodsSample() {
+        this(0);
+    }
+
+    private OverloadedMethodsSample(int seed) {
+        this.seed = seed;
+    }
+
+    private OverloadedMethodsSample(String seed) {
+        this(seed.length());
+    }
+
+    private int add(int a, int b) {
+        return seed + a + b;
+    }
+
+    private long add(long a, long b) {
+        return seed + a + b;
+    }
+
+    private double add(double a, double b) {
+        return seed + a + b;
+    }
+
+    private String add(String a, String b) {
+        return a + b;
+    }
+
+    private static int multiply(int a, int b) {
+        return a * b;
+    }
+
+    public static OverloadedMethodsSample directNew(int seed) {
+        return new OverloadedMethodsSample(seed);
+    }
+
+    public int directAdd(int a, int b) {
+        return add(a, b);
+    }
+
+    public long directAdd(long a, long b) {
+        return add(a, b);
+    }
+
+    public String directAdd(String a, String b) {
+        return add(a, b);
+    }
+
+    public static int directMultiply(int a, int b) {
+        return multiply(a, b);
+    }
+}
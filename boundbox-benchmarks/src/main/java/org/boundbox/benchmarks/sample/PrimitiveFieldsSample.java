@@ -0,0 +1,50 @@
+package org.boundbox.benchmarks.sample;
+
+/**
+ * Private fields of every primitive type. Public accessors of some of them are the baseline of the benchmarks.
+ * @author SNI
+ */
+@SuppressWarnings("unused")
+@edu.umd.cs.findbugs.annotations.SuppressWarnings(
+        value={"URF_UNREAD_FIELD"}, 
+        justification="Only used for benchmarks")
+public class PrimitiveFieldsSample {
+    private boolean booleanValue;
+    private byte byteValue;
+    private char charValue;
+    private short shortValue;
+    private int intValue;
+    private long longValue;
+    private float floatValue;
+    private double doubleValue;
+    private String stringValue = "";
+    private static int staticIntValue;
+
+    public int directGetIntValue() {
+        return intValue;
+    }
+
+    public void directSetIntValue(int intValue) {
+        this.intValue = intValue;
+    }
+
+    public long directGetLongValue() {
+        return longValue;
+    }
+
+    public double directGetDoubleValue() {
+        return doubleValue;
+    }
+
+    public String directGetStringValue() {
+        return stringValue;
+    }
+
+    public void directSetStringValue(String stringValue) {
+        this.stringValue = stringValue;
+    }
+
+    public static int directGetStaticIntValue() {
+        return staticIntValue;
+    }
+}
@@ -0,0 +1,28 @@
+package org.boundbox.sample;
+
+import java.io.IOException;
+
+@SuppressWarnings("unused")
+@edu.umd.cs.findbugs.annotations.SuppressWarnings(
+        value={"URF_UNREAD_FIELD"}, 
+        justification="Only used for tests")
+public class AccessibleMemberTestClass {
+    public int publicValue;
+    protected static String protectedStaticValue = "a";
+    private String privateValue = "b";
+
+    public AccessibleMemberTestClass() {
+    }
+
+    AccessibleMemberTestClass(int publicValue) {
+        this.publicValue = publicValue;
+    }
+
+    String packageMethod(String suffix) {
+        return privateValue + suffix;
+    }
+
+    public void publicMethodThatThrows() throws IOException {
+        throw new IOException("foo");
+    }
+}
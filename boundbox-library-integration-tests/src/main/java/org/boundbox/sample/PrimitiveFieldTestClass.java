@@ -0,0 +1,13 @@
+package org.boundbox.sample;
+
+@SuppressWarnings("unused")
+@edu.umd.cs.findbugs.annotations.SuppressWarnings(
+        value={"URF_UNREAD_FIELD"}, 
+        justification="Only used for tests")
+public class PrimitiveFieldTestClass {
+    private int intValue;
+    private long longValue;
+    private double doubleValue;
+    private boolean booleanValue;
+    private static char charValue = 'a';
+}
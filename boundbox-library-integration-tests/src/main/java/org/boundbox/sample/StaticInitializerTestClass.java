@@ -0,0 +1,15 @@
+package org.boundbox.sample;
+
+@SuppressWarnings("unused")
+@edu.umd.cs.findbugs.annotations.SuppressWarnings(
+        value={"URF_UNREAD_FIELD"}, 
+        justification="Only used for tests")
+public class StaticInitializerTestClass {
+    public static final String INITIALIZED_PROPERTY = "boundbox.sample.StaticInitializerTestClass.initialized";
+    private static String foo;
+
+    static {
+        System.setProperty(INITIALIZED_PROPERTY, Boolean.TRUE.toString());
+        foo = "a";
+    }
+}
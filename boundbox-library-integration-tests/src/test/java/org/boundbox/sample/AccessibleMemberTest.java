@@ -0,0 +1,54 @@
+package org.boundbox.sample;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.boundbox.BoundBox;
+import org.boundbox.BoundBoxException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AccessibleMemberTest {
+
+    @BoundBox(boundClass = AccessibleMemberTestClass.class)
+    private BoundBoxOfAccessibleMemberTestClass boundBoxOfAccessibleMemberTestClass;
+
+    private AccessibleMemberTestClass accessibleMemberTestClass;
+
+    @Before
+    public void setup() {
+        accessibleMemberTestClass = new AccessibleMemberTestClass();
+        boundBoxOfAccessibleMemberTestClass = new BoundBoxOfAccessibleMemberTestClass(accessibleMemberTestClass);
+    }
+
+    @Test
+    public void test_access_to_visible_fields() {
+        boundBoxOfAccessibleMemberTestClass.boundBox_setPublicValue(3);
+        assertEquals(3, accessibleMemberTestClass.publicValue);
+        assertEquals(3, boundBoxOfAccessibleMemberTestClass.boundBox_getPublicValue());
+
+        BoundBoxOfAccessibleMemberTestClass.boundBox_setProtectedStaticValue("c");
+        assertEquals("c", BoundBoxOfAccessibleMemberTestClass.boundBox_getProtectedStaticValue());
+    }
+
+    @Test
+    public void test_access_to_visible_methods_and_constructors() {
+        assertEquals("bc", boundBoxOfAccessibleMemberTestClass.packageMethod("c"));
+        AccessibleMemberTestClass instance = (AccessibleMemberTestClass) BoundBoxOfAccessibleMemberTestClass.boundBox_new(5);
+        assertEquals(5, instance.publicValue);
+    }
+
+    @Test
+    public void test_visible_methods_wrap_their_exceptions() throws IOException {
+        try {
+            boundBoxOfAccessibleMemberTestClass.publicMethodThatThrows();
+            fail();
+        } catch (BoundBoxException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertEquals("foo", e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.boundbox.sample;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.boundbox.BoundBox;
+import org.junit.Assume;
+import org.junit.Test;
+
+@BoundBox(boundClass = PrimitiveFieldTestClass.class)
+public class PrimitiveFieldTest {
+
+    private static final int WARMUP_ITERATIONS = 20000;
+    private static final int ITERATIONS = 100000;
+    // values above 127 are never taken from the cache of Integer.valueOf and Long.valueOf
+    private static final int FIRST_VALUE = 1000;
+
+    @Test
+    public void test_read_and_write_primitive_fields() {
+        BoundBoxOfPrimitiveFieldTestClass boundBoxOfA = new BoundBoxOfPrimitiveFieldTestClass(new PrimitiveFieldTestClass());
+
+        boundBoxOfA.boundBox_setIntValue(FIRST_VALUE);
+        boundBoxOfA.boundBox_setLongValue(Long.MAX_VALUE);
+        boundBoxOfA.boundBox_setDoubleValue(0.5);
+        boundBoxOfA.boundBox_setBooleanValue(true);
+        BoundBoxOfPrimitiveFieldTestClass.boundBox_setCharValue('b');
+
+        assertEquals(FIRST_VALUE, boundBoxOfA.boundBox_getIntValue());
+        assertEquals(Long.MAX_VALUE, boundBoxOfA.boundBox_getLongValue());
+        assertEquals(0.5, boundBoxOfA.boundBox_getDoubleValue(), 0);
+        assertTrue(boundBoxOfA.boundBox_getBooleanValue());
+        assertEquals('b', BoundBoxOfPrimitiveFieldTestClass.boundBox_getCharValue());
+    }
+
+    @Test
+    public void test_primitive_fields_are_accessed_without_allocation() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assume.assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+        BoundBoxOfPrimitiveFieldTestClass boundBoxOfA = new BoundBoxOfPrimitiveFieldTestClass(new PrimitiveFieldTestClass());
+
+        // resolves fields and loads every class involved before measuring
+        accessPrimitiveFields(boundBoxOfA, WARMUP_ITERATIONS);
+        long allocatedBytesBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+        long sum = accessPrimitiveFields(boundBoxOfA, ITERATIONS);
+        long allocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        assertTrue(sum != 0);
+        // boxing a single value per iteration would allocate at least 16 bytes per iteration
+        assertTrue("Allocated " + allocatedBytes + " bytes", allocatedBytes < ITERATIONS);
+    }
+
+    private long accessPrimitiveFields(BoundBoxOfPrimitiveFieldTestClass boundBoxOfA, int iterations) {
+        long sum = 0;
+        for (int index = 0; index < iterations; index++) {
+            boundBoxOfA.boundBox_setIntValue(FIRST_VALUE + index);
+            boundBoxOfA.boundBox_setLongValue(FIRST_VALUE + index);
+            boundBoxOfA.boundBox_setDoubleValue(FIRST_VALUE + index);
+            sum += boundBoxOfA.boundBox_getIntValue();
+            sum += boundBoxOfA.boundBox_getLongValue();
+            sum += (long) boundBoxOfA.boundBox_getDoubleValue();
+        }
+        return sum;
+    }
+}
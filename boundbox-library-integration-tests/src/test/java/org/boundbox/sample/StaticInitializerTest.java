@@ -0,0 +1,21 @@
+package org.boundbox.sample;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.boundbox.BoundBox;
+import org.junit.Test;
+
+@BoundBox(boundClass = StaticInitializerTestClass.class)
+public class StaticInitializerTest {
+
+    @Test
+    public void test_bound_class_is_initialized_on_first_access() throws ClassNotFoundException {
+        // loading and initializing the BoundBox must not initialize the bound class
+        Class.forName(BoundBoxOfStaticInitializerTestClass.class.getName());
+        assertNull(System.getProperty(StaticInitializerTestClass.INITIALIZED_PROPERTY));
+
+        assertEquals("a", BoundBoxOfStaticInitializerTestClass.boundBox_getFoo());
+        assertEquals(Boolean.TRUE.toString(), System.getProperty(StaticInitializerTestClass.INITIALIZED_PROPERTY));
+    }
+}
@@ -0,0 +1,23 @@
+package org.boundbox;
+
+/**
+ * Defines how a BoundBox accesses the fields, methods and constructors of its bound class.
+ * @author SNI
+ */
+public enum Backend {
+    /** Members are accessed through {@link java.lang.reflect.Field}, {@link java.lang.reflect.Method} and {@link java.lang.reflect.Constructor}. */
+    REFLECTION,
+    /**
+     * Members are accessed through constant {@code java.lang.invoke.MethodHandle}s invoked with their exact signature. Handles of
+     * members of the bound class are created when the BoundBox class is initialized, whatever its {@link Resolution}. Requires
+     * the BoundBox to be compiled for Java 7 or later, reflection is used otherwise. When compiled for Java 8 or later, the
+     * BoundBox also returns typed accessors of fields and methods, like {@code boundBox_getterOfFoo()}, spun over these handles.
+     */
+    METHOD_HANDLES,
+    /**
+     * Like {@link #METHOD_HANDLES}, but fields are accessed through constant {@code java.lang.invoke.VarHandle}s, and get
+     * additional getVolatile, setRelease, compareAndSet and getAndAdd accessors. Requires the BoundBox to be compiled for
+     * Java 9 or later, {@link #METHOD_HANDLES} or reflection are used otherwise.
+     */
+    VAR_HANDLES
+}
@@ -27,4 +27,22 @@ public @interface BoundBox {
 
     /** Package name of the BoundBox. */
     String boundBoxPackage() default "";
+
+    /**
+     * When members of the bound class are resolved. If not set, the value of the processor option
+     * <code>boundbox.resolution</code> is used, and {@link Resolution#LAZY} if there is none.
+     */
+    Resolution resolution() default Resolution.LAZY;
+
+    /**
+     * How members of the bound class are accessed. If not set, the value of the processor option
+     * <code>boundbox.backend</code> is used, and {@link Backend#REFLECTION} if there is none.
+     */
+    Backend backend() default Backend.REFLECTION;
+
+    /**
+     * How the code of the BoundBox is laid out. If not set, the value of the processor option
+     * <code>boundbox.layout</code> is used, and {@link Layout#EXPANDED} if there is none.
+     */
+    Layout layout() default Layout.EXPANDED;
 }
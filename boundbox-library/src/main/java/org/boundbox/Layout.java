@@ -0,0 +1,17 @@
+package org.boundbox;
+
+/**
+ * Defines how the code of a BoundBox is laid out.
+ * @author SNI
+ */
+public enum Layout {
+    /** Each accessor of a field, method or constructor resolves and accesses its member itself, and translates its exceptions. */
+    EXPANDED,
+    /**
+     * Each accessor is a single call to a table driven dispatcher, shared by all members of the BoundBox, that resolves each
+     * member once and translates exceptions in a single place. Generated classes are much smaller, with less code for javac
+     * to compile and for dex to count, at the cost of boxing primitive values and arguments. Only applies to the
+     * {@link Backend#REFLECTION} backend, {@link #EXPANDED} is used with the others.
+     */
+    COMPACT
+}
@@ -0,0 +1,14 @@
+package org.boundbox;
+
+/**
+ * Defines when a BoundBox resolves the fields, methods and constructors it gives access to.
+ * In both cases, each member is looked up only once and the resolved handle is then reused by all
+ * subsequent calls.
+ * @author SNI
+ */
+public enum Resolution {
+    /** Members are resolved the first time they are accessed. */
+    LAZY,
+    /** Members are resolved as soon as the BoundBox class is loaded. */
+    EAGER
+}
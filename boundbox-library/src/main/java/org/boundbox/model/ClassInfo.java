@@ -60,5 +60,43 @@ public class ClassInfo {
         listSuperClassNames.add(className);
     }
 
+    /**
+     * Copies all members, super class names and imports of another class into this class. Members are copied too, so that
+     * they can be altered without altering those of the other class.
+     * @param classInfo the class to copy.
+     */
+    protected void copyContentOf(ClassInfo classInfo) {
+        for (FieldInfo fieldInfo : classInfo.listFieldInfos) {
+            listFieldInfos.add(new FieldInfo(fieldInfo));
+        }
+        for (MethodInfo methodInfo : classInfo.listMethodInfos) {
+            listMethodInfos.add(new MethodInfo(methodInfo));
+        }
+        for (MethodInfo constructorInfo : classInfo.listConstructorInfos) {
+            listConstructorInfos.add(new MethodInfo(constructorInfo));
+        }
+        listSuperClassNames = new ArrayList<String>(classInfo.listSuperClassNames);
+        listImports.addAll(classInfo.listImports);
+        for (InnerClassInfo innerClassInfo : classInfo.listInnerClassInfo) {
+            listInnerClassInfo.add(new InnerClassInfo(innerClassInfo));
+        }
+    }
+
+    /**
+     * Drops the javac elements held by this class, its methods, constructors and inner classes. They are only needed to
+     * compute inheritance, and the javac model API can't be used outside of the compiler's thread anyway.
+     */
+    public void detachElements() {
+        for (MethodInfo methodInfo : listMethodInfos) {
+            methodInfo.setElement(null);
+        }
+        for (MethodInfo constructorInfo : listConstructorInfos) {
+            constructorInfo.setElement(null);
+        }
+        for (InnerClassInfo innerClassInfo : listInnerClassInfo) {
+            innerClassInfo.detachElements();
+        }
+    }
+
 }
 // CHECKSTYLE:ON
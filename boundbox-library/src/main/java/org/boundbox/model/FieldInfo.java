@@ -9,7 +9,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 
-@EqualsAndHashCode(exclude = { "effectiveInheritanceLevel" })
+@EqualsAndHashCode(exclude = { "effectiveInheritanceLevel", "directlyAccessible", "constantValue" })
 @ToString
 @SuppressWarnings("PMD.UnusedPrivateField")
 public class FieldInfo implements Inheritable {
@@ -29,6 +29,14 @@ public class FieldInfo implements Inheritable {
     @Getter
     @Setter
     private boolean isFinalField;
+    /** Whether or not the field can be accessed without reflection from the BoundBox. */
+    @Getter
+    @Setter
+    private boolean directlyAccessible;
+    /** Value of the field if it is a constant variable, i.e. a final field initialized with a compile-time constant. */
+    @Getter
+    @Setter
+    private Object constantValue;
 
     public FieldInfo(@NonNull VariableElement e) {
         fieldName = e.getSimpleName().toString();
@@ -45,6 +53,18 @@ public class FieldInfo implements Inheritable {
         this.fieldTypeName = fieldTypeName;
     }
 
+    /** Copies a field, so that the copy can be altered without altering the original. */
+    public FieldInfo(@NonNull FieldInfo fieldInfo) {
+        this.fieldName = fieldInfo.fieldName;
+        this.fieldTypeName = fieldInfo.fieldTypeName;
+        this.inheritanceLevel = fieldInfo.inheritanceLevel;
+        this.effectiveInheritanceLevel = fieldInfo.effectiveInheritanceLevel;
+        this.staticField = fieldInfo.staticField;
+        this.isFinalField = fieldInfo.isFinalField;
+        this.directlyAccessible = fieldInfo.directlyAccessible;
+        this.constantValue = fieldInfo.constantValue;
+    }
+
     public void setInheritanceLevel(int inheritanceLevel) {
         this.inheritanceLevel = inheritanceLevel;
         this.effectiveInheritanceLevel = inheritanceLevel;
@@ -9,7 +9,7 @@ import lombok.ToString;
 
 //CHECKSTYLE:OFF HideUtilityClassConstructorCheck
 @SuppressWarnings("PMD.UnusedPrivateField")
-@EqualsAndHashCode(callSuper=true,exclude={"effectiveInheritanceLevel","element"})
+@EqualsAndHashCode(callSuper=true,exclude={"effectiveInheritanceLevel","element","binaryName"})
 @ToString(callSuper=true)
 public class InnerClassInfo extends ClassInfo implements Inheritable {
 
@@ -31,6 +31,11 @@ public class InnerClassInfo extends ClassInfo implements Inheritable {
     @Getter 
     private TypeElement element;
     
+    /** Name of the inner class as known by the class loader, e.g. {@code foo.Outer$Inner}. */
+    @Getter
+    @Setter
+    private String binaryName;
+    
     public InnerClassInfo(TypeElement element) {
         super(element.getSimpleName().toString());
         this.element = element;
@@ -39,11 +44,29 @@ public class InnerClassInfo extends ClassInfo implements Inheritable {
     public InnerClassInfo(String className) {
         super(className);
     }
+
+    /** Copies an inner class and all its members, so that the copy can be altered without altering the original. */
+    public InnerClassInfo(InnerClassInfo innerClassInfo) {
+        super(innerClassInfo.getClassName());
+        copyContentOf(innerClassInfo);
+        this.superClassInfo = innerClassInfo.superClassInfo;
+        this.inheritanceLevel = innerClassInfo.inheritanceLevel;
+        this.effectiveInheritanceLevel = innerClassInfo.effectiveInheritanceLevel;
+        this.staticInnerClass = innerClassInfo.staticInnerClass;
+        this.element = innerClassInfo.element;
+        this.binaryName = innerClassInfo.binaryName;
+    }
     
     public void setInheritanceLevel(int inheritanceLevel) {
         this.inheritanceLevel = inheritanceLevel;
         this.effectiveInheritanceLevel = inheritanceLevel;
     }
-    
+
+    @Override
+    public void detachElements() {
+        super.detachElements();
+        element = null;
+    }
+
 }
 //CHECKSTYLE:ON 
@@ -19,7 +19,7 @@ import lombok.ToString;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 // for testing
-@EqualsAndHashCode(exclude = { "returnTypeName", "thrownTypeNames", "effectiveInheritanceLevel", "element" })
+@EqualsAndHashCode(exclude = { "returnTypeName", "thrownTypeNames", "effectiveInheritanceLevel", "element", "directlyAccessible" })
 @ToString
 @SuppressWarnings("PMD.UnusedPrivateField")
 public class MethodInfo implements Inheritable {
@@ -39,6 +39,7 @@ public class MethodInfo implements Inheritable {
     @Setter
     @Getter
     private int effectiveInheritanceLevel;
+    @Setter
     @Getter
     private ExecutableElement element;
     @Setter
@@ -47,6 +48,10 @@ public class MethodInfo implements Inheritable {
     @Setter
     @Getter
     private boolean staticMethod;
+    /** Whether or not the method can be invoked without reflection from the BoundBox. */
+    @Setter
+    @Getter
+    private boolean directlyAccessible;
 
     // ----------------------------------
     // CONSTRUCTOR
@@ -77,6 +82,22 @@ public class MethodInfo implements Inheritable {
         this.thrownTypeNames = listThrownTypeNames;
     }
 
+    /** Copies a method, so that the copy can be altered without altering the original. */
+    public MethodInfo(@NonNull MethodInfo methodInfo) {
+        this.methodName = methodInfo.methodName;
+        this.returnTypeName = methodInfo.returnTypeName;
+        this.parameterTypes = new ArrayList<FieldInfo>();
+        for (FieldInfo parameterType : methodInfo.parameterTypes) {
+            parameterTypes.add(new FieldInfo(parameterType));
+        }
+        this.thrownTypeNames = new ArrayList<String>(methodInfo.thrownTypeNames);
+        this.inheritanceLevel = methodInfo.inheritanceLevel;
+        this.effectiveInheritanceLevel = methodInfo.effectiveInheritanceLevel;
+        this.element = methodInfo.element;
+        this.overriden = methodInfo.overriden;
+        this.staticMethod = methodInfo.staticMethod;
+        this.directlyAccessible = methodInfo.directlyAccessible;
+    }
 
     // ----------------------------------
     // PUBLIC METHODS
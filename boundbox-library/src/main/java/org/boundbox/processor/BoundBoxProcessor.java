@@ -17,13 +17,26 @@
 
 package org.boundbox.processor;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -31,6 +44,7 @@ import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
@@ -38,11 +52,15 @@ import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -51,6 +69,9 @@ import lombok.extern.java.Log;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.boundbox.BoundBox;
+import org.boundbox.Backend;
+import org.boundbox.Layout;
+import org.boundbox.Resolution;
 import org.boundbox.feature.FeatureFlip;
 import org.boundbox.model.ClassInfo;
 import org.boundbox.model.FieldInfo;
@@ -66,25 +87,82 @@ import org.boundbox.writer.BoundboxWriter;
  */
 @SupportedAnnotationTypes("org.boundbox.BoundBox")
 @SupportedSourceVersion(SourceVersion.RELEASE_6)
+@SupportedOptions({ BoundBoxProcessor.OPTION_RESOLUTION, BoundBoxProcessor.OPTION_BACKEND, BoundBoxProcessor.OPTION_SCAN_CACHE,
+        BoundBoxProcessor.OPTION_RENDERING_THREADS, BoundBoxProcessor.OPTION_REPORT, BoundBoxProcessor.OPTION_LAYOUT })
 @Log
 public class BoundBoxProcessor extends AbstractProcessor {
 
+    /** Processor option giving the default {@link Resolution} of all BoundBoxes : lazy or eager. */
+    public static final String OPTION_RESOLUTION = "boundbox.resolution";
+    /** Processor option giving the default {@link Backend} of all BoundBoxes : reflection, method_handles or var_handles. */
+    public static final String OPTION_BACKEND = "boundbox.backend";
+    /** Processor option giving the default {@link Layout} of all BoundBoxes : expanded or compact. */
+    public static final String OPTION_LAYOUT = "boundbox.layout";
+    /**
+     * Processor option giving the path of a file where scans of super classes read from class files are kept between builds,
+     * typically in the build output directory. There is no such file by default.
+     */
+    public static final String OPTION_SCAN_CACHE = "boundbox.scanCache";
+    /**
+     * Processor option giving the maximum number of threads rendering the sources of the BoundBoxes of a round. It defaults
+     * to the number of available processors, 1 renders them on the compiler's thread.
+     */
+    public static final String OPTION_RENDERING_THREADS = "boundbox.renderingThreads";
+    /**
+     * Processor option that, when true, reports the time spent in each phase for each BoundBox, and its size, in
+     * {@value ProcessingReport#REPORT_FILE_NAME} in the class output. Disabled by default.
+     */
+    public static final String OPTION_REPORT = "boundbox.report";
+    /**
+     * Option through which the processor tells Gradle it is isolating : each BoundBox has a single originating element. See
+     * META-INF/gradle/incremental.annotation.processors, where the processor is declared dynamic.
+     */
+    public static final String GRADLE_ISOLATING_OPTION = "org.gradle.annotation.processing.isolating";
+    /** Option through which the processor tells Gradle it is aggregating : the report is generated from all BoundBoxes. */
+    public static final String GRADLE_AGGREGATING_OPTION = "org.gradle.annotation.processing.aggregating";
+
     private static final String BOUNDBOX_ANNOTATION_PARAMETER_BOUND_CLASS = "boundClass";
     private static final String BOUNDBOX_ANNOTATION_PARAMETER_MAX_SUPER_CLASS = "maxSuperClass";
     private static final String BOUNDBOX_ANNOTATION_PARAMETER_EXTRA_BOUND_FIELDS = "extraFields";
     private static final String BOUNDBOX_ANNOTATION_PARAMETER_PREFIXES = "prefixes";
     private static final String BOUNDBOX_ANNOTATION_PARAMETER_PACKAGE = "boundBoxPackage";
+    private static final String BOUNDBOX_ANNOTATION_PARAMETER_RESOLUTION = "resolution";
+    private static final String BOUNDBOX_ANNOTATION_PARAMETER_BACKEND = "backend";
+    private static final String BOUNDBOX_ANNOTATION_PARAMETER_LAYOUT = "layout";
+    private static final String VAR_HANDLE_CLASS_NAME = "java.lang.invoke.VarHandle";
+    private static final String LAMBDA_METAFACTORY_CLASS_NAME = "java.lang.invoke.LambdaMetafactory";
     private static final String BOUNDBOX_ANNOTATION_PARAMETER_EXTRA_BOUND_FIELDS_FIELD_NAME = "fieldName";
     private static final String BOUNDBOX_ANNOTATION_PARAMETER_EXTRA_BOUND_FIELDS_FIELD_CLASS = "fieldClass";
     private static final String PACKAGE_SEPARATOR = ".";
+    private static final int RENDERED_BOUNDBOXES_PER_THREAD = 2;
 
     private Filer filer;
     private Messager messager;
     private Elements elements;
+    private Types types;
+    private Resolution defaultResolution = Resolution.LAZY;
+    private Backend defaultBackend = Backend.REFLECTION;
+    private Layout defaultLayout = Layout.EXPANDED;
+    private SourceVersion sourceVersion;
+    private ScanCache scanCache;
+    private int renderingThreadCount = Runtime.getRuntime().availableProcessors();
+    private ProcessingReport report;
+    /** Qualified names of the types whose sources are compiled, in all rounds so far. */
+    private Set<String> setSourceTypeNames = new HashSet<String>();
     @Setter
     private BoundboxWriter boundboxWriter = new BoundboxWriter();
+    @Setter
     private InheritanceComputer inheritanceComputer = new InheritanceComputer();
+    @Setter
     private BoundClassScanner boundClassVisitor = new BoundClassScanner();
+    /**
+     * Whether or not the meta models of all BoundBoxes, and the invisible types found while scanning them, are kept after
+     * they are written, for introspection. They are released by default, so that the memory used by the processor doesn't
+     * grow with the number of BoundBoxes.
+     */
+    @Setter
+    private boolean isKeepingClassInfos;
+    /** Meta models of all BoundBoxes written so far, if {@link #setKeepingClassInfos(boolean) kept}. */
     @Getter
     private List<ClassInfo> listClassInfo = new ArrayList<ClassInfo>();
 
@@ -97,12 +175,87 @@ public class BoundBoxProcessor extends AbstractProcessor {
         filer = env.getFiler();
         messager = env.getMessager();
         elements = env.getElementUtils();
+        types = env.getTypeUtils();
+        sourceVersion = env.getSourceVersion();
+        boundClassVisitor.setElements(elements);
+        String resolutionOption = env.getOptions().get(OPTION_RESOLUTION);
+        if (resolutionOption != null) {
+            try {
+                defaultResolution = Resolution.valueOf(resolutionOption.toUpperCase(Locale.US));
+            } catch (IllegalArgumentException e) {
+                messager.printMessage(Kind.ERROR, "Option " + OPTION_RESOLUTION + " must be one of lazy or eager, not " + resolutionOption);
+            }
+        }
+        String scanCacheOption = env.getOptions().get(OPTION_SCAN_CACHE);
+        if (scanCacheOption != null) {
+            scanCache = new ScanCache(new File(scanCacheOption), filer, elements);
+            scanCache.load();
+            boundClassVisitor.setScanCache(scanCache);
+        }
+        String renderingThreadsOption = env.getOptions().get(OPTION_RENDERING_THREADS);
+        if (renderingThreadsOption != null) {
+            try {
+                renderingThreadCount = Integer.parseInt(renderingThreadsOption);
+            } catch (NumberFormatException e) {
+                renderingThreadCount = 0;
+            }
+            if (renderingThreadCount < 1) {
+                messager.printMessage(Kind.ERROR, "Option " + OPTION_RENDERING_THREADS + " must be a positive number, not " + renderingThreadsOption);
+                renderingThreadCount = 1;
+            }
+        }
+        if (Boolean.parseBoolean(env.getOptions().get(OPTION_REPORT))) {
+            report = new ProcessingReport();
+        }
+        String backendOption = env.getOptions().get(OPTION_BACKEND);
+        if (backendOption != null) {
+            try {
+                defaultBackend = Backend.valueOf(backendOption.toUpperCase(Locale.US));
+            } catch (IllegalArgumentException e) {
+                messager.printMessage(Kind.ERROR, "Option " + OPTION_BACKEND + " must be one of reflection, method_handles or var_handles, not " + backendOption);
+            }
+        }
+        String layoutOption = env.getOptions().get(OPTION_LAYOUT);
+        if (layoutOption != null) {
+            try {
+                defaultLayout = Layout.valueOf(layoutOption.toUpperCase(Locale.US));
+            } catch (IllegalArgumentException e) {
+                messager.printMessage(Kind.ERROR, "Option " + OPTION_LAYOUT + " must be one of expanded or compact, not " + layoutOption);
+            }
+        }
+    }
+
+    /**
+     * Declares the kind of the processor for Gradle incremental annotation processing, once the processor is initialized.
+     * It is isolating, unless the report is enabled : the report has no single originating element, it aggregates all
+     * BoundBoxes.
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> setSupportedOptions = new HashSet<String>(super.getSupportedOptions());
+        setSupportedOptions.add(report == null ? GRADLE_ISOLATING_OPTION : GRADLE_AGGREGATING_OPTION);
+        return setSupportedOptions;
     }
 
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
         // Get all classes that has the annotation
         Set<? extends Element> classElements = roundEnvironment.getElementsAnnotatedWith(BoundBox.class);
+        // super classes scanned and visibilities computed during previous rounds can't be reused
+        boundClassVisitor.clearScannedSuperClasses();
+        boundClassVisitor.clearComputedVisibilities();
+        for (Element rootElement : roundEnvironment.getRootElements()) {
+            if (rootElement instanceof TypeElement) {
+                setSourceTypeNames.add(((TypeElement) rootElement).getQualifiedName().toString());
+            }
+        }
+        if (scanCache != null) {
+            scanCache.addSourceTypes(roundEnvironment.getRootElements());
+            if (roundEnvironment.processingOver()) {
+                scanCache.save();
+            }
+        }
+        List<PendingBoundBox> listPendingBoundBoxes = new ArrayList<PendingBoundBox>(classElements.size());
         // For each class that has the annotation
         for (final Element classElement : classElements) {
             
@@ -111,12 +264,15 @@ public class BoundBoxProcessor extends AbstractProcessor {
             String maxSuperClass = null;
             String[] prefixes = null;
             String boundBoxPackageName = null;
+            Resolution resolution = defaultResolution;
+            Backend backend = defaultBackend;
+            Layout layout = defaultLayout;
 
             List<? extends AnnotationValue> extraBoundFields = null;
             List<? extends AnnotationMirror> listAnnotationMirrors = classElement.getAnnotationMirrors();
             if (listAnnotationMirrors == null) {
                 messager.printMessage(Kind.WARNING, "listAnnotationMirrors is null", classElement);
-                return true;
+                break;
             }
 
             StringBuilder message = new StringBuilder();
@@ -146,12 +302,21 @@ public class BoundBoxProcessor extends AbstractProcessor {
                     if (BOUNDBOX_ANNOTATION_PARAMETER_PACKAGE.equals(entry.getKey().getSimpleName().toString())) {
                         boundBoxPackageName = getAnnotationValueAsString(entry.getValue());
                     }
+                    if (BOUNDBOX_ANNOTATION_PARAMETER_RESOLUTION.equals(entry.getKey().getSimpleName().toString())) {
+                        resolution = Resolution.valueOf(getAnnotationValueAsEnumConstantName(entry.getValue()));
+                    }
+                    if (BOUNDBOX_ANNOTATION_PARAMETER_BACKEND.equals(entry.getKey().getSimpleName().toString())) {
+                        backend = Backend.valueOf(getAnnotationValueAsEnumConstantName(entry.getValue()));
+                    }
+                    if (BOUNDBOX_ANNOTATION_PARAMETER_LAYOUT.equals(entry.getKey().getSimpleName().toString())) {
+                        layout = Layout.valueOf(getAnnotationValueAsEnumConstantName(entry.getValue()));
+                    }
                 }
             }
 
             if (boundClass == null) {
                 messager.printMessage(Kind.WARNING, "BoundClass is null : " + message, classElement);
-                return true;
+                break;
             }
 
             if (maxSuperClass != null) {
@@ -160,13 +325,30 @@ public class BoundBoxProcessor extends AbstractProcessor {
 
             if (prefixes != null && prefixes.length != 2 && prefixes.length != 1) {
                 error(classElement, "You must provide 1 or 2 prefixes. The first one for class names, the second one for methods.");
-                return true;
+                break;
             }
             if (prefixes != null && prefixes.length == 1) {
                 String[] newPrefixes = new String[] { prefixes[0], prefixes[0].toLowerCase(Locale.US) };
                 prefixes = newPrefixes;
             }
             boundboxWriter.setPrefixes(prefixes);
+            boundboxWriter.setResolution(resolution);
+            if (backend == Backend.VAR_HANDLES && (!isAtLeastJava(sourceVersion, 9) || elements.getTypeElement(VAR_HANDLE_CLASS_NAME) == null)) {
+                messager.printMessage(Kind.WARNING, "VarHandles require source version 9 or later, MethodHandles are used instead.", classElement);
+                backend = Backend.METHOD_HANDLES;
+            }
+            if (backend == Backend.METHOD_HANDLES && !isAtLeastJava(sourceVersion, 7)) {
+                messager.printMessage(Kind.WARNING, "MethodHandles require source version 1.7 or later, reflection is used instead.", classElement);
+                backend = Backend.REFLECTION;
+            }
+            boundboxWriter.setBackend(backend);
+            boundboxWriter.setWritingAccessors(backend != Backend.REFLECTION && isAtLeastJava(sourceVersion, 8)
+                    && elements.getTypeElement(LAMBDA_METAFACTORY_CLASS_NAME) != null);
+            if (layout == Layout.COMPACT && backend != Backend.REFLECTION) {
+                messager.printMessage(Kind.WARNING, "The compact layout only applies to the reflection backend, the expanded layout is used instead.", classElement);
+                layout = Layout.EXPANDED;
+            }
+            boundboxWriter.setLayout(layout);
 
             if( boundBoxPackageName == null ) {
                 String boundClassFQN = boundClass.getQualifiedName().toString();
@@ -179,38 +361,170 @@ public class BoundBoxProcessor extends AbstractProcessor {
             boundClassVisitor.setBoundBoxPackageName(boundBoxPackageName);
             boundboxWriter.setBoundBoxPackageName(boundBoxPackageName);
 
+            ProcessingReport.Entry reportEntry = new ProcessingReport.Entry(boundClass.getQualifiedName().toString());
+            long phaseStartNanos = System.nanoTime();
             ClassInfo classInfo = boundClassVisitor.scan(boundClass);
+            reportEntry.setScanNanos(System.nanoTime() - phaseStartNanos);
 
             injectExtraBoundFields(extraBoundFields, classInfo);
 
-            listClassInfo.add(classInfo);
+            if (isKeepingClassInfos) {
+                listClassInfo.add(classInfo);
+            }
 
             // perform some computations on meta model
+            phaseStartNanos = System.nanoTime();
             inheritanceComputer.computeInheritanceAndHidingFields(classInfo.getListFieldInfos());
-            inheritanceComputer.computeInheritanceAndOverridingMethods(classInfo.getListMethodInfos(), boundClass, elements);
+            reportEntry.setFieldsInheritanceNanos(System.nanoTime() - phaseStartNanos);
+            phaseStartNanos = System.nanoTime();
+            inheritanceComputer.computeInheritanceAndOverridingMethods(classInfo.getListMethodInfos(), boundClass, elements, types);
+            reportEntry.setMethodsInheritanceNanos(System.nanoTime() - phaseStartNanos);
+            phaseStartNanos = System.nanoTime();
             inheritanceComputer.computeInheritanceAndHidingInnerClasses(classInfo.getListInnerClassInfo());
-            inheritanceComputer.computeInheritanceInInnerClasses(classInfo, elements);
+            reportEntry.setInnerClassesInheritanceNanos(System.nanoTime() - phaseStartNanos);
+            phaseStartNanos = System.nanoTime();
+            inheritanceComputer.computeInheritanceInInnerClasses(classInfo, elements, types);
+            reportEntry.setInnerClassesMembersInheritanceNanos(System.nanoTime() - phaseStartNanos);
             
-            // write meta model to java class file
-            Writer sourceWriter = null;
-            try {
-                String boundBoxClassName = boundboxWriter.getNamingGenerator().createBoundBoxName(classInfo);
-                String boundBoxClassFQN = boundBoxPackageName.isEmpty() ? boundBoxClassName : boundBoxPackageName + PACKAGE_SEPARATOR + boundBoxClassName;
-                JavaFileObject sourceFile = filer.createSourceFile(boundBoxClassFQN, (Element[]) null);
-                sourceWriter = sourceFile.openWriter();
+            // detach the meta model from javac so that it can be written outside of the compiler's thread
+            classInfo.detachElements();
+            String boundBoxClassName = boundboxWriter.getNamingGenerator().createBoundBoxName(classInfo);
+            reportEntry.setBoundBoxClassName(boundBoxClassName);
+            reportEntry.setFieldCount(classInfo.getListFieldInfos().size());
+            reportEntry.setMethodCount(classInfo.getListMethodInfos().size());
+            reportEntry.setConstructorCount(classInfo.getListConstructorInfos().size());
+            reportEntry.setInnerClassCount(classInfo.getListInnerClassInfo().size());
+            listPendingBoundBoxes.add(new PendingBoundBox(classElement, boundBoxPackageName, boundBoxClassName, classInfo, boundboxWriter.copy(), reportEntry));
+        }
+
+        writeBoundBoxes(listPendingBoundBoxes);
+        // elements of this round can't be used by the next rounds, they are released as soon as possible
+        boundClassVisitor.clearScannedSuperClasses();
+        boundClassVisitor.clearComputedVisibilities();
+        if (!isKeepingClassInfos) {
+            boundClassVisitor.clearVisitedTypes();
+        }
+        if (report != null && roundEnvironment.processingOver()) {
+            report.write(filer, messager);
+        }
+        return true;
+    }
 
-                boundboxWriter.writeBoundBox(classInfo, sourceWriter);
-            } catch (IOException e) {
-                e.printStackTrace();
-                error(classElement, e.getMessage());
-            } finally {
-                if (sourceWriter != null) {
-                    IOUtils.closeQuietly(sourceWriter);
+    /**
+     * Writes BoundBoxes to java source files. Their sources are rendered in parallel, on at most {@link #renderingThreadCount}
+     * threads, then written to the filer in order, as the filer must only be used from the compiler's thread. Only a few
+     * BoundBoxes are rendered ahead of the one being written, and each BoundBox is released once written, so that the
+     * sources and the meta models of a round are not all kept in memory.
+     * @param listPendingBoundBoxes
+     *            the BoundBoxes of a round. They are removed from the list as they are written.
+     */
+    private void writeBoundBoxes(List<PendingBoundBox> listPendingBoundBoxes) {
+        if (listPendingBoundBoxes.isEmpty()) {
+            return;
+        }
+        int threadCount = Math.min(renderingThreadCount, listPendingBoundBoxes.size());
+        ExecutorService executorService = null;
+        if (threadCount > 1) {
+            executorService = Executors.newFixedThreadPool(threadCount, new RenderingThreadFactory());
+        }
+        int renderingWindow = executorService == null ? 1 : threadCount * RENDERED_BOUNDBOXES_PER_THREAD;
+        Queue<Future<String>> queueRenderedSources = new LinkedList<Future<String>>();
+        int indexToRender = 0;
+
+        try {
+            for (int index = 0; index < listPendingBoundBoxes.size(); index++) {
+                while (indexToRender < listPendingBoundBoxes.size() && indexToRender < index + renderingWindow) {
+                    queueRenderedSources.add(render(listPendingBoundBoxes.get(indexToRender++), executorService));
+                }
+                PendingBoundBox pendingBoundBox = listPendingBoundBoxes.set(index, null);
+                try {
+                    writeBoundBox(pendingBoundBox, queueRenderedSources.remove().get());
+                } catch (ExecutionException e) {
+                    e.getCause().printStackTrace();
+                    error(pendingBoundBox.classElement, String.valueOf(e.getCause().getMessage()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error(pendingBoundBox.classElement, "Interrupted while writing BoundBox " + pendingBoundBox.boundBoxClassName);
+                    return;
                 }
             }
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
         }
+    }
 
-        return true;
+    private Future<String> render(PendingBoundBox pendingBoundBox, ExecutorService executorService) {
+        if (executorService != null) {
+            return executorService.submit(pendingBoundBox);
+        }
+        FutureTask<String> renderedSource = new FutureTask<String>(pendingBoundBox);
+        renderedSource.run();
+        return renderedSource;
+    }
+
+    private void writeBoundBox(PendingBoundBox pendingBoundBox, String boundBoxSource) {
+        String boundBoxPackageName = pendingBoundBox.boundBoxPackageName;
+        String boundBoxClassName = pendingBoundBox.boundBoxClassName;
+        String boundBoxClassFQN = boundBoxPackageName.isEmpty() ? boundBoxClassName : boundBoxPackageName + PACKAGE_SEPARATOR + boundBoxClassName;
+        Writer sourceWriter = null;
+        try {
+            if (report != null) {
+                pendingBoundBox.reportEntry.setSourceChars(boundBoxSource.length());
+                report.add(pendingBoundBox.reportEntry);
+            }
+            if (setSourceTypeNames.contains(boundBoxClassFQN)) {
+                // javac can't compile a source generated for a type whose source it already compiles
+                if (isUpToDate(boundBoxPackageName, boundBoxClassName, boundBoxSource)) {
+                    log.info("BoundBox is up to date -> " + boundBoxClassFQN);
+                } else {
+                    error(pendingBoundBox.classElement, "BoundBox " + boundBoxClassFQN
+                            + " generated by a previous build is compiled again but is out of date. Delete it, or don't compile generated sources again, and rebuild.");
+                }
+            } else {
+                pendingBoundBox.reportEntry.setRewritten(true);
+                // unless it reports, the processor is isolating for Gradle : each BoundBox has exactly one originating element, its annotated class.
+                // The bound class and its super classes are reachable from it.
+                JavaFileObject sourceFile = filer.createSourceFile(boundBoxClassFQN, pendingBoundBox.classElement);
+                sourceWriter = sourceFile.openWriter();
+                sourceWriter.write(boundBoxSource);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            error(pendingBoundBox.classElement, e.getMessage());
+        } finally {
+            if (sourceWriter != null) {
+                IOUtils.closeQuietly(sourceWriter);
+            }
+        }
+    }
+
+    /**
+     * Checks whether or not the BoundBox generated by a previous build is identical to the one about to be written. This is
+     * only called when the source of the previous BoundBox is part of the current compilation, like with maven, which
+     * compiles generated sources again. It is then not rewritten, so that tools downstream don't process it again.
+     * <p>
+     * If it is not identical, it can't be rewritten either : javac doesn't support generating a source for a type it
+     * already compiles, and javac 8 crashes. The processor reports an error instead. A BoundBox known to javac only as a
+     * class file, from the class path, is always rewritten.
+     * </p>
+     * @param boundBoxPackageName
+     *            package of the BoundBox.
+     * @param boundBoxClassName
+     *            simple name of the BoundBox.
+     * @param boundBoxSource
+     *            source of the BoundBox about to be written.
+     * @return true if the previous BoundBox doesn't need to be rewritten.
+     */
+    private boolean isUpToDate(String boundBoxPackageName, String boundBoxClassName, String boundBoxSource) {
+        try {
+            FileObject previousSourceFile = filer.getResource(StandardLocation.SOURCE_OUTPUT, boundBoxPackageName, boundBoxClassName + ".java");
+            return boundBoxSource.contentEquals(previousSourceFile.getCharContent(true));
+        } catch (IOException e) {
+            // there is no previous BoundBox, or it can't be read
+            return false;
+        }
     }
 
     /**
@@ -275,7 +589,59 @@ public class BoundBoxProcessor extends AbstractProcessor {
         return (String) annotationValue.getValue();
     }
 
+    private boolean isAtLeastJava(SourceVersion version, int release) {
+        // SourceVersion.RELEASE_7 and later can't be referenced while BoundBox runs on Java 6
+        return version != null && version.ordinal() >= release;
+    }
+
+    private String getAnnotationValueAsEnumConstantName(AnnotationValue annotationValue) {
+        return ((VariableElement) annotationValue.getValue()).getSimpleName().toString();
+    }
+
     private void error(final Element element, final String message) {
         messager.printMessage(Kind.ERROR, message, element);
     }
+
+    /** A BoundBox whose meta model is complete, waiting to be rendered and written. */
+    private static final class PendingBoundBox implements Callable<String> {
+        private final Element classElement;
+        private final String boundBoxPackageName;
+        private final String boundBoxClassName;
+        private final ClassInfo classInfo;
+        private final BoundboxWriter boundboxWriter;
+        private final ProcessingReport.Entry reportEntry;
+
+        private PendingBoundBox(Element classElement, String boundBoxPackageName, String boundBoxClassName, ClassInfo classInfo, BoundboxWriter boundboxWriter,
+                ProcessingReport.Entry reportEntry) {
+            this.classElement = classElement;
+            this.boundBoxPackageName = boundBoxPackageName;
+            this.boundBoxClassName = boundBoxClassName;
+            this.classInfo = classInfo;
+            this.boundboxWriter = boundboxWriter;
+            this.reportEntry = reportEntry;
+        }
+
+        /** @return the source of the BoundBox. */
+        @Override
+        public String call() throws IOException {
+            long startNanos = System.nanoTime();
+            StringWriter boundBoxSourceWriter = new StringWriter();
+            boundboxWriter.writeBoundBox(classInfo, boundBoxSourceWriter);
+            String boundBoxSource = boundBoxSourceWriter.toString();
+            reportEntry.setWriteNanos(System.nanoTime() - startNanos);
+            return boundBoxSource;
+        }
+    }
+
+    /** Creates daemon threads, so that a compiler that fails can still exit. */
+    private static final class RenderingThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "boundbox-renderer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package org.boundbox.processor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
@@ -12,7 +14,9 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementKindVisitor6;
+import javax.lang.model.util.Elements;
 
+import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.java.Log;
@@ -26,6 +30,8 @@ import org.boundbox.model.MethodInfo;
  * Scans a given {@link TypeElement} to produce its associated {@link ClassInfo}. This class is
  * based on the visitor design pattern and uses a {@link ScanningContext} to memorize information
  * during tree visit (and avoid using a stack).
+ * Super classes are scanned once per processing round and their members are copied into every
+ * class that inherits them, see {@link #clearScannedSuperClasses()}.
  * @author SNI
  */
 @Log
@@ -38,6 +44,14 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
     private List<String> visitiedTypes = new ArrayList<String>();
     @Getter
     private List<String> listOfInvisibleTypes = new ArrayList<String>();
+    /** Super classes already scanned during current processing round. Their members have inheritance levels relative to their subclass. */
+    private Map<SuperClassKey, ScannedSuperClass> mapSuperClassKeyToScannedSuperClass = new HashMap<SuperClassKey, ScannedSuperClass>();
+    /** Super classes scanned during previous builds, if any. */
+    @Setter
+    private ScanCache scanCache;
+    /** Utilities of the processing environment, used to compute binary names of inner classes. */
+    @Setter
+    private Elements elements;
     
     private VisbilityComputer visbilityComputer = new VisbilityComputer();
 
@@ -52,6 +66,32 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
         return initialclassInfo;
     }
     
+    /**
+     * Forgets all super classes scanned so far. Elements are not shared between processing rounds,
+     * so this must be called at the beginning of each round.
+     */
+    public void clearScannedSuperClasses() {
+        mapSuperClassKeyToScannedSuperClass.clear();
+    }
+
+    /**
+     * Forgets the types visited, and those found invisible, during the last scan. Their lists are only useful for
+     * introspection once the scan is over, they can grow as large as the hierarchy of the bound class.
+     */
+    public void clearVisitedTypes() {
+        visitiedTypes = new ArrayList<String>();
+        listOfInvisibleTypes = new ArrayList<String>();
+        initialclassInfo = null;
+    }
+
+    /**
+     * Forgets visibilities of all types computed so far. Elements are not shared between processing rounds,
+     * so this must be called at the beginning of each round.
+     */
+    public void clearComputedVisibilities() {
+        visbilityComputer.clearComputedVisibilities();
+    }
+
     public void setBoundBoxPackageName(String boundBoxPackageName) {
         this.visbilityComputer.setBoundBoxPackageName(boundBoxPackageName);
     }
@@ -92,6 +132,7 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
             int inheritanceLevel = scanningContext.getInheritanceLevel();
             InnerClassInfo innerClassInfo = new InnerClassInfo(e);
             innerClassInfo.setStaticInnerClass(e.getModifiers().contains(Modifier.STATIC));
+            innerClassInfo.setBinaryName(elements.getBinaryName(e).toString());
             innerClassInfo.setInheritanceLevel(inheritanceLevel);
 
             // Current element is an inner class and we are currently scanning elements of someone
@@ -118,19 +159,12 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
         boolean hasValidSuperClass = !maxSuperClassName.equals(superclassOfBoundClass.toString()) && !Object.class.getName().equals(superclassOfBoundClass.toString())
                 && superclassOfBoundClass.getKind() == TypeKind.DECLARED;
 
-        // if we have a valid inner class, let's scan it
+        // if we have a valid super class, let's scan it, or reuse it if it has already been scanned
         if (hasValidSuperClass) {
             DeclaredType superClassDeclaredType = (DeclaredType) superclassOfBoundClass;
-            Element superClassElement = superClassDeclaredType.asElement();
-            scanningContext.getCurrentClassInfo().getListSuperClassNames().add(superClassElement.toString());
-
-            ClassInfo classInfo = scanningContext.getCurrentClassInfo();
-            ScanningContext newScanningContext = new ScanningContext(classInfo);
-            newScanningContext.setInheritanceLevel(scanningContext.getInheritanceLevel() + 1);
-            newScanningContext.setStatic(scanningContext.isStatic());
-            newScanningContext.setInsideEnclosedElements(false);
-            newScanningContext.setInsideSuperElements(true);
-            superClassElement.accept(BoundClassScanner.this, newScanningContext);
+            TypeElement superClassElement = (TypeElement) superClassDeclaredType.asElement();
+            ScannedSuperClass scannedSuperClass = scanSuperClass(superClassElement, scanningContext.isStatic());
+            addScannedSuperClass(scannedSuperClass, scanningContext);
         }
 
         // and finally visit all elements of current class if :
@@ -154,6 +188,7 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
     public Void visitExecutable(ExecutableElement e, ScanningContext scanningContext) {
         log.info("executable ->" + e.getSimpleName());
         MethodInfo methodInfo = new MethodInfo(e);
+        methodInfo.setDirectlyAccessible(visbilityComputer.computeVisibility(e));
 
         doCheckVisibilityOfTypesInSignature(e, methodInfo);
 
@@ -182,10 +217,12 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
     @Override
     public Void visitVariableAsField(VariableElement e, ScanningContext scanningContext) {
         FieldInfo fieldInfo = new FieldInfo(e);
+        fieldInfo.setDirectlyAccessible(visbilityComputer.computeVisibility(e));
         doCheckVisibilityOfField(e, fieldInfo);
         fieldInfo.setInheritanceLevel(scanningContext.getInheritanceLevel());
         fieldInfo.setStaticField(e.getModifiers().contains(Modifier.STATIC) && scanningContext.isStatic());
         fieldInfo.setFinalField(e.getModifiers().contains(Modifier.FINAL));
+        fieldInfo.setConstantValue(e.getConstantValue());
         scanningContext.getCurrentClassInfo().getListFieldInfos().add(fieldInfo);
         log.info("field ->" + fieldInfo.getFieldName() + " added. Static = " + fieldInfo.isStaticField());
 
@@ -194,6 +231,70 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
         return super.visitVariableAsField(e, scanningContext);
     }
 
+    private ScannedSuperClass scanSuperClass(TypeElement superClassElement, boolean isStatic) {
+        SuperClassKey superClassKey = new SuperClassKey(superClassElement, maxSuperClassName, visbilityComputer.getBoundBoxPackageName(), isStatic);
+        ScannedSuperClass scannedSuperClass = mapSuperClassKeyToScannedSuperClass.get(superClassKey);
+        if (scannedSuperClass != null) {
+            log.info("super class already scanned -> " + superClassElement);
+            return scannedSuperClass;
+        }
+        if (scanCache != null) {
+            scannedSuperClass = scanCache.get(superClassKey.toScanCacheKey());
+            if (scannedSuperClass != null) {
+                log.info("super class scanned during a previous build -> " + superClassElement);
+                mapSuperClassKeyToScannedSuperClass.put(superClassKey, scannedSuperClass);
+                return scannedSuperClass;
+            }
+        }
+
+        // members of the super class are scanned at inheritance level 1, as if its subclass was at level 0
+        ClassInfo superClassInfo = new ClassInfo(superClassElement.toString());
+        ScanningContext newScanningContext = new ScanningContext(superClassInfo);
+        newScanningContext.setInheritanceLevel(1);
+        newScanningContext.setStatic(isStatic);
+        newScanningContext.setInsideEnclosedElements(false);
+        newScanningContext.setInsideSuperElements(true);
+        int indexOfFirstInvisibleType = listOfInvisibleTypes.size();
+        int indexOfFirstVisitedType = visitiedTypes.size();
+        superClassElement.accept(this, newScanningContext);
+
+        List<String> listOfInvisibleTypesInSuperClass = new ArrayList<String>(listOfInvisibleTypes.subList(indexOfFirstInvisibleType,
+                listOfInvisibleTypes.size()));
+        List<String> listOfVisitedTypesInSuperClass = new ArrayList<String>(visitiedTypes.subList(indexOfFirstVisitedType, visitiedTypes.size()));
+        scannedSuperClass = new ScannedSuperClass(superClassInfo, listOfInvisibleTypesInSuperClass, listOfVisitedTypesInSuperClass);
+        mapSuperClassKeyToScannedSuperClass.put(superClassKey, scannedSuperClass);
+        if (scanCache != null) {
+            scanCache.put(superClassKey.toScanCacheKey(), scannedSuperClass);
+        }
+        return scannedSuperClass;
+    }
+
+    private void addScannedSuperClass(ScannedSuperClass scannedSuperClass, ScanningContext scanningContext) {
+        ClassInfo classInfo = scanningContext.getCurrentClassInfo();
+        ClassInfo superClassInfo = scannedSuperClass.getClassInfo();
+        int inheritanceLevel = scanningContext.getInheritanceLevel();
+
+        classInfo.getListSuperClassNames().addAll(superClassInfo.getListSuperClassNames());
+        for (FieldInfo fieldInfo : superClassInfo.getListFieldInfos()) {
+            FieldInfo inheritedFieldInfo = new FieldInfo(fieldInfo);
+            inheritedFieldInfo.setInheritanceLevel(fieldInfo.getInheritanceLevel() + inheritanceLevel);
+            classInfo.getListFieldInfos().add(inheritedFieldInfo);
+        }
+        for (MethodInfo methodInfo : superClassInfo.getListMethodInfos()) {
+            MethodInfo inheritedMethodInfo = new MethodInfo(methodInfo);
+            inheritedMethodInfo.setInheritanceLevel(methodInfo.getInheritanceLevel() + inheritanceLevel);
+            classInfo.getListMethodInfos().add(inheritedMethodInfo);
+        }
+        for (InnerClassInfo innerClassInfo : superClassInfo.getListInnerClassInfo()) {
+            InnerClassInfo inheritedInnerClassInfo = new InnerClassInfo(innerClassInfo);
+            inheritedInnerClassInfo.setInheritanceLevel(innerClassInfo.getInheritanceLevel() + inheritanceLevel);
+            classInfo.getListInnerClassInfo().add(inheritedInnerClassInfo);
+        }
+        classInfo.getListImports().addAll(superClassInfo.getListImports());
+        listOfInvisibleTypes.addAll(scannedSuperClass.getListOfInvisibleTypes());
+        visitiedTypes.addAll(scannedSuperClass.getListOfVisitedTypes());
+    }
+
     private void addTypeToImport(ClassInfo classInfo, DeclaredType declaredType) {
         log.info("Adding to imports " + declaredType.toString().replaceAll("<.*>", ""));
         // removes parameters from type if it has some
@@ -253,4 +354,22 @@ public class BoundClassScanner extends ElementKindVisitor6<Void, ScanningContext
         }
     }
 
+    /**
+     * Identifies the scan of a super class. The same super class can be scanned differently depending on where to stop
+     * scanning, on the package of the BoundBox and on whether or not it is reached from a static context.
+     */
+    @Data
+    private static final class SuperClassKey {
+        private final TypeElement superClassElement;
+        private final String maxSuperClassName;
+        private final String boundBoxPackageName;
+        private final boolean isStatic;
+
+        /** @return a key that identifies the same scan across builds. */
+        public String toScanCacheKey() {
+            return superClassElement.getQualifiedName() + "|" + maxSuperClassName + "|" + boundBoxPackageName + "|" + isStatic;
+        }
+    }
+
+
 }
@@ -1,13 +1,17 @@
 package org.boundbox.processor;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 
 import lombok.extern.java.Log;
 
@@ -19,12 +23,12 @@ import org.boundbox.model.MethodInfo;
 @Log
 public class InheritanceComputer {
     
-    public void computeInheritanceInInnerClasses(ClassInfo classInfo, Elements elements) {
+    public void computeInheritanceInInnerClasses(ClassInfo classInfo, Elements elements, Types types) {
         for( InnerClassInfo innerClassInfo : classInfo.getListInnerClassInfo() ) {
             computeInheritanceAndHidingFields(innerClassInfo.getListFieldInfos());
-            computeInheritanceAndOverridingMethods(innerClassInfo.getListMethodInfos(), innerClassInfo.getElement(), elements );
+            computeInheritanceAndOverridingMethods(innerClassInfo.getListMethodInfos(), innerClassInfo.getElement(), elements, types );
             computeInheritanceAndHidingInnerClasses(innerClassInfo.getListInnerClassInfo());
-            computeInheritanceInInnerClasses( innerClassInfo, elements);
+            computeInheritanceInInnerClasses( innerClassInfo, elements, types);
         }
     }
     
@@ -68,26 +72,22 @@ public class InheritanceComputer {
         }
     }
 
-    public void computeInheritanceAndOverridingMethods(List<MethodInfo> listMethodInfos, TypeElement typeElement, Elements elements) {
+    public void computeInheritanceAndOverridingMethods(List<MethodInfo> listMethodInfos, TypeElement typeElement, Elements elements, Types types) {
         // put all methods with same name in a list
         Map<String, List<MethodInfo>> mapMethodSignatureNameToListMethodInfo = new HashMap<String, List<MethodInfo>>();
+        // and all methods with same name, arity and erased parameter types in another : only those can override each other
+        Map<String, List<MethodInfo>> mapErasedSignatureToListMethodInfo = new HashMap<String, List<MethodInfo>>();
         for (MethodInfo methodInfo : listMethodInfos) {
-            if (!mapMethodSignatureNameToListMethodInfo.containsKey(methodInfo.getMethodName())) {
-                mapMethodSignatureNameToListMethodInfo.put(methodInfo.getMethodName(),
-                        new ArrayList<MethodInfo>(Arrays.asList(methodInfo)));
-            } else {
-                List<MethodInfo> methodInfoList = mapMethodSignatureNameToListMethodInfo.get(methodInfo.getMethodName());
-                methodInfoList.add(methodInfo);
-            }
+            addToIndex(mapMethodSignatureNameToListMethodInfo, methodInfo.getMethodName(), methodInfo);
+            addToIndex(mapErasedSignatureToListMethodInfo, computeErasedSignature(methodInfo, typeElement, types), methodInfo);
         }
 
         // identify overrides
-        for (Map.Entry<String, List<MethodInfo>> entry : mapMethodSignatureNameToListMethodInfo.entrySet()) {
-            List<MethodInfo> listMethodInfosForName = entry.getValue();
-            for (int i = 0; i < listMethodInfosForName.size(); i++) {
-                for (int j = 0; j < listMethodInfos.size() && j != i; j++) {
-                    MethodInfo left = listMethodInfos.get(i);
-                    MethodInfo right = listMethodInfos.get(j);
+        for (List<MethodInfo> listOverridingCandidates : mapErasedSignatureToListMethodInfo.values()) {
+            for (int i = 0; i < listOverridingCandidates.size(); i++) {
+                for (int j = i + 1; j < listOverridingCandidates.size(); j++) {
+                    MethodInfo left = listOverridingCandidates.get(i);
+                    MethodInfo right = listOverridingCandidates.get(j);
                     if (left.getInheritanceLevel() != right.getInheritanceLevel()) {
                         if (elements.overrides(left.getElement(), right.getElement(), typeElement)) {
                             right.setOverriden(true);
@@ -98,7 +98,6 @@ public class InheritanceComputer {
                         }
                     }
                 }
-
             }
         }
 
@@ -129,4 +128,33 @@ public class InheritanceComputer {
         }
     }
 
+    private void addToIndex(Map<String, List<MethodInfo>> mapKeyToListMethodInfo, String key, MethodInfo methodInfo) {
+        List<MethodInfo> listMethodInfos = mapKeyToListMethodInfo.get(key);
+        if (listMethodInfos == null) {
+            listMethodInfos = new ArrayList<MethodInfo>();
+            mapKeyToListMethodInfo.put(key, listMethodInfos);
+        }
+        listMethodInfos.add(methodInfo);
+    }
+
+    /**
+     * Computes the name, arity and erased parameter types of a method, as a member of the class being bound. Type variables of
+     * super classes are substituted first, so that foo(T) of A&lt;T&gt; and foo(String) of B extends A&lt;String&gt; share the
+     * same erased signature.
+     */
+    private String computeErasedSignature(MethodInfo methodInfo, TypeElement typeElement, Types types) {
+        ExecutableElement element = methodInfo.getElement();
+        List<? extends TypeMirror> listParameterTypes;
+        try {
+            listParameterTypes = ((ExecutableType) types.asMemberOf((DeclaredType) typeElement.asType(), element)).getParameterTypes();
+        } catch (IllegalArgumentException e) {
+            // not a member of the class, as seen by javac
+            listParameterTypes = ((ExecutableType) element.asType()).getParameterTypes();
+        }
+        StringBuilder erasedSignature = new StringBuilder(methodInfo.getMethodName()).append('(');
+        for (TypeMirror parameterType : listParameterTypes) {
+            erasedSignature.append(types.erasure(parameterType)).append(',');
+        }
+        return erasedSignature.append(')').toString();
+    }
 }
@@ -0,0 +1,156 @@
+package org.boundbox.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Records how long each phase of the processor takes for each {@code @BoundBox}, and how large each BoundBox is. The
+ * report is written as a CSV file, with a row per BoundBox, in the class output and summarized in a single note.
+ * <p>
+ * Times are in microseconds. The write phase runs on rendering threads, in parallel with the write phase of other
+ * BoundBoxes : the times of a row don't add up to the time of the compilation.
+ * </p>
+ */
+public class ProcessingReport {
+
+    /** Name of the report, in the root of the class output. */
+    public static final String REPORT_FILE_NAME = "boundbox-report.csv";
+
+    private static final String CSV_HEADER = "boundBox,boundClass,scanMicros,fieldsInheritanceMicros,methodsInheritanceMicros,"
+            + "innerClassesInheritanceMicros,innerClassesMembersInheritanceMicros,writeMicros,fields,methods,constructors,innerClasses,"
+            + "sourceChars,rewritten";
+    private static final long NANOS_PER_MICRO = 1000;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double CHARS_PER_KILO = 1024;
+
+    @Getter
+    private final List<Entry> listEntries = new ArrayList<Entry>();
+
+    public void add(Entry entry) {
+        listEntries.add(entry);
+    }
+
+    /**
+     * Writes the report in the class output and summarizes it through the messager. Must be called once, during the last
+     * round, as the filer can't create the same resource twice.
+     * @param filer
+     *            the filer of the processor.
+     * @param messager
+     *            the messager of the processor.
+     */
+    public void write(Filer filer, Messager messager) {
+        Writer writer = null;
+        String reportLocation = REPORT_FILE_NAME;
+        try {
+            FileObject reportFile = filer.createResource(StandardLocation.CLASS_OUTPUT, "", REPORT_FILE_NAME);
+            reportLocation = reportFile.toUri().toString();
+            writer = reportFile.openWriter();
+            writer.write(toCsv());
+        } catch (IOException e) {
+            messager.printMessage(Kind.WARNING, "Can't write BoundBox report " + REPORT_FILE_NAME + " : " + e.getMessage());
+        } finally {
+            if (writer != null) {
+                IOUtils.closeQuietly(writer);
+            }
+        }
+        messager.printMessage(Kind.NOTE, createSummary(reportLocation));
+    }
+
+    /** @return the report as CSV, a header line and a line per BoundBox. */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (Entry entry : listEntries) {
+            csv.append(entry.boundBoxClassName).append(',');
+            csv.append(entry.boundClassName).append(',');
+            csv.append(entry.scanNanos / NANOS_PER_MICRO).append(',');
+            csv.append(entry.fieldsInheritanceNanos / NANOS_PER_MICRO).append(',');
+            csv.append(entry.methodsInheritanceNanos / NANOS_PER_MICRO).append(',');
+            csv.append(entry.innerClassesInheritanceNanos / NANOS_PER_MICRO).append(',');
+            csv.append(entry.innerClassesMembersInheritanceNanos / NANOS_PER_MICRO).append(',');
+            csv.append(entry.writeNanos / NANOS_PER_MICRO).append(',');
+            csv.append(entry.fieldCount).append(',');
+            csv.append(entry.methodCount).append(',');
+            csv.append(entry.constructorCount).append(',');
+            csv.append(entry.innerClassCount).append(',');
+            csv.append(entry.sourceChars).append(',');
+            csv.append(entry.rewritten).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /** @return a single line giving the totals of each phase, the slowest and the largest BoundBoxes. */
+    public String createSummary(String reportLocation) {
+        long scanNanos = 0;
+        long inheritanceNanos = 0;
+        long writeNanos = 0;
+        long sourceChars = 0;
+        Entry slowestEntry = null;
+        Entry largestEntry = null;
+        for (Entry entry : listEntries) {
+            scanNanos += entry.scanNanos;
+            inheritanceNanos += entry.getInheritanceNanos();
+            writeNanos += entry.writeNanos;
+            sourceChars += entry.sourceChars;
+            if (slowestEntry == null || entry.getTotalNanos() > slowestEntry.getTotalNanos()) {
+                slowestEntry = entry;
+            }
+            if (largestEntry == null || entry.sourceChars > largestEntry.sourceChars) {
+                largestEntry = entry;
+            }
+        }
+        StringBuilder summary = new StringBuilder(String.format(Locale.US, "BoundBox : %d BoundBoxes, scan %.1f ms, inheritance %.1f ms, write %.1f ms, %.1f K chars",
+                listEntries.size(), scanNanos / NANOS_PER_MILLI, inheritanceNanos / NANOS_PER_MILLI, writeNanos / NANOS_PER_MILLI, sourceChars / CHARS_PER_KILO));
+        if (slowestEntry != null) {
+            summary.append(String.format(Locale.US, ", slowest %s %.1f ms, largest %s %.1f K chars", slowestEntry.boundBoxClassName,
+                    slowestEntry.getTotalNanos() / NANOS_PER_MILLI, largestEntry.boundBoxClassName, largestEntry.sourceChars / CHARS_PER_KILO));
+        }
+        summary.append(". Report : ").append(reportLocation);
+        return summary.toString();
+    }
+
+    /** Measures of a single BoundBox. */
+    @Getter
+    @Setter
+    public static class Entry {
+        private final String boundClassName;
+        private String boundBoxClassName;
+        private long scanNanos;
+        private long fieldsInheritanceNanos;
+        private long methodsInheritanceNanos;
+        private long innerClassesInheritanceNanos;
+        private long innerClassesMembersInheritanceNanos;
+        private long writeNanos;
+        private int fieldCount;
+        private int methodCount;
+        private int constructorCount;
+        private int innerClassCount;
+        private int sourceChars;
+        private boolean rewritten;
+
+        public Entry(String boundClassName) {
+            this.boundClassName = boundClassName;
+        }
+
+        public long getInheritanceNanos() {
+            return fieldsInheritanceNanos + methodsInheritanceNanos + innerClassesInheritanceNanos + innerClassesMembersInheritanceNanos;
+        }
+
+        public long getTotalNanos() {
+            return scanNanos + getInheritanceNanos() + writeNanos;
+        }
+    }
+}
@@ -0,0 +1,597 @@
+package org.boundbox.processor;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import lombok.extern.java.Log;
+
+import org.apache.commons.io.IOUtils;
+import org.boundbox.model.ClassInfo;
+import org.boundbox.model.FieldInfo;
+import org.boundbox.model.InnerClassInfo;
+import org.boundbox.model.MethodInfo;
+
+/**
+ * Keeps the scans of super classes between builds, in a binary file. Only super classes whose whole hierarchy is read
+ * from class files, typically from jars, are kept : their scan can't change unless their class files change.
+ * <p>
+ * Each scan is stored with a fingerprint of the class files of all types visited during the scan, and is dropped when
+ * the fingerprint doesn't match anymore. The file is memory mapped and scans are only decoded when they are used. As
+ * javac elements can't be stored, each method refers to its declaring type and to its index among the elements
+ * enclosed in that type, and is resolved again when decoded.
+ * </p>
+ */
+@Log
+public class ScanCache {
+
+    private static final int MAGIC = 0xB0B0CACE;
+    private static final int VERSION = 1;
+    private static final long NO_CHECKSUM = -1;
+    private static final StandardLocation[] CLASS_FILE_LOCATIONS = { StandardLocation.CLASS_PATH, StandardLocation.PLATFORM_CLASS_PATH };
+
+    private static final byte CONSTANT_NONE = 0;
+    private static final byte CONSTANT_STRING = 1;
+    private static final byte CONSTANT_INTEGER = 2;
+    private static final byte CONSTANT_LONG = 3;
+    private static final byte CONSTANT_FLOAT = 4;
+    private static final byte CONSTANT_DOUBLE = 5;
+    private static final byte CONSTANT_SHORT = 6;
+    private static final byte CONSTANT_BYTE = 7;
+    private static final byte CONSTANT_CHARACTER = 8;
+    private static final byte CONSTANT_BOOLEAN = 9;
+
+    private final File file;
+    private final Filer filer;
+    private final Elements elements;
+    private Map<String, Entry> mapKeyToEntry = new HashMap<String, Entry>();
+    /** Names of top level types compiled from sources. Their class files, if any, are out of date. */
+    private Set<String> setSourceTypeNames = new HashSet<String>();
+    private Map<String, Long> mapTypeNameToChecksum = new HashMap<String, Long>();
+    private boolean isModified;
+
+    public ScanCache(File file, Filer filer, Elements elements) {
+        this.file = file;
+        this.filer = filer;
+        this.elements = elements;
+    }
+
+    /**
+     * Maps the cache file and reads the keys and fingerprints of its scans. A missing or unreadable file is an empty cache.
+     */
+    public void load() {
+        mapKeyToEntry.clear();
+        if (!file.exists()) {
+            return;
+        }
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "r");
+            FileChannel channel = randomAccessFile.getChannel();
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.info("scan cache has an unknown format, ignored -> " + file);
+                return;
+            }
+            int entryCount = in.readInt();
+            for (int indexEntry = 0; indexEntry < entryCount; indexEntry++) {
+                String key = in.readUTF();
+                long fingerprint = in.readLong();
+                List<String> listOfVisitedTypes = readStrings(in);
+                int payloadLength = in.readInt();
+                ByteBuffer payload = buffer.duplicate();
+                payload.limit(buffer.position() + payloadLength);
+                buffer.position(buffer.position() + payloadLength);
+                mapKeyToEntry.put(key, new Entry(fingerprint, listOfVisitedTypes, payload.slice()));
+            }
+        } catch (IOException e) {
+            log.info("scan cache can't be read, ignored -> " + file + " : " + e.getMessage());
+            mapKeyToEntry.clear();
+        } catch (RuntimeException e) {
+            // a truncated file can't be read entirely
+            log.info("scan cache can't be read, ignored -> " + file + " : " + e);
+            mapKeyToEntry.clear();
+        } finally {
+            // the mapping stays valid after the file is closed
+            if (randomAccessFile != null) {
+                try {
+                    randomAccessFile.close();
+                } catch (IOException e) {
+                    log.info("scan cache can't be closed -> " + file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Declares types compiled from sources in current compilation.
+     * @param rootElements root elements of a processing round.
+     */
+    public void addSourceTypes(Set<? extends Element> rootElements) {
+        for (Element rootElement : rootElements) {
+            if (rootElement instanceof TypeElement) {
+                setSourceTypeNames.add(((TypeElement) rootElement).getQualifiedName().toString());
+            }
+        }
+    }
+
+    /**
+     * @param key identifies the scan of a super class.
+     * @return the scan of a super class during a previous build, or null if there is none or if its class files changed.
+     */
+    public ScannedSuperClass get(String key) {
+        Entry entry = mapKeyToEntry.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.fingerprint != computeFingerprint(entry.listOfVisitedTypes)) {
+            log.info("scan cache entry is out of date -> " + key);
+            dropEntry(key);
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(entry.payload.duplicate()));
+            ClassInfo classInfo = new ClassInfo(in.readUTF());
+            readContent(in, classInfo);
+            List<String> listOfInvisibleTypes = readStrings(in);
+            return new ScannedSuperClass(classInfo, listOfInvisibleTypes, entry.listOfVisitedTypes);
+        } catch (IOException e) {
+            log.info("scan cache entry can't be decoded -> " + key + " : " + e.getMessage());
+            dropEntry(key);
+            return null;
+        }
+    }
+
+    /**
+     * Keeps the scan of a super class for next builds, if all types visited during the scan come from class files.
+     * @param key identifies the scan of a super class.
+     * @param scannedSuperClass the scan.
+     */
+    public void put(String key, ScannedSuperClass scannedSuperClass) {
+        long fingerprint = computeFingerprint(scannedSuperClass.getListOfVisitedTypes());
+        if (fingerprint == NO_CHECKSUM) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(payload);
+            Map<TypeElement, Map<Element, Integer>> mapTypeToElementIndexes = new IdentityHashMap<TypeElement, Map<Element, Integer>>();
+            ClassInfo classInfo = scannedSuperClass.getClassInfo();
+            out.writeUTF(classInfo.getClassName());
+            writeContent(out, classInfo, mapTypeToElementIndexes);
+            writeStrings(out, scannedSuperClass.getListOfInvisibleTypes());
+            out.flush();
+            mapKeyToEntry.put(key, new Entry(fingerprint, scannedSuperClass.getListOfVisitedTypes(), ByteBuffer.wrap(payload.toByteArray())));
+            isModified = true;
+        } catch (IOException e) {
+            log.info("scan can't be encoded -> " + key + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes all scans to the cache file, if any of them changed during current build.
+     */
+    public void save() {
+        if (!isModified) {
+            return;
+        }
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        DataOutputStream out = null;
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Can't create directory " + directory);
+            }
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(mapKeyToEntry.size());
+            for (Map.Entry<String, Entry> keyAndEntry : mapKeyToEntry.entrySet()) {
+                Entry entry = keyAndEntry.getValue();
+                out.writeUTF(keyAndEntry.getKey());
+                out.writeLong(entry.fingerprint);
+                writeStrings(out, entry.listOfVisitedTypes);
+                ByteBuffer payload = entry.payload.duplicate();
+                byte[] payloadBytes = new byte[payload.remaining()];
+                payload.get(payloadBytes);
+                out.writeInt(payloadBytes.length);
+                out.write(payloadBytes);
+            }
+            out.close();
+            out = null;
+            // the previous file can't be replaced on some platforms while it is still mapped, it is then kept
+            if ((file.exists() && !file.delete()) || !temporaryFile.renameTo(file)) {
+                throw new IOException("Can't replace " + file);
+            }
+            isModified = false;
+        } catch (IOException e) {
+            log.info("scan cache can't be written -> " + file + " : " + e.getMessage());
+            temporaryFile.delete();
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+    }
+
+    // ----------------------------------
+    // FINGERPRINTS
+    // ----------------------------------
+
+    private void dropEntry(String key) {
+        mapKeyToEntry.remove(key);
+        isModified = true;
+    }
+
+    private long computeFingerprint(List<String> listOfVisitedTypes) {
+        CRC32 crc = new CRC32();
+        for (String typeName : listOfVisitedTypes) {
+            long checksum = computeClassFileChecksum(typeName);
+            if (checksum == NO_CHECKSUM) {
+                return NO_CHECKSUM;
+            }
+            crc.update(typeName.getBytes());
+            for (int indexByte = 0; indexByte < 8; indexByte++) {
+                crc.update((int) (checksum >>> (8 * indexByte)));
+            }
+        }
+        return crc.getValue();
+    }
+
+    private long computeClassFileChecksum(String typeName) {
+        Long checksum = mapTypeNameToChecksum.get(typeName);
+        if (checksum == null) {
+            checksum = doComputeClassFileChecksum(typeName);
+            mapTypeNameToChecksum.put(typeName, checksum);
+        }
+        return checksum;
+    }
+
+    private long doComputeClassFileChecksum(String typeName) {
+        TypeElement typeElement = elements.getTypeElement(typeName);
+        if (typeElement == null || isCompiledFromSource(typeElement)) {
+            return NO_CHECKSUM;
+        }
+        String packageName = elements.getPackageOf(typeElement).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(typeElement).toString();
+        String relativeName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + ".class";
+        for (StandardLocation location : CLASS_FILE_LOCATIONS) {
+            InputStream in = null;
+            try {
+                FileObject classFile = filer.getResource(location, packageName, relativeName);
+                in = classFile.openInputStream();
+                CRC32 crc = new CRC32();
+                byte[] bytes = new byte[4096];
+                for (int readCount = in.read(bytes); readCount != -1; readCount = in.read(bytes)) {
+                    crc.update(bytes, 0, readCount);
+                }
+                return crc.getValue();
+            } catch (IOException e) {
+                // class file is not in this location
+                continue;
+            } catch (IllegalArgumentException e) {
+                // location is not supported, like the platform class path of modular JDKs
+                continue;
+            } finally {
+                IOUtils.closeQuietly(in);
+            }
+        }
+        return NO_CHECKSUM;
+    }
+
+    private boolean isCompiledFromSource(TypeElement typeElement) {
+        TypeElement topLevelTypeElement = typeElement;
+        while (topLevelTypeElement.getEnclosingElement() instanceof TypeElement) {
+            topLevelTypeElement = (TypeElement) topLevelTypeElement.getEnclosingElement();
+        }
+        return setSourceTypeNames.contains(topLevelTypeElement.getQualifiedName().toString());
+    }
+
+    // ----------------------------------
+    // ENCODING
+    // ----------------------------------
+
+    private void writeContent(DataOutput out, ClassInfo classInfo, Map<TypeElement, Map<Element, Integer>> mapTypeToElementIndexes) throws IOException {
+        writeStrings(out, classInfo.getListSuperClassNames());
+        writeStrings(out, new ArrayList<String>(classInfo.getListImports()));
+        out.writeInt(classInfo.getListFieldInfos().size());
+        for (FieldInfo fieldInfo : classInfo.getListFieldInfos()) {
+            writeField(out, fieldInfo);
+        }
+        out.writeInt(classInfo.getListMethodInfos().size());
+        for (MethodInfo methodInfo : classInfo.getListMethodInfos()) {
+            writeMethod(out, methodInfo, mapTypeToElementIndexes);
+        }
+        out.writeInt(classInfo.getListConstructorInfos().size());
+        for (MethodInfo constructorInfo : classInfo.getListConstructorInfos()) {
+            writeMethod(out, constructorInfo, mapTypeToElementIndexes);
+        }
+        out.writeInt(classInfo.getListInnerClassInfo().size());
+        for (InnerClassInfo innerClassInfo : classInfo.getListInnerClassInfo()) {
+            out.writeUTF(innerClassInfo.getElement().getQualifiedName().toString());
+            writeNullableString(out, innerClassInfo.getBinaryName());
+            out.writeBoolean(innerClassInfo.isStaticInnerClass());
+            out.writeInt(innerClassInfo.getInheritanceLevel());
+            out.writeInt(innerClassInfo.getEffectiveInheritanceLevel());
+            writeContent(out, innerClassInfo, mapTypeToElementIndexes);
+        }
+    }
+
+    private void readContent(DataInput in, ClassInfo classInfo) throws IOException {
+        Map<String, List<? extends Element>> mapTypeNameToEnclosedElements = new HashMap<String, List<? extends Element>>();
+        readContent(in, classInfo, mapTypeNameToEnclosedElements);
+    }
+
+    private void readContent(DataInput in, ClassInfo classInfo, Map<String, List<? extends Element>> mapTypeNameToEnclosedElements) throws IOException {
+        classInfo.setListSuperClassNames(readStrings(in));
+        classInfo.setListImports(new HashSet<String>(readStrings(in)));
+        int fieldCount = in.readInt();
+        for (int indexField = 0; indexField < fieldCount; indexField++) {
+            classInfo.getListFieldInfos().add(readField(in));
+        }
+        int methodCount = in.readInt();
+        for (int indexMethod = 0; indexMethod < methodCount; indexMethod++) {
+            classInfo.getListMethodInfos().add(readMethod(in, mapTypeNameToEnclosedElements));
+        }
+        int constructorCount = in.readInt();
+        for (int indexConstructor = 0; indexConstructor < constructorCount; indexConstructor++) {
+            classInfo.getListConstructorInfos().add(readMethod(in, mapTypeNameToEnclosedElements));
+        }
+        int innerClassCount = in.readInt();
+        for (int indexInnerClass = 0; indexInnerClass < innerClassCount; indexInnerClass++) {
+            TypeElement innerClassElement = getTypeElement(in.readUTF());
+            InnerClassInfo innerClassInfo = new InnerClassInfo(innerClassElement);
+            innerClassInfo.setBinaryName(readNullableString(in));
+            innerClassInfo.setStaticInnerClass(in.readBoolean());
+            innerClassInfo.setInheritanceLevel(in.readInt());
+            innerClassInfo.setEffectiveInheritanceLevel(in.readInt());
+            readContent(in, innerClassInfo, mapTypeNameToEnclosedElements);
+            classInfo.getListInnerClassInfo().add(innerClassInfo);
+        }
+    }
+
+    private void writeField(DataOutput out, FieldInfo fieldInfo) throws IOException {
+        out.writeUTF(fieldInfo.getFieldName());
+        out.writeUTF(fieldInfo.getFieldTypeName());
+        out.writeInt(fieldInfo.getInheritanceLevel());
+        out.writeInt(fieldInfo.getEffectiveInheritanceLevel());
+        out.writeBoolean(fieldInfo.isStaticField());
+        out.writeBoolean(fieldInfo.isFinalField());
+        out.writeBoolean(fieldInfo.isDirectlyAccessible());
+        writeConstant(out, fieldInfo.getConstantValue());
+    }
+
+    private FieldInfo readField(DataInput in) throws IOException {
+        FieldInfo fieldInfo = new FieldInfo(in.readUTF(), in.readUTF());
+        fieldInfo.setInheritanceLevel(in.readInt());
+        fieldInfo.setEffectiveInheritanceLevel(in.readInt());
+        fieldInfo.setStaticField(in.readBoolean());
+        fieldInfo.setFinalField(in.readBoolean());
+        fieldInfo.setDirectlyAccessible(in.readBoolean());
+        fieldInfo.setConstantValue(readConstant(in));
+        return fieldInfo;
+    }
+
+    private void writeMethod(DataOutput out, MethodInfo methodInfo, Map<TypeElement, Map<Element, Integer>> mapTypeToElementIndexes) throws IOException {
+        ExecutableElement element = methodInfo.getElement();
+        TypeElement declaringTypeElement = (TypeElement) element.getEnclosingElement();
+        Map<Element, Integer> mapElementToIndex = mapTypeToElementIndexes.get(declaringTypeElement);
+        if (mapElementToIndex == null) {
+            mapElementToIndex = new IdentityHashMap<Element, Integer>();
+            List<? extends Element> listEnclosedElements = declaringTypeElement.getEnclosedElements();
+            for (int indexElement = 0; indexElement < listEnclosedElements.size(); indexElement++) {
+                mapElementToIndex.put(listEnclosedElements.get(indexElement), indexElement);
+            }
+            mapTypeToElementIndexes.put(declaringTypeElement, mapElementToIndex);
+        }
+        Integer indexElement = mapElementToIndex.get(element);
+        if (indexElement == null) {
+            throw new IOException("Can't find method " + element + " in " + declaringTypeElement);
+        }
+        out.writeUTF(declaringTypeElement.getQualifiedName().toString());
+        out.writeInt(indexElement);
+        out.writeUTF(methodInfo.getMethodName());
+        out.writeUTF(methodInfo.getReturnTypeName());
+        out.writeInt(methodInfo.getParameterTypes().size());
+        for (FieldInfo parameterType : methodInfo.getParameterTypes()) {
+            writeField(out, parameterType);
+        }
+        writeStrings(out, methodInfo.getThrownTypeNames());
+        out.writeInt(methodInfo.getInheritanceLevel());
+        out.writeInt(methodInfo.getEffectiveInheritanceLevel());
+        out.writeBoolean(methodInfo.isOverriden());
+        out.writeBoolean(methodInfo.isStaticMethod());
+        out.writeBoolean(methodInfo.isDirectlyAccessible());
+    }
+
+    private MethodInfo readMethod(DataInput in, Map<String, List<? extends Element>> mapTypeNameToEnclosedElements) throws IOException {
+        String declaringTypeName = in.readUTF();
+        int indexElement = in.readInt();
+        List<? extends Element> listEnclosedElements = mapTypeNameToEnclosedElements.get(declaringTypeName);
+        if (listEnclosedElements == null) {
+            listEnclosedElements = getTypeElement(declaringTypeName).getEnclosedElements();
+            mapTypeNameToEnclosedElements.put(declaringTypeName, listEnclosedElements);
+        }
+        if (indexElement >= listEnclosedElements.size() || !(listEnclosedElements.get(indexElement) instanceof ExecutableElement)) {
+            throw new IOException("Can't find method " + indexElement + " of " + declaringTypeName);
+        }
+
+        String methodName = in.readUTF();
+        String returnTypeName = in.readUTF();
+        int parameterCount = in.readInt();
+        List<FieldInfo> listParameterTypes = new ArrayList<FieldInfo>();
+        for (int indexParameter = 0; indexParameter < parameterCount; indexParameter++) {
+            listParameterTypes.add(readField(in));
+        }
+        MethodInfo methodInfo = new MethodInfo(methodName, returnTypeName, listParameterTypes, readStrings(in));
+        methodInfo.setElement((ExecutableElement) listEnclosedElements.get(indexElement));
+        methodInfo.setInheritanceLevel(in.readInt());
+        methodInfo.setEffectiveInheritanceLevel(in.readInt());
+        methodInfo.setOverriden(in.readBoolean());
+        methodInfo.setStaticMethod(in.readBoolean());
+        methodInfo.setDirectlyAccessible(in.readBoolean());
+        return methodInfo;
+    }
+
+    private TypeElement getTypeElement(String typeName) throws IOException {
+        TypeElement typeElement = elements.getTypeElement(typeName);
+        if (typeElement == null) {
+            throw new IOException("Can't find type " + typeName);
+        }
+        return typeElement;
+    }
+
+    private void writeConstant(DataOutput out, Object constantValue) throws IOException {
+        if (constantValue instanceof String) {
+            out.writeByte(CONSTANT_STRING);
+            out.writeUTF((String) constantValue);
+        } else if (constantValue instanceof Integer) {
+            out.writeByte(CONSTANT_INTEGER);
+            out.writeInt((Integer) constantValue);
+        } else if (constantValue instanceof Long) {
+            out.writeByte(CONSTANT_LONG);
+            out.writeLong((Long) constantValue);
+        } else if (constantValue instanceof Float) {
+            out.writeByte(CONSTANT_FLOAT);
+            out.writeFloat((Float) constantValue);
+        } else if (constantValue instanceof Double) {
+            out.writeByte(CONSTANT_DOUBLE);
+            out.writeDouble((Double) constantValue);
+        } else if (constantValue instanceof Short) {
+            out.writeByte(CONSTANT_SHORT);
+            out.writeShort((Short) constantValue);
+        } else if (constantValue instanceof Byte) {
+            out.writeByte(CONSTANT_BYTE);
+            out.writeByte((Byte) constantValue);
+        } else if (constantValue instanceof Character) {
+            out.writeByte(CONSTANT_CHARACTER);
+            out.writeChar((Character) constantValue);
+        } else if (constantValue instanceof Boolean) {
+            out.writeByte(CONSTANT_BOOLEAN);
+            out.writeBoolean((Boolean) constantValue);
+        } else {
+            out.writeByte(CONSTANT_NONE);
+        }
+    }
+
+    private Object readConstant(DataInput in) throws IOException {
+        byte constantType = in.readByte();
+        switch (constantType) {
+        case CONSTANT_NONE:
+            return null;
+        case CONSTANT_STRING:
+            return in.readUTF();
+        case CONSTANT_INTEGER:
+            return in.readInt();
+        case CONSTANT_LONG:
+            return in.readLong();
+        case CONSTANT_FLOAT:
+            return in.readFloat();
+        case CONSTANT_DOUBLE:
+            return in.readDouble();
+        case CONSTANT_SHORT:
+            return in.readShort();
+        case CONSTANT_BYTE:
+            return in.readByte();
+        case CONSTANT_CHARACTER:
+            return in.readChar();
+        case CONSTANT_BOOLEAN:
+            return in.readBoolean();
+        default:
+            throw new IOException("Unknown constant type " + constantType);
+        }
+    }
+
+    private void writeStrings(DataOutput out, List<String> listStrings) throws IOException {
+        out.writeInt(listStrings.size());
+        for (String string : listStrings) {
+            out.writeUTF(string);
+        }
+    }
+
+    private List<String> readStrings(DataInput in) throws IOException {
+        int stringCount = in.readInt();
+        List<String> listStrings = new ArrayList<String>(stringCount);
+        for (int indexString = 0; indexString < stringCount; indexString++) {
+            listStrings.add(in.readUTF());
+        }
+        return listStrings;
+    }
+
+    private void writeNullableString(DataOutput out, String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            out.writeUTF(string);
+        }
+    }
+
+    private String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // ----------------------------------
+    // INNER CLASSES
+    // ----------------------------------
+
+    /** A scan, as stored in the cache file. Its payload is only decoded when the scan is used. */
+    private static final class Entry {
+        private final long fingerprint;
+        private final List<String> listOfVisitedTypes;
+        private final ByteBuffer payload;
+
+        private Entry(long fingerprint, List<String> listOfVisitedTypes, ByteBuffer payload) {
+            this.fingerprint = fingerprint;
+            this.listOfVisitedTypes = listOfVisitedTypes;
+            this.payload = payload;
+        }
+    }
+
+    /** Reads a buffer, mapped or not, without copying it. */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int readCount = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, readCount);
+            return readCount;
+        }
+    }
+}
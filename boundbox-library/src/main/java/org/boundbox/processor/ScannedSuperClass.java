@@ -0,0 +1,22 @@
+package org.boundbox.processor;
+
+import java.util.List;
+
+import lombok.Data;
+
+import org.boundbox.model.ClassInfo;
+
+/**
+ * Result of the scan of a super class and of all its own super classes. Members of the super class are at inheritance
+ * level 1, as if their subclass was at level 0.
+ */
+@SuppressWarnings("PMD.UnusedPrivateField")
+@Data
+class ScannedSuperClass {
+    /** Members, imports and names of super classes found during the scan. */
+    private final ClassInfo classInfo;
+    /** Types that are not visible from the BoundBox package, found during the scan. */
+    private final List<String> listOfInvisibleTypes;
+    /** Names of all types visited during the scan : the super class, its own super classes and their inner classes. */
+    private final List<String> listOfVisitedTypes;
+}
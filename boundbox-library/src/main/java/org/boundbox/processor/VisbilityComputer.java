@@ -1,23 +1,47 @@
 package org.boundbox.processor;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
 
+import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
 
 
+/**
+ * Computes whether or not types and members are visible from the package of a BoundBox.
+ * Visibility of types and their visible super types are computed once per package of BoundBox,
+ * until {@link #clearComputedVisibilities()} is called.
+ */
 public class VisbilityComputer {
     
     @Getter
     @Setter
     private String boundBoxPackageName;
+    private Map<TypeKey, Boolean> mapTypeKeyToVisibility = new HashMap<TypeKey, Boolean>();
+    private Map<TypeKey, TypeElement> mapTypeKeyToVisibleSuperType = new HashMap<TypeKey, TypeElement>();
+
+    /**
+     * Forgets all visibilities computed so far. Elements are not shared between processing rounds,
+     * so this must be called at the beginning of each round.
+     */
+    public void clearComputedVisibilities() {
+        mapTypeKeyToVisibility.clear();
+        mapTypeKeyToVisibleSuperType.clear();
+    }
 
     public TypeElement findVisibleSuperType(TypeMirror typeMirror) {
         if (typeMirror.getKind() == TypeKind.DECLARED) {
@@ -30,6 +54,16 @@ public class VisbilityComputer {
     }
 
     public TypeElement findVisibleSuperType(TypeElement e) {
+        TypeKey typeKey = new TypeKey(e, boundBoxPackageName);
+        TypeElement visibleSuperType = mapTypeKeyToVisibleSuperType.get(typeKey);
+        if (visibleSuperType == null) {
+            visibleSuperType = doFindVisibleSuperType(e);
+            mapTypeKeyToVisibleSuperType.put(typeKey, visibleSuperType);
+        }
+        return visibleSuperType;
+    }
+
+    private TypeElement doFindVisibleSuperType(TypeElement e) {
         TypeElement typeElement = e;
         while (!computeVisibility(typeElement)) {
             if (typeElement.asType().getKind() == TypeKind.DECLARED) {
@@ -57,6 +91,16 @@ public class VisbilityComputer {
     }
 
     public boolean computeVisibility(TypeElement e) {
+        TypeKey typeKey = new TypeKey(e, boundBoxPackageName);
+        Boolean isVisible = mapTypeKeyToVisibility.get(typeKey);
+        if (isVisible == null) {
+            isVisible = doComputeVisibility(e);
+            mapTypeKeyToVisibility.put(typeKey, isVisible);
+        }
+        return isVisible;
+    }
+
+    private boolean doComputeVisibility(TypeElement e) {
 
         // for nested classes, all outer classes must be visible too
         TypeMirror outerType = e.asType();
@@ -90,9 +134,107 @@ public class VisbilityComputer {
         return false;
     }
 
+    /**
+     * Computes whether or not a field can be accessed directly from the BoundBox package,
+     * i.e. without reflection.
+     * @param e a field.
+     * @return true if the field and its type are visible from the BoundBox package.
+     */
+    public boolean computeVisibility(VariableElement e) {
+        return computeVisibilityOfMember(e) && computeVisibilityOfSignatureType(e.asType());
+    }
+
+    /**
+     * Computes whether or not a method or a constructor can be invoked directly from the BoundBox package,
+     * i.e. without reflection.
+     * @param e a method or a constructor.
+     * @return true if the method and all types of its signature are visible from the BoundBox package.
+     */
+    public boolean computeVisibility(ExecutableElement e) {
+        if (!computeVisibilityOfMember(e) || !computeVisibilityOfSignatureType(e.getReturnType())) {
+            return false;
+        }
+        for (VariableElement param : e.getParameters()) {
+            if (!computeVisibilityOfSignatureType(param.asType())) {
+                return false;
+            }
+        }
+        for (TypeMirror thrownType : e.getThrownTypes()) {
+            if (!computeVisibilityOfSignatureType(thrownType)) {
+                return false;
+            }
+        }
+        if (e.getKind() == ElementKind.CONSTRUCTOR) {
+            // abstract classes can't be instanciated and inner classes need an enclosing instance
+            TypeElement typeElement = (TypeElement) e.getEnclosingElement();
+            boolean isAbstract = typeElement.getModifiers().contains(Modifier.ABSTRACT);
+            boolean isInnerClass = typeElement.getNestingKind().isNested() && !typeElement.getModifiers().contains(Modifier.STATIC);
+            return !isAbstract && !isInnerClass;
+        }
+        return true;
+    }
+
+    /**
+     * Computes whether or not a type of the signature of a member can be named in the BoundBox package. Unlike
+     * {@link #computeVisibility(TypeMirror)}, arrays are only visible if their component type is, and parameterized
+     * types if their type arguments are.
+     */
+    private boolean computeVisibilityOfSignatureType(TypeMirror typeMirror) {
+        switch (typeMirror.getKind()) {
+        case ARRAY:
+            return computeVisibilityOfSignatureType(((ArrayType) typeMirror).getComponentType());
+        case DECLARED:
+            if (!computeVisibility(typeMirror)) {
+                return false;
+            }
+            for (TypeMirror typeArgument : ((DeclaredType) typeMirror).getTypeArguments()) {
+                if (!computeVisibilityOfSignatureType(typeArgument)) {
+                    return false;
+                }
+            }
+            return true;
+        case WILDCARD:
+            WildcardType wildcardType = (WildcardType) typeMirror;
+            TypeMirror extendsBound = wildcardType.getExtendsBound();
+            TypeMirror superBound = wildcardType.getSuperBound();
+            return (extendsBound == null || computeVisibilityOfSignatureType(extendsBound))
+                    && (superBound == null || computeVisibilityOfSignatureType(superBound));
+        default:
+            return true;
+        }
+    }
+
+    private boolean computeVisibilityOfMember(Element e) {
+        TypeElement typeElement = (TypeElement) e.getEnclosingElement();
+        if (!computeVisibility(typeElement)) {
+            return false;
+        }
+        if (e.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        // protected members are visible in their package too
+        boolean isPrivate = e.getModifiers().contains(Modifier.PRIVATE);
+        return !isPrivate && findPackageName(typeElement).equals(boundBoxPackageName);
+    }
+
+    private String findPackageName(Element e) {
+        Element element = e;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
     private boolean isInBoundBoxPackage(Element e) {
         PackageElement packageOfOuterElement = (PackageElement) e.getEnclosingElement();
         String packageOfElement = packageOfOuterElement.getQualifiedName().toString();
         return packageOfElement.equals(boundBoxPackageName);
     }
+
+    /** Identifies a type seen from the package of a BoundBox. */
+    @Data
+    private static final class TypeKey {
+        private final TypeElement typeElement;
+        private final String boundBoxPackageName;
+    }
 }
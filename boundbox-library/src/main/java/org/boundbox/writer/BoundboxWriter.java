@@ -7,8 +7,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.lang.model.element.Modifier;
@@ -19,12 +25,19 @@ import lombok.Setter;
 import lombok.extern.java.Log;
 
 import org.apache.commons.lang3.StringUtils;
+import org.boundbox.Backend;
 import org.boundbox.BoundBoxException;
+import org.boundbox.Layout;
+import org.boundbox.Resolution;
 import org.boundbox.model.ClassInfo;
 import org.boundbox.model.FieldInfo;
 import org.boundbox.model.Inheritable;
 import org.boundbox.model.InnerClassInfo;
 import org.boundbox.model.MethodInfo;
+import org.boundbox.runtime.AbstractIndexedBoundBox;
+import org.boundbox.runtime.BoundBoxSnapshot;
+import org.boundbox.runtime.Invoker;
+import org.boundbox.runtime.MemberCache;
 
 import com.squareup.javawriter.JavaWriter;
 
@@ -36,6 +49,36 @@ public class BoundboxWriter {
     // ----------------------------------
 
     private static final String SUPPRESS_WARNINGS_ALL = "SuppressWarnings(\"all\")";
+    private static final String OVERRIDE = "Override";
+    //java.lang.invoke can't be referenced while BoundBox runs on Java 6
+    private static final String JAVA_LANG_INVOKE_PACKAGE = "java.lang.invoke";
+    private static final String ACCESS_MODE_GET_VOLATILE = "getVolatile";
+    private static final String ACCESS_MODE_SET_RELEASE = "setRelease";
+    private static final String ACCESS_MODE_COMPARE_AND_SET = "compareAndSet";
+    private static final String ACCESS_MODE_GET_AND_ADD = "getAndAdd";
+    private static final List<String> NUMERIC_PRIMITIVE_TYPES = Arrays.asList("byte", "short", "char", "int", "long", "float", "double");
+    private static final List<String> PRIMITIVE_TYPES = Arrays.asList("boolean", "byte", "short", "char", "int", "long", "float", "double");
+    private static final String ATOMIC_REFERENCE_ARRAY = "java.util.concurrent.atomic.AtomicReferenceArray<Object>";
+    private static final String DISPATCHER_GET = "get";
+    private static final String DISPATCHER_SET = "set";
+    private static final String DISPATCHER_INVOKE = "invoke";
+    private static final String DISPATCHER_NEW_INSTANCE = "newInstance";
+    private static final String DISPATCHER_MEMBER = "member";
+    private static final String DISPATCHER_LOOKUP = "lookup";
+    private static final String DISPATCHER_MEMBERS = "members";
+    private static final String INDEXED_REBIND = "boundBox_rebind";
+    private static final String INDEXED_FIELD_COUNT = "boundBox_fieldCount";
+    private static final String INDEXED_FIELD_NAME = "boundBox_fieldName";
+    private static final String INDEXED_GET_FIELD = "boundBox_getField";
+    private static final String INDEXED_SET_FIELD = "boundBox_setField";
+    private static final String INDEXED_SNAPSHOT = "boundBox_snapshot";
+    private static final String INDEXED_RESTORE = "boundBox_restore";
+    private static final String INDEXED_DIFF = "boundBox_diff";
+    private static final int SNAPSHOT_FIELDS_PER_METHOD = 500;
+    private static final int LOOKUPS_PER_METHOD = 500;
+    private static final String JAVA_UTIL_FUNCTION_PACKAGE = "java.util.function";
+    /** Primitive types whose fields have getters and setters specialized in java.util.function, other types are boxed. */
+    private static final List<String> SPECIALIZED_ACCESSOR_TYPES = Arrays.asList("int", "long", "double");
 
     // ----------------------------------
     // ATTRIBUTES
@@ -54,6 +97,38 @@ public class BoundboxWriter {
     @NonNull
     private String boundBoxPackageName = StringUtils.EMPTY;
 
+    @Setter
+    @Getter
+    @NonNull
+    private Resolution resolution = Resolution.LAZY;
+
+    @Setter
+    @Getter
+    @NonNull
+    private Backend backend = Backend.REFLECTION;
+
+    @Setter
+    @Getter
+    @NonNull
+    private Layout layout = Layout.EXPANDED;
+
+    /**
+     * Whether or not BoundBoxes return typed accessors of their members, spun with LambdaMetafactory over their
+     * handles. Requires Java 8, and a backend other than reflection.
+     */
+    @Setter
+    @Getter
+    private boolean isWritingAccessors;
+
+    /** Members looked up by the BoundBox being written. */
+    private List<MemberHandle> listMemberHandles = new ArrayList<MemberHandle>();
+    /** Members looked up by the BoundBox being written, indexed by the way they are resolved. */
+    private Map<String, MemberHandle> mapMemberHandles = new HashMap<String, MemberHandle>();
+    /** Binary names of the inner classes of the BoundBox being written, indexed by their id. */
+    private List<String> listInnerClassBinaryNames = new ArrayList<String>();
+    /** Ids of the inner classes of the BoundBox being written. Inner classes of different outer classes may be equal. */
+    private Map<InnerClassInfo, Integer> mapInnerClassIds = new IdentityHashMap<InnerClassInfo, Integer>();
+
     // ----------------------------------
     // METHODS
     // ----------------------------------
@@ -66,6 +141,29 @@ public class BoundboxWriter {
         }
     }
 
+    /**
+     * Creates a writer configured like this one. A writer keeps the members of the BoundBox being written, so BoundBoxes
+     * written concurrently need a writer each. Naming and documentation generators are stateless and shared.
+     * @return a new writer with the same settings as this one.
+     */
+    public BoundboxWriter copy() {
+        BoundboxWriter copy = newInstance();
+        copy.isWritingJavadoc = isWritingJavadoc;
+        copy.namingGenerator = namingGenerator;
+        copy.javadocGenerator = javadocGenerator;
+        copy.boundBoxPackageName = boundBoxPackageName;
+        copy.resolution = resolution;
+        copy.backend = backend;
+        copy.layout = layout;
+        copy.isWritingAccessors = isWritingAccessors;
+        return copy;
+    }
+
+    /** @return a new, unconfigured, writer of the same kind as this one. */
+    protected BoundboxWriter newInstance() {
+        return new BoundboxWriter();
+    }
+
     public void writeBoundBox(ClassInfo classInfo, Writer out) throws IOException {
         JavaWriter writer = new JavaWriter(out);
         //TODO javawriter doesn't handle imports properly. V3.0.0 should change this
@@ -83,6 +181,11 @@ public class BoundboxWriter {
         log.info("BoundClassName is " + boundClassName);
 
         String boundBoxClassName = createBoundBoxName(classInfo);
+        listMemberHandles.clear();
+        mapMemberHandles.clear();
+        listInnerClassBinaryNames.clear();
+        mapInnerClassIds.clear();
+        registerInnerClasses(classInfo, classInfo.getClassName());
 
         writer.emitPackage(boundBoxPackageName)//
         .emitEmptyLine();
@@ -95,6 +198,17 @@ public class BoundboxWriter {
         classInfo.getListImports().add(Constructor.class.getName());
         classInfo.getListImports().add(InvocationTargetException.class.getName());
         classInfo.getListImports().add(BoundBoxException.class.getName());
+        classInfo.getListImports().add(MemberCache.class.getName());
+        classInfo.getListImports().add(AbstractIndexedBoundBox.class.getName());
+        classInfo.getListImports().add(BoundBoxSnapshot.class.getName());
+        if (backend != Backend.REFLECTION) {
+            classInfo.getListImports().add(JAVA_LANG_INVOKE_PACKAGE + ".MethodHandle");
+            classInfo.getListImports().add(JAVA_LANG_INVOKE_PACKAGE + ".MethodHandles");
+            classInfo.getListImports().add(JAVA_LANG_INVOKE_PACKAGE + ".MethodType");
+        }
+        if (backend == Backend.VAR_HANDLES) {
+            classInfo.getListImports().add(JAVA_LANG_INVOKE_PACKAGE + ".VarHandle");
+        }
        
         //import boundClass if not in same package
         if( !classInfo.getBoundClassPackageName().equals(boundBoxPackageName ) ) {
@@ -121,7 +235,7 @@ public class BoundboxWriter {
             boundClassFQN = classInfo.getBoundClassPackageName()+"."+boundClassFQN;
         }
 
-        writer.beginType(boundBoxClassName, "class", EnumSet.of(Modifier.PUBLIC, Modifier.FINAL), null)
+        writer.beginType(boundBoxClassName, "class", EnumSet.of(Modifier.PUBLIC, Modifier.FINAL), AbstractIndexedBoundBox.class.getSimpleName())
         //
         .emitEmptyLine()
         //
@@ -130,7 +244,8 @@ public class BoundboxWriter {
         .emitEmptyLine();//
 
         //allow to access classes in default package. Load class via reflection.
-        String loadBoundClassStatement = "boundClass = Class.forName("+JavaWriter.stringLiteral(boundClassFQN)+")";
+        //the bound class is not initialized here, but when one of its members is first accessed.
+        String loadBoundClassStatement = "boundClass = " + createClassLoading(JavaWriter.stringLiteral(boundClassFQN), boundBoxClassName);
         writer.beginInitializer(true)//
         .beginControlFlow("try")
         .emitStatement(loadBoundClassStatement)//
@@ -148,6 +263,8 @@ public class BoundboxWriter {
         writer.endMethod()//
         .emitEmptyLine();
 
+        createRebind(writer, classInfo, boundBoxClassName);
+
         if( !classInfo.getListConstructorInfos().isEmpty() ) {
             writeCodeDecoration(writer, "Access to constructors");
             for (MethodInfo methodInfo : classInfo.getListConstructorInfos()) {
@@ -160,16 +277,32 @@ public class BoundboxWriter {
         if( !classInfo.getListFieldInfos().isEmpty() ) {
             writeCodeDecoration(writer, "Direct access to fields");
             for (FieldInfo fieldInfo : classInfo.getListFieldInfos()) {
+                String nameOfClassThatOwnsField = getSuperClassName(fieldInfo, classInfo.getListSuperClassNames());
                 writeJavadocForBoundGetter(writer, fieldInfo, classInfo);
-                createDirectGetter(writer, fieldInfo, classInfo.getListSuperClassNames());
+                if (fieldInfo.getConstantValue() != null) {
+                    createConstantGetter(writer, fieldInfo, classInfo.getListSuperClassNames());
+                } else if (fieldInfo.isDirectlyAccessible()) {
+                    createGetterWithoutReflection(writer, fieldInfo, classInfo.getListSuperClassNames());
+                } else {
+                    createDirectGetter(writer, fieldInfo, classInfo.getListSuperClassNames(), nameOfClassThatOwnsField, true);
+                }
                 if( !fieldInfo.isFinalField() ) {
                     writer.emitEmptyLine();
                     writeJavadocForBoundSetter(writer, fieldInfo, classInfo);
-                    createDirectSetter(writer, fieldInfo, classInfo.getListSuperClassNames());
+                    if (fieldInfo.isDirectlyAccessible()) {
+                        createSetterWithoutReflection(writer, fieldInfo, classInfo.getListSuperClassNames());
+                    } else {
+                        createDirectSetter(writer, fieldInfo, classInfo.getListSuperClassNames(), nameOfClassThatOwnsField, true);
+                    }
+                }
+                if (backend == Backend.VAR_HANDLES) {
+                    createAccessModeAccessors(writer, fieldInfo, classInfo, nameOfClassThatOwnsField, true);
                 }
             }
         }
 
+        createIndexedFieldAccessors(writer, classInfo.getListFieldInfos(), classInfo.getListSuperClassNames());
+
         if( !classInfo.getListMethodInfos().isEmpty() ) {
             writeCodeDecoration(writer, "Access to methods");
             for (MethodInfo methodInfo : classInfo.getListMethodInfos()) {
@@ -195,44 +328,36 @@ public class BoundboxWriter {
             for (InnerClassInfo innerClassInfo : classInfo.getListInnerClassInfo()) {
                 writer.emitEmptyLine();
                 writeJavadocForBoundInnerClass(writer, innerClassInfo);
-                createInnerClassWrapper(writer, classInfo, innerClassInfo);
+                createInnerClassWrapper(writer, innerClassInfo);
             }
         }
 
+        if (isWritingAccessors && backend != Backend.REFLECTION) {
+            createAccessors(writer, classInfo, boundBoxClassName);
+        }
+
+        createInnerClassHandles(writer);
+        createMemberHandles(writer);
 
         writer.endType();
     }
 
-    private void createInnerClassWrapper(JavaWriter writer, ClassInfo classInfo, InnerClassInfo innerClassInfo) throws IOException {
+    private void createInnerClassWrapper(JavaWriter writer, InnerClassInfo innerClassInfo) throws IOException {
         EnumSet<Modifier> modifiers = EnumSet.of(Modifier.PUBLIC, Modifier.FINAL);
         if (innerClassInfo.isStaticInnerClass()) {
             modifiers.add(Modifier.STATIC);
         }
         String boundBoxClassName = createBoundBoxName(innerClassInfo);
-        String enclosingBoundBoxClassName = createBoundBoxName(classInfo);
-        String thisOrNot = ((classInfo instanceof InnerClassInfo) && !((InnerClassInfo) classInfo).isStaticInnerClass()) ? ".this" : "";
         EnumSet<Modifier> boundClassFieldModifiers = EnumSet.of(Modifier.PRIVATE);
         if (innerClassInfo.isStaticInnerClass()) {
             boundClassFieldModifiers.add(Modifier.STATIC);
         }
-        writer.beginType(boundBoxClassName, "class", modifiers, null)
+        writer.beginType(boundBoxClassName, "class", modifiers, AbstractIndexedBoundBox.class.getSimpleName())
         .emitEmptyLine();
 
         writer.emitField(Object.class.getName(), "boundObject", EnumSet.of(Modifier.PRIVATE))
         //
-        .emitField("Class<?>", "boundClass", boundClassFieldModifiers)//
-        .emitEmptyLine();//
-
-        
-        
-        writer.beginInitializer(innerClassInfo.isStaticInnerClass())
-        .emitSingleLineComment("We must dynamically retrieve the inner class as of %s", "http://stackoverflow.com/q/2883181/693752")
-        .beginControlFlow("for(Class<?> clazz : "+enclosingBoundBoxClassName+thisOrNot +".boundClass.getDeclaredClasses())")
-        .beginControlFlow("if( clazz.getSimpleName().equals("+JavaWriter.stringLiteral(innerClassInfo.getBoundClassName())+"))")
-        .emitStatement("boundClass = clazz")
-        .endControlFlow()
-        .endControlFlow()
-        .endInitializer()
+        .emitField("Class<?>", "boundClass", boundClassFieldModifiers, createInnerClassResolution(innerClassInfo))//
         .emitEmptyLine();//
         
         writeJavadocForBoundBoxConstructor(writer, innerClassInfo);
@@ -241,26 +366,38 @@ public class BoundboxWriter {
         .endMethod()//
         .emitEmptyLine();
 
+        createRebind(writer, innerClassInfo, boundBoxClassName);
+
         if( !innerClassInfo.getListFieldInfos().isEmpty() ) {
             writeCodeDecoration(writer, "Direct access to fields");
             for (FieldInfo fieldInfo : innerClassInfo.getListFieldInfos()) {
+                String nameOfClassThatOwnsField = getSuperClassChain(fieldInfo, innerClassInfo);
                 writeJavadocForBoundGetter(writer, fieldInfo, innerClassInfo);
-                createDirectGetterForInnerClass(writer, fieldInfo, innerClassInfo.getListSuperClassNames());
+                if (fieldInfo.getConstantValue() != null) {
+                    createConstantGetter(writer, fieldInfo, innerClassInfo.getListSuperClassNames());
+                } else {
+                    createDirectGetter(writer, fieldInfo, innerClassInfo.getListSuperClassNames(), nameOfClassThatOwnsField, isCompact());
+                }
                 if( !fieldInfo.isFinalField() ) {
                     writer.emitEmptyLine();
                     writeJavadocForBoundSetter(writer, fieldInfo, innerClassInfo);
-                    createDirectSetterForInnerClass(writer, fieldInfo, innerClassInfo.getListSuperClassNames());
+                    createDirectSetter(writer, fieldInfo, innerClassInfo.getListSuperClassNames(), nameOfClassThatOwnsField, isCompact());
+                }
+                if (backend == Backend.VAR_HANDLES) {
+                    createAccessModeAccessors(writer, fieldInfo, innerClassInfo, nameOfClassThatOwnsField, false);
                 }
             }
         }
 
+        createIndexedFieldAccessors(writer, innerClassInfo.getListFieldInfos(), innerClassInfo.getListSuperClassNames());
+
         if( !innerClassInfo.getListMethodInfos().isEmpty() ) {
             writeCodeDecoration(writer, "Access to methods");
             for (MethodInfo methodInfo : innerClassInfo.getListMethodInfos()) {
                 if( !methodInfo.isInstanceInitializer() && !methodInfo.isStaticInitializer() ) {
                     writer.emitEmptyLine();
                     writeJavadocForBoundMethod(writer, innerClassInfo, methodInfo);
-                    createMethodWrapperForInnerClass(writer, methodInfo, innerClassInfo.getListSuperClassNames());
+                    createMethodWrapperForInnerClass(writer, methodInfo, innerClassInfo);
                 }
             }
         }
@@ -279,7 +416,7 @@ public class BoundboxWriter {
             for (InnerClassInfo innerInnerClassInfo : innerClassInfo.getListInnerClassInfo()) {
                 writer.emitEmptyLine();
                 writeJavadocForBoundInnerClass(writer, innerInnerClassInfo);
-                createInnerClassWrapper(writer, innerClassInfo, innerInnerClassInfo);
+                createInnerClassWrapper(writer, innerInnerClassInfo);
             }
         }
 
@@ -290,7 +427,7 @@ public class BoundboxWriter {
         return namingGenerator.createBoundBoxName(classInfo);
     }
 
-    private void createDirectSetter(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames) throws IOException {
+    private void createDirectSetter(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames, String nameOfClassThatOwnsField, boolean isStaticOwner) throws IOException {
         String fieldName = fieldInfo.getFieldName();
         String fieldType = fieldInfo.getFieldTypeName();
 
@@ -301,44 +438,73 @@ public class BoundboxWriter {
             modifiers.add(Modifier.STATIC);
         }
 
-        String nameOfClassThatOwnsField = getSuperClassName(fieldInfo, listSuperClassNames);
         boolean isStaticField = fieldInfo.isStaticField();
-        createSetterInvocation(writer, fieldName, fieldType, isStaticField, setterName, modifiers, nameOfClassThatOwnsField);
+        if (isCompact()) {
+            int fieldId = registerCompactField(fieldInfo, nameOfClassThatOwnsField);
+            writer.beginMethod("void", setterName, modifiers, fieldType, fieldName);
+            createCompactInvocation(writer, DISPATCHER_SET, fieldId, "void", makeParams(isStaticField ? "null" : "boundObject", fieldName));
+            writer.endMethod();
+            return;
+        }
+        String fieldResolution = createFieldResolution(fieldInfo, nameOfClassThatOwnsField, isStaticOwner, true);
+        createSetterInvocation(writer, fieldName, fieldType, isStaticField, setterName, modifiers, fieldResolution);
     }
 
-    private void createDirectSetterForInnerClass(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames) throws IOException {
-        String fieldName = fieldInfo.getFieldName();
-        String fieldType = fieldInfo.getFieldTypeName();
+    private void createSetterInvocation(JavaWriter writer, String fieldName, String fieldType, boolean isStaticField, String setterName, Set<Modifier> modifiers, String fieldResolution)
+            throws IOException {
+        writer.beginMethod("void", setterName, modifiers, fieldType, fieldName);
+        writer.beginControlFlow("try");
+        if (backend != Backend.REFLECTION) {
+            String invocationTarget = isStaticField ? "" : "boundObject";
+            String invokedMethod = backend == Backend.VAR_HANDLES ? "set" : "invokeExact";
+            createHandleInvocation(writer, fieldResolution, invokedMethod, "void", makeParams(invocationTarget, fieldName));
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Throwable.class);
+        } else {
+            writer.emitStatement("Field field = %s", fieldResolution);
+            String invocationTarget = isStaticField ? "null" : "boundObject";
+            writer.emitStatement("field.set%s(%s, %s)", createPrimitiveAccessorSuffix(fieldType), invocationTarget, fieldName);
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Exception.class);
+        }
+        writer.endMethod();
+    }
 
-        String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldName);
-        String setterName = namingGenerator.createSetterName(fieldInfo, listSuperClassNames, fieldNameCamelCase);
+    /**
+     * Creates a getter of a constant variable that returns its value, as javac would inline it.
+     */
+    private void createConstantGetter(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames) throws IOException {
+        String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldInfo.getFieldName());
+        String getterName = namingGenerator.createGetterName(fieldInfo, listSuperClassNames, fieldNameCamelCase);
         Set<Modifier> modifiers = EnumSet.of(Modifier.PUBLIC);
         if (fieldInfo.isStaticField()) {
             modifiers.add(Modifier.STATIC);
         }
 
-        String nameOfClassThatOwnsField = getSuperClassChain(fieldInfo);
-        boolean isStaticField = fieldInfo.isStaticField();
-        createSetterInvocation(writer, fieldName, fieldType, isStaticField, setterName, modifiers, nameOfClassThatOwnsField);
+        writer.beginMethod(fieldInfo.getFieldTypeName(), getterName, modifiers)
+        .emitStatement("return %s", createConstantLiteral(fieldInfo.getConstantValue()))
+        .endMethod();
     }
 
-    private void createSetterInvocation(JavaWriter writer, String fieldName, String fieldType, boolean isStaticField, String setterName, Set<Modifier> modifiers, String nameOfClassThatOwnsField)
-            throws IOException {
-        writer.beginMethod("void", setterName, modifiers, fieldType, fieldName);
-        writer.beginControlFlow("try");
-        writer.emitStatement("Field field = " + nameOfClassThatOwnsField + ".getDeclaredField(%s)", JavaWriter.stringLiteral(fieldName));
-        writer.emitStatement("field.setAccessible(true)");
-        String invocationTarget = isStaticField ? "null" : "boundObject";
-        writer.emitStatement("field.set(%s, %s)", invocationTarget, fieldName);
-        writer.endControlFlow();
-        addReflectionExceptionCatchClause(writer, Exception.class);
+    private void createSetterWithoutReflection(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames) throws IOException {
+        String fieldName = fieldInfo.getFieldName();
+        String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldName);
+        String setterName = namingGenerator.createSetterName(fieldInfo, listSuperClassNames, fieldNameCamelCase);
+        Set<Modifier> modifiers = EnumSet.of(Modifier.PUBLIC);
+        if (fieldInfo.isStaticField()) {
+            modifiers.add(Modifier.STATIC);
+        }
+
+        writer.beginMethod("void", setterName, modifiers, fieldInfo.getFieldTypeName(), fieldName)
+        .beginControlFlow("try")
+        .emitStatement("%s.%s = %s", createInvocationTargetWithoutReflection(fieldInfo, fieldInfo.isStaticField(), listSuperClassNames), fieldName, fieldName)
+        .endControlFlow();
+        addReflectionExceptionCatchClause(writer, getFieldAccessExceptionClass());
         writer.endMethod();
     }
 
-    private void createDirectGetter(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames) throws IOException {
+    private void createGetterWithoutReflection(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames) throws IOException {
         String fieldName = fieldInfo.getFieldName();
-        String fieldType = fieldInfo.getFieldTypeName();
-
         String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldName);
         String getterName = namingGenerator.createGetterName(fieldInfo, listSuperClassNames, fieldNameCamelCase);
         Set<Modifier> modifiers = EnumSet.of(Modifier.PUBLIC);
@@ -346,12 +512,23 @@ public class BoundboxWriter {
             modifiers.add(Modifier.STATIC);
         }
 
-        boolean isStaticField = fieldInfo.isStaticField();
-        String nameOfClassThatOwnsField = getSuperClassName(fieldInfo, listSuperClassNames);
-        createGetterInvocation(writer, fieldName, fieldType, isStaticField, getterName, modifiers, nameOfClassThatOwnsField);
+        writer.beginMethod(fieldInfo.getFieldTypeName(), getterName, modifiers)
+        .beginControlFlow("try")
+        .emitStatement("return %s.%s", createInvocationTargetWithoutReflection(fieldInfo, fieldInfo.isStaticField(), listSuperClassNames), fieldName)
+        .endControlFlow();
+        addReflectionExceptionCatchClause(writer, getFieldAccessExceptionClass());
+        writer.endMethod();
     }
 
-    private void createDirectGetterForInnerClass(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames) throws IOException {
+    /**
+     * @return the exceptions wrapped in a BoundBoxException when a field is accessed. Fields accessed without reflection
+     * wrap the same exceptions as the other fields of the BoundBox, so that the backend doesn't change what callers catch.
+     */
+    private Class<? extends Throwable> getFieldAccessExceptionClass() {
+        return backend == Backend.REFLECTION ? Exception.class : Throwable.class;
+    }
+
+    private void createDirectGetter(JavaWriter writer, FieldInfo fieldInfo, List<String> listSuperClassNames, String nameOfClassThatOwnsField, boolean isStaticOwner) throws IOException {
         String fieldName = fieldInfo.getFieldName();
         String fieldType = fieldInfo.getFieldTypeName();
 
@@ -363,25 +540,100 @@ public class BoundboxWriter {
         }
 
         boolean isStaticField = fieldInfo.isStaticField();
-        String nameOfClassThatOwnsField = getSuperClassChain(fieldInfo);
-        createGetterInvocation(writer, fieldName, fieldType, isStaticField, getterName, modifiers, nameOfClassThatOwnsField);
+        if (isCompact()) {
+            int fieldId = registerCompactField(fieldInfo, nameOfClassThatOwnsField);
+            writer.beginMethod(fieldType, getterName, modifiers);
+            createCompactInvocation(writer, DISPATCHER_GET, fieldId, fieldType, isStaticField ? "null" : "boundObject");
+            writer.endMethod();
+            return;
+        }
+        String fieldResolution = createFieldResolution(fieldInfo, nameOfClassThatOwnsField, isStaticOwner, false);
+        createGetterInvocation(writer, fieldType, isStaticField, getterName, modifiers, fieldResolution);
     }
 
-    private void createGetterInvocation(JavaWriter writer, String fieldName, String fieldType, boolean isStaticField, String getterName, Set<Modifier> modifiers, String nameOfClassThatOwnsField)
+    private void createGetterInvocation(JavaWriter writer, String fieldType, boolean isStaticField, String getterName, Set<Modifier> modifiers, String fieldResolution)
             throws IOException {
         writer.beginMethod(fieldType, getterName, modifiers);
         writer.beginControlFlow("try");
-        writer.emitStatement("Field field = " + nameOfClassThatOwnsField + ".getDeclaredField(%s)", JavaWriter.stringLiteral(fieldName));
-        writer.emitStatement("field.setAccessible(true)");
-        String castReturnType = createCastReturnTypeString(fieldType);
-
-        String invocationTarget = isStaticField ? "null" : "boundObject";
-        writer.emitStatement("return %s field.get(%s)", castReturnType, invocationTarget);
-        writer.endControlFlow();
-        addReflectionExceptionCatchClause(writer, Exception.class);
+        if (backend != Backend.REFLECTION) {
+            String invocationTarget = isStaticField ? "" : "boundObject";
+            String invokedMethod = backend == Backend.VAR_HANDLES ? "get" : "invokeExact";
+            createHandleInvocation(writer, fieldResolution, invokedMethod, fieldType, invocationTarget);
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Throwable.class);
+        } else {
+            writer.emitStatement("Field field = %s", fieldResolution);
+            String invocationTarget = isStaticField ? "null" : "boundObject";
+            String primitiveAccessorSuffix = createPrimitiveAccessorSuffix(fieldType);
+            if (primitiveAccessorSuffix.isEmpty()) {
+                writer.emitStatement("return %s field.get(%s)", createCastReturnTypeString(fieldType), invocationTarget);
+            } else {
+                //primitive accessors of Field don't box values
+                writer.emitStatement("return field.get%s(%s)", primitiveAccessorSuffix, invocationTarget);
+            }
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Exception.class);
+        }
         writer.endMethod();
     }
 
+    /**
+     * Creates accessors of a field that use the memory ordered and atomic access modes of its VarHandle :
+     * getVolatile, and, unless the field is final, setRelease, compareAndSet and, for numeric fields, getAndAdd.
+     */
+    private void createAccessModeAccessors(JavaWriter writer, FieldInfo fieldInfo, ClassInfo classInfo, String nameOfClassThatOwnsField, boolean isStaticOwner)
+            throws IOException {
+        String fieldName = fieldInfo.getFieldName();
+        String fieldType = fieldInfo.getFieldTypeName();
+        String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldName);
+        List<String> listSuperClassNames = classInfo.getListSuperClassNames();
+        Set<Modifier> modifiers = EnumSet.of(Modifier.PUBLIC);
+        if (fieldInfo.isStaticField()) {
+            modifiers.add(Modifier.STATIC);
+        }
+        String invocationTarget = fieldInfo.isStaticField() ? "" : "boundObject";
+
+        List<String> listAccessModes = new ArrayList<String>();
+        listAccessModes.add(ACCESS_MODE_GET_VOLATILE);
+        if (!fieldInfo.isFinalField()) {
+            listAccessModes.add(ACCESS_MODE_SET_RELEASE);
+            listAccessModes.add(ACCESS_MODE_COMPARE_AND_SET);
+            if (NUMERIC_PRIMITIVE_TYPES.contains(fieldType)) {
+                listAccessModes.add(ACCESS_MODE_GET_AND_ADD);
+            }
+        }
+
+        for (String accessMode : listAccessModes) {
+            String accessorName = namingGenerator.createAccessModeName(fieldInfo, listSuperClassNames, accessMode, fieldNameCamelCase);
+            List<String> parameters = new ArrayList<String>();
+            String returnType = fieldType;
+            if (ACCESS_MODE_SET_RELEASE.equals(accessMode)) {
+                parameters = Arrays.asList(fieldType, fieldName);
+                returnType = "void";
+            } else if (ACCESS_MODE_COMPARE_AND_SET.equals(accessMode)) {
+                parameters = Arrays.asList(fieldType, "expectedValue", fieldType, "newValue");
+                returnType = "boolean";
+            } else if (ACCESS_MODE_GET_AND_ADD.equals(accessMode)) {
+                parameters = Arrays.asList(fieldType, "delta");
+            }
+            List<String> arguments = new ArrayList<String>();
+            arguments.add(invocationTarget);
+            for (int indexParameter = 1; indexParameter < parameters.size(); indexParameter += 2) {
+                arguments.add(parameters.get(indexParameter));
+            }
+
+            writer.emitEmptyLine();
+            writeJavadocForBoundAccessMode(writer, fieldInfo, classInfo, accessMode);
+            writer.beginMethod(returnType, accessorName, modifiers, parameters, Collections.<String>emptyList());
+            writer.beginControlFlow("try");
+            String fieldResolution = createFieldResolution(fieldInfo, nameOfClassThatOwnsField, isStaticOwner, false);
+            createHandleInvocation(writer, fieldResolution, accessMode, returnType, makeParams(arguments.toArray(new String[0])));
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Throwable.class);
+            writer.endMethod();
+        }
+    }
+
     private void createInnerClassAccessor(JavaWriter writer, InnerClassInfo innerClassInfo, MethodInfo methodInfo) throws IOException {
         String returnType = methodInfo.getReturnTypeName();
         List<FieldInfo> parameterTypeList = methodInfo.getParameterTypes();
@@ -398,30 +650,38 @@ public class BoundboxWriter {
         }
         writer.beginMethod(returnType, signature, modifiers, parameters, thrownTypesCommaSeparated);
 
-        writer.beginControlFlow("try");
-
         // emit method retrieval
         String parametersTypesCommaSeparated = createListOfParametersTypesCommaSeparated(parameterTypeList);
 
-        writer.emitSingleLineComment("We must dynamically retrieve the inner class as of %s", "http://stackoverflow.com/q/2883181/693752")
-        .emitStatement("int innerClassIndex = 0;")
-        .beginControlFlow("for(Class<?> clazz : boundClass.getDeclaredClasses())")
-        .beginControlFlow("if( clazz.getSimpleName().equals("+JavaWriter.stringLiteral(innerClassInfo.getBoundClassName())+"))")
-        .emitStatement("break")
-        .endControlFlow()
-        .emitStatement("innerClassIndex++;")
-        .endControlFlow()
-        .emitEmptyLine();//
-        
-        String hiddenParameterClass = innerClassInfo.isStaticInnerClass() ? "" : "boundClass";
-        writer.emitStatement("Constructor<?> method = boundClass.getDeclaredClasses()[%s].getDeclaredConstructor(%s)", "innerClassIndex",
-                makeParams(hiddenParameterClass,parametersTypesCommaSeparated));
-        writer.emitStatement("method.setAccessible(true)");
+        String hiddenParameterClass = innerClassInfo.isStaticInnerClass() ? "" : "owner.getDeclaringClass()";
+        String constructorLookup = createLookup("getDeclaredConstructor", makeParams(hiddenParameterClass, parametersTypesCommaSeparated));
+        if (isCompact()) {
+            int constructorId = registerCompactMember("Constructor<?>", constructorLookup, NoSuchMethodException.class, createInnerClassResolution(innerClassInfo));
+            String hiddenParameter = innerClassInfo.isStaticInnerClass() ? null : "boundObject";
+            createCompactInvocation(writer, DISPATCHER_NEW_INSTANCE, constructorId, returnType, createCompactArguments(hiddenParameter, parameterTypeList));
+            writer.endMethod();
+            return;
+        }
+
+        writer.beginControlFlow("try");
+        List<String> invocationParameterTypes = createListOfParameterTypes(parameterTypeList);
+        if (!innerClassInfo.isStaticInnerClass()) {
+            invocationParameterTypes.add(0, Object.class.getName());
+        }
+        String constructorResolution = createConstructorResolution(constructorLookup, createInnerClassResolution(innerClassInfo), false, returnType, invocationParameterTypes);
 
         // emit method invocation
         String parametersNamesCommaSeparated = createListOfParametersNamesCommaSeparated(parameterTypeList);
 
         String hiddenParameter = innerClassInfo.isStaticInnerClass() ? "" : "boundObject";
+        if (backend != Backend.REFLECTION) {
+            createHandleInvocation(writer, constructorResolution, "invokeExact", returnType, makeParams(hiddenParameter,parametersNamesCommaSeparated));
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Throwable.class);
+            writer.endMethod();
+            return;
+        }
+        writer.emitStatement("Constructor<?> method = %s", constructorResolution);
         writer.emitStatement("return (%s) method.newInstance(%s)", returnType, makeParams(hiddenParameter,parametersNamesCommaSeparated));
 
         writer.endControlFlow();
@@ -458,18 +718,63 @@ public class BoundboxWriter {
         }
         writer.beginMethod(returnType, methodWrapperName, modifiers, parameters, thrownTypesCommaSeparated);
 
-        writer.beginControlFlow("try");
+        if (methodInfo.isDirectlyAccessible()) {
+            createMethodInvocationWithoutReflection(writer, methodInfo, listSuperClassNames);
+            writer.endMethod();
+            return;
+        }
 
         // emit method retrieval
         String parametersTypesCommaSeparated = createListOfParametersTypesCommaSeparated(parameterTypeList);
 
         String superClassChain = getSuperClassName(methodInfo, listSuperClassNames);
+        if (isCompact()) {
+            if (isConstructor) {
+                String constructorLookup = createLookup("getDeclaredConstructor", parametersTypesCommaSeparated);
+                int constructorId = registerCompactMember("Constructor<?>", constructorLookup, NoSuchMethodException.class, "boundClass");
+                createCompactInvocation(writer, DISPATCHER_NEW_INSTANCE, constructorId, returnType, createCompactArguments(null, parameterTypeList));
+            } else {
+                String methodLookup = createLookup("getDeclaredMethod", makeParams(JavaWriter.stringLiteral(methodName), parametersTypesCommaSeparated));
+                int methodId = registerCompactMember("Method", methodLookup, NoSuchMethodException.class, superClassChain);
+                String invocationTarget = methodInfo.isStaticMethod() ? "null" : "boundObject";
+                String invocationReturnType = methodInfo.hasReturnType() ? returnType : "void";
+                createCompactInvocation(writer, DISPATCHER_INVOKE, methodId, invocationReturnType, makeParams(invocationTarget, createCompactArguments(null, parameterTypeList)));
+            }
+            writer.endMethod();
+            return;
+        }
+
+        writer.beginControlFlow("try");
+        List<String> invocationParameterTypes = createListOfParameterTypes(parameterTypeList);
+        String parametersNamesCommaSeparated = createListOfParametersNamesCommaSeparated(parameterTypeList);
+        if (backend != Backend.REFLECTION) {
+            String handle;
+            String invocationTarget = "";
+            if (isConstructor) {
+                String constructorLookup = createLookup("getDeclaredConstructor", parametersTypesCommaSeparated);
+                handle = createConstructorResolution(constructorLookup, "boundClass", true, returnType, invocationParameterTypes);
+            } else {
+                if (!methodInfo.isStaticMethod()) {
+                    invocationParameterTypes.add(0, Object.class.getName());
+                    invocationTarget = "boundObject";
+                }
+                String methodLookup = createLookup("getDeclaredMethod", makeParams(JavaWriter.stringLiteral(methodName), parametersTypesCommaSeparated));
+                handle = createMethodResolution(methodLookup, superClassChain, true, returnType, invocationParameterTypes);
+            }
+            createHandleInvocation(writer, handle, "invokeExact", returnType, makeParams(invocationTarget, parametersNamesCommaSeparated));
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Throwable.class);
+            writer.endMethod();
+            return;
+        }
+
         if (isConstructor || methodInfo.isInstanceInitializer()) {
-            writer.emitStatement("Constructor<?> methodToInvoke = boundClass.getDeclaredConstructor(%s)", parametersTypesCommaSeparated);
+            String constructorLookup = createLookup("getDeclaredConstructor", parametersTypesCommaSeparated);
+            writer.emitStatement("Constructor<?> methodToInvoke = %s", createConstructorResolution(constructorLookup, "boundClass", true, returnType, invocationParameterTypes));
         } else {
-            writer.emitStatement("Method methodToInvoke = %s.getDeclaredMethod(%s)", superClassChain, makeParams(JavaWriter.stringLiteral(methodName), parametersTypesCommaSeparated));
+            String methodLookup = createLookup("getDeclaredMethod", makeParams(JavaWriter.stringLiteral(methodName), parametersTypesCommaSeparated));
+            writer.emitStatement("Method methodToInvoke = %s", createMethodResolution(methodLookup, superClassChain, true, returnType, invocationParameterTypes));
         }
-        writer.emitStatement("methodToInvoke.setAccessible(true)");
 
         // emit method invocation
         String returnString = "";
@@ -478,7 +783,6 @@ public class BoundboxWriter {
         }
 
         String invocationTarget = methodInfo.isStaticMethod() ? "null" : "boundObject";
-        String parametersNamesCommaSeparated = createListOfParametersNamesCommaSeparated(parameterTypeList);
         if (isConstructor) {
             writer.emitStatement("%s methodToInvoke.newInstance(%s)", returnString, parametersNamesCommaSeparated);
         } else {
@@ -496,7 +800,40 @@ public class BoundboxWriter {
         writer.endMethod();
     }
 
-    private void createMethodWrapperForInnerClass(JavaWriter writer, MethodInfo methodInfo, List<String> listSuperClassNames) throws IOException {
+    /**
+     * Invokes a method or a constructor, visible from the BoundBox, as plain java code. As for members invoked through
+     * reflection or method handles, all exceptions it throws are wrapped in a BoundBoxException.
+     */
+    private void createMethodInvocationWithoutReflection(JavaWriter writer, MethodInfo methodInfo, List<String> listSuperClassNames)
+            throws IOException {
+        String parametersNamesCommaSeparated = createListOfParametersNamesCommaSeparated(methodInfo.getParameterTypes());
+        writer.beginControlFlow("try");
+        if (methodInfo.isConstructor()) {
+            writer.emitStatement("return new %s(%s)", listSuperClassNames.get(0), parametersNamesCommaSeparated);
+        } else {
+            String invocationTarget = createInvocationTargetWithoutReflection(methodInfo, methodInfo.isStaticMethod(), listSuperClassNames);
+            String returnString = methodInfo.hasReturnType() ? "return " : "";
+            writer.emitStatement("%s%s.%s(%s)", returnString, invocationTarget, methodInfo.getMethodName(), parametersNamesCommaSeparated);
+        }
+        writer.endControlFlow();
+        // reflection wraps whatever the member throws in an InvocationTargetException, errors included
+        addReflectionExceptionCatchClause(writer, Throwable.class);
+    }
+
+    /**
+     * @return the expression that accesses a member without reflection : the class that declares it if it is static,
+     * the bound object cast to that class otherwise.
+     */
+    private String createInvocationTargetWithoutReflection(Inheritable inheritable, boolean isStatic, List<String> listSuperClassNames) {
+        String nameOfClassThatOwnsMember = listSuperClassNames.get(inheritable.getInheritanceLevel());
+        if (isStatic) {
+            return nameOfClassThatOwnsMember;
+        }
+        return "((" + nameOfClassThatOwnsMember + ") boundObject)";
+    }
+
+    private void createMethodWrapperForInnerClass(JavaWriter writer, MethodInfo methodInfo, InnerClassInfo innerClassInfo) throws IOException {
+        List<String> listSuperClassNames = innerClassInfo.getListSuperClassNames();
         String methodName = methodInfo.getMethodName();
         String returnType = methodInfo.getReturnTypeName();
         List<FieldInfo> parameterTypeList = methodInfo.getParameterTypes();
@@ -516,18 +853,35 @@ public class BoundboxWriter {
         }
         writer.beginMethod(returnType, wrapperMethodName, modifiers, parameters, thrownTypesCommaSeparated);
 
-        writer.beginControlFlow("try");
-
         // emit method retrieval
 
-        String superClassChain = getSuperClassChain(methodInfo);
-        if (parameterTypeList.isEmpty()) {
-            writer.emitStatement("Method methodToInvoke = %s.getDeclaredMethod(%s)",superClassChain, JavaWriter.stringLiteral(methodName));
-        } else {
-            String parametersTypesCommaSeparated = createListOfParametersTypesCommaSeparated(parameterTypeList);
-            writer.emitStatement("Method methodToInvoke = %s.getDeclaredMethod(%s,%s)",superClassChain, JavaWriter.stringLiteral(methodName), parametersTypesCommaSeparated);
+        String superClassChain = getSuperClassChain(methodInfo, innerClassInfo);
+        String parametersTypesCommaSeparated = createListOfParametersTypesCommaSeparated(parameterTypeList);
+        String methodLookup = createLookup("getDeclaredMethod", makeParams(JavaWriter.stringLiteral(methodName), parametersTypesCommaSeparated));
+        if (isCompact()) {
+            int methodId = registerCompactMember("Method", methodLookup, NoSuchMethodException.class, superClassChain);
+            String invocationTarget = methodInfo.isStaticMethod() ? "null" : "boundObject";
+            String invocationReturnType = methodInfo.hasReturnType() ? returnType : "void";
+            createCompactInvocation(writer, DISPATCHER_INVOKE, methodId, invocationReturnType, makeParams(invocationTarget, createCompactArguments(null, parameterTypeList)));
+            writer.endMethod();
+            return;
         }
-        writer.emitStatement("methodToInvoke.setAccessible(true)");
+
+        writer.beginControlFlow("try");
+        List<String> invocationParameterTypes = createListOfParameterTypes(parameterTypeList);
+        if (!methodInfo.isStaticMethod()) {
+            invocationParameterTypes.add(0, Object.class.getName());
+        }
+        String methodResolution = createMethodResolution(methodLookup, superClassChain, false, returnType, invocationParameterTypes);
+        if (backend != Backend.REFLECTION) {
+            String invocationTarget = methodInfo.isStaticMethod() ? "" : "boundObject";
+            createHandleInvocation(writer, methodResolution, "invokeExact", returnType, makeParams(invocationTarget, createListOfParametersNamesCommaSeparated(parameterTypeList)));
+            writer.endControlFlow();
+            addReflectionExceptionCatchClause(writer, Throwable.class);
+            writer.endMethod();
+            return;
+        }
+        writer.emitStatement("Method methodToInvoke = %s", methodResolution);
 
         // emit method invocation
 
@@ -555,6 +909,920 @@ public class BoundboxWriter {
         writer.endMethod();
     }
 
+    private String createFieldResolution(FieldInfo fieldInfo, String nameOfClassThatOwnsField, boolean isStaticOwner, boolean isSetter) {
+        String fieldLookup = createLookup("getDeclaredField", JavaWriter.stringLiteral(fieldInfo.getFieldName()));
+        if (backend == Backend.VAR_HANDLES) {
+            String varHandle = createMemberResolution("Field", fieldLookup, NoSuchFieldException.class, nameOfClassThatOwnsField, isStaticOwner, "unreflectVarHandle", null);
+            return String.format("%s(%s, %s)", namingGenerator.createRequireHandleName(), varHandle, JavaWriter.stringLiteral(fieldInfo.getFieldName()));
+        }
+        if (backend != Backend.REFLECTION) {
+            List<String> invocationParameterTypes = new ArrayList<String>();
+            if (!fieldInfo.isStaticField()) {
+                invocationParameterTypes.add(Object.class.getName());
+            }
+            String methodType;
+            if (isSetter) {
+                invocationParameterTypes.add(fieldInfo.getFieldTypeName());
+                methodType = createMethodType("void", invocationParameterTypes);
+            } else {
+                methodType = createMethodType(fieldInfo.getFieldTypeName(), invocationParameterTypes);
+            }
+            String unreflection = isSetter ? "unreflectSetter" : "unreflectGetter";
+            return createMemberResolution("Field", fieldLookup, NoSuchFieldException.class, nameOfClassThatOwnsField, isStaticOwner, unreflection, methodType);
+        }
+        return createMemberResolution("Field", fieldLookup, NoSuchFieldException.class, nameOfClassThatOwnsField, isStaticOwner, null, null);
+    }
+
+    private String createMethodResolution(String methodLookup, String nameOfClassThatOwnsMethod, boolean isStaticOwner, String returnType, List<String> invocationParameterTypes) {
+        if (backend != Backend.REFLECTION) {
+            String methodType = createMethodType(returnType, invocationParameterTypes);
+            return createMemberResolution("Method", methodLookup, NoSuchMethodException.class, nameOfClassThatOwnsMethod, isStaticOwner, "unreflect", methodType);
+        }
+        return createMemberResolution("Method", methodLookup, NoSuchMethodException.class, nameOfClassThatOwnsMethod, isStaticOwner, null, null);
+    }
+
+    private String createConstructorResolution(String constructorLookup, String nameOfClassThatOwnsConstructor, boolean isStaticOwner, String returnType, List<String> invocationParameterTypes) {
+        if (backend != Backend.REFLECTION) {
+            String methodType = createMethodType(returnType, invocationParameterTypes);
+            return createMemberResolution("Constructor<?>", constructorLookup, NoSuchMethodException.class, nameOfClassThatOwnsConstructor, isStaticOwner, "unreflectConstructor", methodType);
+        }
+        return createMemberResolution("Constructor<?>", constructorLookup, NoSuchMethodException.class, nameOfClassThatOwnsConstructor, isStaticOwner, null, null);
+    }
+
+    /**
+     * Registers a member that the BoundBox must look up and returns the expression that resolves it.
+     * A member of a static owner that is resolved the same way many times is registered only once.
+     * @param memberType the type of the reflection object that represents the member.
+     * @param lookup expression that looks up the member in the owner class.
+     * @param lookupException exception thrown by lookup.
+     * @param owner expression of the class that declares the member.
+     * @param isStaticOwner whether or not owner can be evaluated in a static context.
+     * @param unreflection method of MethodHandles.Lookup that turns the member into a method handle, null to use reflection.
+     * @param methodType expression of the exact MethodType of the method handle, null to use reflection.
+     * @return an expression that evaluates to the resolved member.
+     */
+    private String createMemberResolution(String memberType, String lookup, Class<? extends Exception> lookupException, String owner, boolean isStaticOwner,
+            String unreflection, String methodType) {
+        MemberHandle memberHandle = registerMember(memberType, lookup, lookupException, owner, isStaticOwner, unreflection, methodType);
+        if (unreflection != null && isStaticOwner) {
+            return namingGenerator.createHandleName(memberHandle.getId());
+        }
+        return namingGenerator.createHandleResolverName(memberHandle.getId()) + "(" + owner + ")";
+    }
+
+    private MemberHandle registerMember(String memberType, String lookup, Class<? extends Exception> lookupException, String owner, boolean isStaticOwner,
+            String unreflection, String methodType) {
+        //non static owners, like the bound class of an inner class, depend on where they are evaluated
+        String key = owner + "/" + lookup + "/" + unreflection;
+        MemberHandle memberHandle = isStaticOwner ? mapMemberHandles.get(key) : null;
+        if (memberHandle == null) {
+            memberHandle = new MemberHandle(listMemberHandles.size(), memberType, lookup, lookupException, owner, isStaticOwner, unreflection, methodType);
+            listMemberHandles.add(memberHandle);
+            if (isStaticOwner) {
+                mapMemberHandles.put(key, memberHandle);
+            }
+        }
+        return memberHandle;
+    }
+
+    /**
+     * Registers a member that the BoundBox accesses through its dispatcher, in compact layout. Its owner must be
+     * evaluable in a static context of the top level BoundBox.
+     * @return the id of the member in the table of the dispatcher.
+     */
+    private int registerCompactMember(String memberType, String lookup, Class<? extends Exception> lookupException, String owner) {
+        return registerMember(memberType, lookup, lookupException, owner, true, null, null).getId();
+    }
+
+    private int registerCompactField(FieldInfo fieldInfo, String nameOfClassThatOwnsField) {
+        String fieldLookup = createLookup("getDeclaredField", JavaWriter.stringLiteral(fieldInfo.getFieldName()));
+        return registerCompactMember("Field", fieldLookup, NoSuchFieldException.class, nameOfClassThatOwnsField);
+    }
+
+    /**
+     * Emits the whole body of a member accessor in compact layout : a single call to the dispatcher.
+     * @param dispatcher the dispatcher operation : get, set, invoke or newInstance.
+     * @param memberId id of the member in the table of the dispatcher.
+     * @param returnType return type of the accessor, void if it doesn't return anything.
+     * @param arguments arguments of the dispatcher operation, after the member id.
+     */
+    private void createCompactInvocation(JavaWriter writer, String dispatcher, int memberId, String returnType, String arguments) throws IOException {
+        String invocation = String.format("%s(%s)", namingGenerator.createDispatcherName(dispatcher), makeParams(String.valueOf(memberId), arguments));
+        if ("void".equals(returnType)) {
+            writer.emitStatement("%s", invocation);
+        } else {
+            writer.emitStatement("return %s%s", createCastReturnTypeString(returnType), invocation);
+        }
+    }
+
+    /**
+     * @return an array creation expression of the arguments of a method or a constructor. Arguments are never passed as
+     * varargs, so that a single array or null argument is not taken for the array of all arguments.
+     */
+    private String createCompactArguments(String hiddenParameter, List<FieldInfo> parameterTypeList) {
+        String arguments = makeParams(hiddenParameter, createListOfParametersNamesCommaSeparated(parameterTypeList));
+        if (arguments.isEmpty()) {
+            return "new Object[0]";
+        }
+        return "new Object[] { " + arguments + " }";
+    }
+
+    /**
+     * Gives an id to all inner classes of a class, recursively, and computes their binary names
+     * when the scanner couldn't, i.e. for inner classes declared by their enclosing class.
+     * @param classInfo the class whose inner classes are registered.
+     * @param binaryName binary name of classInfo.
+     */
+    private void registerInnerClasses(ClassInfo classInfo, String binaryName) {
+        for (InnerClassInfo innerClassInfo : classInfo.getListInnerClassInfo()) {
+            String innerClassBinaryName = innerClassInfo.getBinaryName();
+            if (innerClassBinaryName == null) {
+                innerClassBinaryName = binaryName + "$" + innerClassInfo.getClassName();
+            }
+            mapInnerClassIds.put(innerClassInfo, listInnerClassBinaryNames.size());
+            listInnerClassBinaryNames.add(innerClassBinaryName);
+            registerInnerClasses(innerClassInfo, innerClassBinaryName);
+        }
+    }
+
+    /**
+     * Returns an expression that evaluates to the class of an inner class. Inner classes are loaded by
+     * their binary name, once, the first time they are needed.
+     * @param innerClassInfo a registered inner class.
+     * @return an expression, that can be evaluated in a static context, of the class of innerClassInfo.
+     */
+    private String createInnerClassResolution(InnerClassInfo innerClassInfo) {
+        return namingGenerator.createInnerClassResolverName(mapInnerClassIds.get(innerClassInfo)) + "()";
+    }
+
+    /**
+     * Creates an expression that looks up a member of the class owner through the {@link MemberCache}, that
+     * shares lookups between all BoundBoxes.
+     * @param lookupMethod method of MemberCache that looks up the member.
+     * @param lookupParameters parameters of lookupMethod, after owner.
+     */
+    private String createLookup(String lookupMethod, String lookupParameters) {
+        return String.format("%s.%s(%s)", MemberCache.class.getSimpleName(), lookupMethod, makeParams("owner", lookupParameters));
+    }
+
+    private String createMethodType(String returnType, List<String> parameterTypes) {
+        List<String> classLiterals = new ArrayList<String>();
+        classLiterals.add(extractRawType(returnType) + ".class");
+        for (String parameterType : parameterTypes) {
+            classLiterals.add(extractRawType(parameterType) + ".class");
+        }
+        return "MethodType.methodType(" + StringUtils.join(classLiterals, ", ") + ")";
+    }
+
+    private void createHandleInvocation(JavaWriter writer, String handle, String invokedMethod, String returnType, String arguments) throws IOException {
+        if ("void".equals(returnType)) {
+            writer.emitStatement("%s.%s(%s)", handle, invokedMethod, arguments);
+        } else {
+            writer.emitStatement("return (%s) %s.%s(%s)", returnType, handle, invokedMethod, arguments);
+        }
+    }
+
+    /**
+     * Returns an expression that loads a class, with the class loader of the BoundBox, without initializing it.
+     * @param classNameLiteral string literal of the binary name of the class to load.
+     * @param boundBoxClassName name of the top level BoundBox class.
+     * @return an expression that evaluates to the loaded class and can throw a ClassNotFoundException.
+     */
+    private String createClassLoading(String classNameLiteral, String boundBoxClassName) {
+        return String.format("Class.forName(%s, false, %s.class.getClassLoader())", classNameLiteral, boundBoxClassName);
+    }
+
+    private void createInnerClassHandles(JavaWriter writer) throws IOException {
+        if (listInnerClassBinaryNames.isEmpty()) {
+            return;
+        }
+        writeCodeDecoration(writer, "Resolution of inner classes");
+        for (int innerClassId = 0; innerClassId < listInnerClassBinaryNames.size(); innerClassId++) {
+            String handleName = namingGenerator.createInnerClassHandleName(innerClassId);
+            writer.emitField("Class<?>", handleName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.VOLATILE))
+            .beginMethod("Class<?>", namingGenerator.createInnerClassResolverName(innerClassId), EnumSet.of(Modifier.PRIVATE, Modifier.STATIC))
+            .emitStatement("Class<?> innerClass = %s", handleName)
+            .beginControlFlow("if( innerClass == null )")
+            .beginControlFlow("try")
+            .emitStatement("innerClass = %s.getInnerClass(boundClass, %s)", MemberCache.class.getSimpleName(), JavaWriter.stringLiteral(listInnerClassBinaryNames.get(innerClassId)))
+            .endControlFlow();
+            addReflectionExceptionCatchClause(writer, ClassNotFoundException.class);
+            writer.emitStatement("%s = innerClass", handleName)
+            .endControlFlow()
+            .emitStatement("return innerClass")
+            .endMethod()
+            .emitEmptyLine();
+        }
+    }
+
+    private void createMemberHandles(JavaWriter writer) throws IOException {
+        if (listMemberHandles.isEmpty()) {
+            return;
+        }
+        writeCodeDecoration(writer, "Resolution of members");
+        if (backend != Backend.REFLECTION) {
+            createMethodHandles(writer);
+            return;
+        }
+        if (isCompact()) {
+            createDispatcher(writer);
+            return;
+        }
+        List<String> resolverParameters = Arrays.asList("Class<?>", "owner");
+        for (MemberHandle memberHandle : listMemberHandles) {
+            String handleName = namingGenerator.createHandleName(memberHandle.getId());
+            String resolverName = namingGenerator.createHandleResolverName(memberHandle.getId());
+            List<String> thrownTypes = Arrays.asList(memberHandle.getLookupException().getSimpleName());
+            writer.emitField(memberHandle.getHandleType(), handleName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.VOLATILE))
+            .beginMethod(memberHandle.getHandleType(), resolverName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), resolverParameters, thrownTypes)
+            .emitStatement("%s handle = %s", memberHandle.getHandleType(), handleName)
+            .beginControlFlow("if( handle == null )")
+            .emitSingleLineComment("Concurrent resolutions are harmless, they all publish an equivalent handle.")
+            .emitStatement("handle = %s", memberHandle.getLookup())
+            .emitStatement("%s = handle", handleName)
+            .endControlFlow()
+            .emitStatement("return handle")
+            .endMethod()
+            .emitEmptyLine();
+        }
+
+        if (resolution == Resolution.EAGER) {
+            writer.beginInitializer(true)
+            .beginControlFlow("try");
+            for (MemberHandle memberHandle : listMemberHandles) {
+                if (memberHandle.isStaticOwner()) {
+                    writer.emitStatement("%s(%s)", namingGenerator.createHandleResolverName(memberHandle.getId()), memberHandle.getOwner());
+                }
+            }
+            writer.endControlFlow()
+            .beginControlFlow("catch( Exception e )")
+            .emitSingleLineComment("Members that can't be resolved now are resolved, and their failure reported, on first access.")
+            .endControlFlow()
+            .endInitializer();
+        }
+    }
+
+    /**
+     * Method handles and var handles of members whose owner is known statically are constants, initialized with the BoundBox class.
+     * The others are resolved lazily, once. A member that can't be resolved gets a method handle that throws a BoundBoxException,
+     * or a null var handle that is reported when it is required.
+     */
+    private void createMethodHandles(JavaWriter writer) throws IOException {
+        List<String> resolverParameters = Arrays.asList("Class<?>", "owner");
+        String unresolvableName = namingGenerator.createUnresolvableHandleName();
+        boolean hasMethodHandles = false;
+        boolean hasVarHandles = false;
+        for (MemberHandle memberHandle : listMemberHandles) {
+            String handleType = memberHandle.getHandleType();
+            boolean isVarHandle = memberHandle.isVarHandle();
+            hasVarHandles |= isVarHandle;
+            hasMethodHandles |= !isVarHandle;
+            String handleName = namingGenerator.createHandleName(memberHandle.getId());
+            String resolverName = namingGenerator.createHandleResolverName(memberHandle.getId());
+            String handleValue = memberHandle.isStaticOwner() ? "handle" : handleName + " = handle";
+            if (memberHandle.isStaticOwner()) {
+                writer.emitField(handleType, handleName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL), resolverName + "(" + memberHandle.getOwner() + ")");
+            } else {
+                writer.emitField(handleType, handleName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.VOLATILE));
+            }
+            writer.beginMethod(handleType, resolverName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), resolverParameters, Collections.<String>emptyList());
+            if (memberHandle.isStaticOwner()) {
+                writer.emitStatement("%s handle", handleType);
+            } else {
+                writer.emitStatement("%s handle = %s", handleType, handleName)
+                .beginControlFlow("if( handle != null )")
+                .emitStatement("return handle")
+                .endControlFlow()
+                .emitSingleLineComment("Concurrent resolutions are harmless, they all publish an equivalent handle.");
+            }
+            if (isVarHandle) {
+                writer.beginControlFlow("try")
+                .emitStatement("%s member = %s", memberHandle.getMemberType(), memberHandle.getLookup())
+                .emitStatement("handle = MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).%s(member)", memberHandle.getUnreflection())
+                .endControlFlow()
+                .beginControlFlow("catch( Exception e )")
+                .emitStatement("handle = null")
+                .endControlFlow();
+            } else {
+                writer.emitStatement("MethodType type = %s", memberHandle.getMethodType())
+                .beginControlFlow("try")
+                .emitStatement("%s member = %s", memberHandle.getMemberType(), memberHandle.getLookup())
+                .emitStatement("handle = MethodHandles.lookup().%s(member).asType(type)", memberHandle.getUnreflection())
+                .endControlFlow()
+                .beginControlFlow("catch( Exception e )")
+                .emitStatement("handle = %s(type, e)", unresolvableName)
+                .endControlFlow();
+            }
+            writer.emitStatement("return %s", handleValue)
+            .endMethod()
+            .emitEmptyLine();
+        }
+
+        if (hasMethodHandles) {
+            writer.beginMethod("MethodHandle", unresolvableName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), "MethodType", "type", "Exception", "cause")
+            .emitStatement("MethodHandle thrower = MethodHandles.throwException(type.returnType(), BoundBoxException.class).bindTo(new BoundBoxException(cause))")
+            .emitStatement("return MethodHandles.dropArguments(thrower, 0, type.parameterList())")
+            .endMethod()
+            .emitEmptyLine();
+        }
+
+        if (hasVarHandles) {
+            writer.beginMethod("VarHandle", namingGenerator.createRequireHandleName(), EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), "VarHandle", "handle", "String", "fieldName")
+            .beginControlFlow("if( handle == null )")
+            .emitStatement("throw new BoundBoxException(\"Field \" + fieldName + \" can't be accessed through a VarHandle\")")
+            .endControlFlow()
+            .emitStatement("return handle")
+            .endMethod();
+        }
+    }
+
+    /**
+     * In compact layout, all members are resolved and accessed through a single table driven dispatcher. Each member is
+     * looked up once, the first time it is accessed, and kept in a table indexed by its id. A get, set, invoke and
+     * newInstance operation, each with a single exception translation, access members of the table.
+     */
+    private void createDispatcher(JavaWriter writer) throws IOException {
+        String membersName = namingGenerator.createDispatcherName(DISPATCHER_MEMBERS);
+        String memberName = namingGenerator.createDispatcherName(DISPATCHER_MEMBER);
+        String lookupName = namingGenerator.createDispatcherName(DISPATCHER_LOOKUP);
+        List<String> idParameter = Arrays.asList("int", "id");
+        List<String> thrownTypes = Arrays.asList(Exception.class.getSimpleName());
+        Set<String> setMemberTypes = new HashSet<String>();
+
+        writer.emitField(ATOMIC_REFERENCE_ARRAY, membersName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL),
+                String.format("new %s(%d)", ATOMIC_REFERENCE_ARRAY, listMemberHandles.size()))
+        .emitEmptyLine()
+        .beginMethod("Object", memberName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), idParameter, thrownTypes)
+        .emitStatement("Object member = %s.get(id)", membersName)
+        .beginControlFlow("if( member == null )")
+        .emitSingleLineComment("Concurrent resolutions are harmless, they all publish an equivalent member.")
+        .emitStatement("member = %s(id)", lookupName)
+        .emitStatement("%s.set(id, member)", membersName)
+        .endControlFlow()
+        .emitStatement("return member")
+        .endMethod()
+        .emitEmptyLine();
+
+        for (MemberHandle memberHandle : listMemberHandles) {
+            setMemberTypes.add(memberHandle.getMemberType());
+        }
+        int partCount = (listMemberHandles.size() + LOOKUPS_PER_METHOD - 1) / LOOKUPS_PER_METHOD;
+        if (partCount > 1) {
+            // the bytecode of a method can't exceed 64 KB
+            writer.beginMethod("Object", lookupName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), idParameter, thrownTypes)
+            .beginControlFlow(String.format("switch( id / %d )", LOOKUPS_PER_METHOD));
+            for (int part = 0; part < partCount; part++) {
+                writer.emitStatement("case %d : return %s%d(id)", part, lookupName, part);
+            }
+            writer.emitStatement("default : throw new IllegalArgumentException(\"No member \" + id)")
+            .endControlFlow()
+            .endMethod()
+            .emitEmptyLine();
+            for (int part = 0; part < partCount; part++) {
+                createDispatcherLookup(writer, lookupName + part, part * LOOKUPS_PER_METHOD,
+                        Math.min(listMemberHandles.size(), (part + 1) * LOOKUPS_PER_METHOD));
+            }
+        } else {
+            createDispatcherLookup(writer, lookupName, 0, listMemberHandles.size());
+        }
+
+        if (setMemberTypes.contains("Field")) {
+            createDispatcherOperation(writer, "Object", DISPATCHER_GET, Arrays.asList("int", "id", "Object", "target"), "return ((Field) %s(id)).get(target)");
+            createDispatcherOperation(writer, "void", DISPATCHER_SET, Arrays.asList("int", "id", "Object", "target", "Object", "value"),
+                    "((Field) %s(id)).set(target, value)");
+        }
+        if (setMemberTypes.contains("Method")) {
+            createDispatcherOperation(writer, "Object", DISPATCHER_INVOKE, Arrays.asList("int", "id", "Object", "target", "Object[]", "arguments"),
+                    "return ((Method) %s(id)).invoke(target, arguments)");
+        }
+        if (setMemberTypes.contains("Constructor<?>")) {
+            createDispatcherOperation(writer, "Object", DISPATCHER_NEW_INSTANCE, Arrays.asList("int", "id", "Object[]", "arguments"),
+                    "return ((Constructor<?>) %s(id)).newInstance(arguments)");
+        }
+
+        if (resolution == Resolution.EAGER) {
+            writer.beginInitializer(true)
+            .beginControlFlow(String.format("for( int id = 0; id < %d; id++ )", listMemberHandles.size()))
+            .beginControlFlow("try")
+            .emitStatement("%s(id)", memberName)
+            .endControlFlow()
+            .beginControlFlow("catch( Exception e )")
+            .emitSingleLineComment("Members that can't be resolved now are resolved, and their failure reported, on first access.")
+            .endControlFlow()
+            .endControlFlow()
+            .endInitializer();
+        }
+    }
+
+    /** Implements {@link org.boundbox.runtime.IndexedBoundBox#boundBox_rebind(Object)}, the BoundBox is returned with its own type. */
+    private void createRebind(JavaWriter writer, ClassInfo classInfo, String boundBoxClassName) throws IOException {
+        if (isWritingJavadoc) {
+            writer.emitJavadoc(javadocGenerator.generateJavadocForBoundBoxRebind(classInfo));
+        }
+        writer.emitAnnotation(OVERRIDE)
+        .beginMethod(boundBoxClassName, INDEXED_REBIND, EnumSet.of(Modifier.PUBLIC), Object.class.getName(), "boundObject")
+        .emitStatement("this.boundObject = boundObject")
+        .emitStatement("return this")
+        .endMethod()
+        .emitEmptyLine();
+    }
+
+    /**
+     * Creates factories of typed accessors of the fields and methods of the bound class. Each accessor is a
+     * functional interface spun by LambdaMetafactory over a private static bridge of the BoundBox, that invokes the
+     * constant handle of the member : the JIT can inline the whole call. Accessors are spun the first time they are
+     * requested and cached. Members accessed directly, constants and members of inner classes get no accessor.
+     */
+    private void createAccessors(JavaWriter writer, ClassInfo classInfo, String boundBoxClassName) throws IOException {
+        List<String> listSuperClassNames = classInfo.getListSuperClassNames();
+        List<FieldInfo> listAccessedFieldInfos = new ArrayList<FieldInfo>();
+        for (FieldInfo fieldInfo : classInfo.getListFieldInfos()) {
+            if (fieldInfo.getConstantValue() == null && !fieldInfo.isDirectlyAccessible()) {
+                listAccessedFieldInfos.add(fieldInfo);
+            }
+        }
+        List<MethodInfo> listInvokedMethodInfos = new ArrayList<MethodInfo>();
+        Set<String> setMethodWrapperNames = new HashSet<String>();
+        Set<String> setOverloadedMethodWrapperNames = new HashSet<String>();
+        for (MethodInfo methodInfo : classInfo.getListMethodInfos()) {
+            if (!methodInfo.isConstructor() && !methodInfo.isInstanceInitializer() && !methodInfo.isStaticInitializer() && !methodInfo.isDirectlyAccessible()) {
+                listInvokedMethodInfos.add(methodInfo);
+                String methodWrapperName = namingGenerator.createMethodName(methodInfo, listSuperClassNames);
+                if (!setMethodWrapperNames.add(methodWrapperName)) {
+                    setOverloadedMethodWrapperNames.add(methodWrapperName);
+                }
+            }
+        }
+        if (listAccessedFieldInfos.isEmpty() && listInvokedMethodInfos.isEmpty()) {
+            return;
+        }
+
+        writeCodeDecoration(writer, "Typed accessors");
+        int accessorId = 0;
+        for (FieldInfo fieldInfo : listAccessedFieldInfos) {
+            String nameOfClassThatOwnsField = getSuperClassName(fieldInfo, listSuperClassNames);
+            createFieldAccessor(writer, classInfo, fieldInfo, nameOfClassThatOwnsField, false, accessorId++);
+            if (!fieldInfo.isFinalField()) {
+                createFieldAccessor(writer, classInfo, fieldInfo, nameOfClassThatOwnsField, true, accessorId++);
+            }
+        }
+        for (MethodInfo methodInfo : listInvokedMethodInfos) {
+            boolean isOverloaded = setOverloadedMethodWrapperNames.contains(namingGenerator.createMethodName(methodInfo, listSuperClassNames));
+            createInvoker(writer, classInfo, methodInfo, isOverloaded, accessorId++);
+        }
+
+        writer.emitEmptyLine()
+        .beginMethod("Object", namingGenerator.createAccessorSpinnerName(), EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), "Class<?>", "accessorType", "String",
+                "accessorMethodName", "String", "bridgeName", "MethodType", "bridgeType")
+        .beginControlFlow("try")
+        .emitStatement("MethodHandles.Lookup lookup = MethodHandles.lookup()")
+        .emitStatement("MethodHandle bridge = lookup.findStatic(%s.class, bridgeName, bridgeType)", boundBoxClassName)
+        .emitStatement("return %s.LambdaMetafactory.metafactory(lookup, accessorMethodName, MethodType.methodType(accessorType), bridgeType, bridge, bridgeType)"
+                + ".getTarget().invoke()", JAVA_LANG_INVOKE_PACKAGE)
+        .endControlFlow();
+        addReflectionExceptionCatchClause(writer, Throwable.class);
+        writer.endMethod();
+    }
+
+    private void createFieldAccessor(JavaWriter writer, ClassInfo classInfo, FieldInfo fieldInfo, String nameOfClassThatOwnsField, boolean isSetter, int accessorId)
+            throws IOException {
+        String fieldType = fieldInfo.getFieldTypeName();
+        boolean isSpecialized = SPECIALIZED_ACCESSOR_TYPES.contains(fieldType);
+        String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldInfo.getFieldName());
+        String primitiveTypeCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldType);
+        String accessorType;
+        String accessorMethodName;
+        String bridgeType;
+        List<String> bridgeParameters = new ArrayList<String>(Arrays.asList("Object", "target"));
+        String valueType = isSpecialized ? fieldType : "Object";
+        if (isSetter) {
+            accessorType = isSpecialized ? "Obj" + primitiveTypeCamelCase + "Consumer<Object>" : "BiConsumer<Object, " + createBoxedType(fieldType) + ">";
+            accessorMethodName = "accept";
+            bridgeType = createMethodType("void", Arrays.asList("Object", valueType));
+            bridgeParameters.add(valueType);
+            bridgeParameters.add("value");
+        } else {
+            accessorType = isSpecialized ? "To" + primitiveTypeCamelCase + "Function<Object>" : "Function<Object, " + createBoxedType(fieldType) + ">";
+            accessorMethodName = isSpecialized ? "applyAs" + primitiveTypeCamelCase : "apply";
+            bridgeType = createMethodType(valueType, Arrays.asList("Object"));
+        }
+        accessorType = JAVA_UTIL_FUNCTION_PACKAGE + "." + accessorType;
+
+        String bridgeName = namingGenerator.createAccessorBridgeName(accessorId);
+        String fieldResolution = createFieldResolution(fieldInfo, nameOfClassThatOwnsField, true, isSetter);
+        String invocationTarget = fieldInfo.isStaticField() ? "" : "target";
+        writer.emitEmptyLine()
+        .beginMethod(isSetter ? "void" : valueType, bridgeName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), bridgeParameters, Collections.<String>emptyList())
+        .beginControlFlow("try");
+        if (isSetter) {
+            String value = isSpecialized ? "value" : "(" + fieldType + ") value";
+            createHandleInvocation(writer, fieldResolution, backend == Backend.VAR_HANDLES ? "set" : "invokeExact", "void", makeParams(invocationTarget, value));
+        } else {
+            createHandleInvocation(writer, fieldResolution, backend == Backend.VAR_HANDLES ? "get" : "invokeExact", fieldType, invocationTarget);
+        }
+        writer.endControlFlow();
+        addReflectionExceptionCatchClause(writer, Throwable.class);
+        writer.endMethod();
+
+        String accessorName = namingGenerator.createAccessModeName(fieldInfo, classInfo.getListSuperClassNames(), isSetter ? "setterOf" : "getterOf", fieldNameCamelCase);
+        if (isWritingJavadoc) {
+            writer.emitEmptyLine()
+            .emitJavadoc(javadocGenerator.generateJavadocForBoundAccessor(classInfo, fieldInfo, isSetter));
+        }
+        createAccessorFactory(writer, accessorType, accessorName, accessorMethodName, bridgeName, bridgeType, accessorId);
+    }
+
+    private void createInvoker(JavaWriter writer, ClassInfo classInfo, MethodInfo methodInfo, boolean isOverloaded, int accessorId) throws IOException {
+        String methodName = methodInfo.getMethodName();
+        String returnType = methodInfo.hasReturnType() ? methodInfo.getReturnTypeName() : "void";
+        List<FieldInfo> parameterTypeList = methodInfo.getParameterTypes();
+        String parametersTypesCommaSeparated = createListOfParametersTypesCommaSeparated(parameterTypeList);
+
+        List<String> invocationParameterTypes = createListOfParameterTypes(parameterTypeList);
+        List<String> listArguments = new ArrayList<String>();
+        if (!methodInfo.isStaticMethod()) {
+            invocationParameterTypes.add(0, Object.class.getName());
+            listArguments.add("target");
+        }
+        for (int index = 0; index < parameterTypeList.size(); index++) {
+            listArguments.add(String.format("(%s) arguments[%d]", parameterTypeList.get(index).getFieldTypeName(), index));
+        }
+        String methodLookup = createLookup("getDeclaredMethod", makeParams(JavaWriter.stringLiteral(methodName), parametersTypesCommaSeparated));
+        String methodResolution = createMethodResolution(methodLookup, getSuperClassName(methodInfo, classInfo.getListSuperClassNames()), true, returnType,
+                invocationParameterTypes);
+
+        String bridgeName = namingGenerator.createAccessorBridgeName(accessorId);
+        writer.emitEmptyLine()
+        .beginMethod("Object", bridgeName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), Arrays.asList("Object", "target", "Object[]", "arguments"),
+                Collections.<String>emptyList())
+        .beginControlFlow("try");
+        createHandleInvocation(writer, methodResolution, "invokeExact", returnType, StringUtils.join(listArguments, ", "));
+        if ("void".equals(returnType)) {
+            writer.emitStatement("return null");
+        }
+        writer.endControlFlow();
+        addReflectionExceptionCatchClause(writer, Throwable.class);
+        writer.endMethod();
+
+        if (isWritingJavadoc) {
+            writer.emitEmptyLine()
+            .emitJavadoc(javadocGenerator.generateJavadocForBoundInvoker(classInfo, methodInfo, parametersTypesCommaSeparated));
+        }
+        String invokerName = namingGenerator.createInvokerName(methodInfo, classInfo.getListSuperClassNames(), isOverloaded);
+        createAccessorFactory(writer, Invoker.class.getName(), invokerName, "invoke", bridgeName, createMethodType("Object", Arrays.asList("Object", "Object[]")),
+                accessorId);
+    }
+
+    private void createAccessorFactory(JavaWriter writer, String accessorType, String accessorName, String accessorMethodName, String bridgeName, String bridgeType,
+            int accessorId) throws IOException {
+        String cacheName = namingGenerator.createAccessorName(accessorId);
+        writer.emitField(accessorType, cacheName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.VOLATILE))
+        .beginMethod(accessorType, accessorName, EnumSet.of(Modifier.PUBLIC, Modifier.STATIC))
+        .emitStatement("%s accessor = %s", accessorType, cacheName)
+        .beginControlFlow("if( accessor == null )")
+        .emitSingleLineComment("Concurrent spins are harmless, they all publish an equivalent accessor.")
+        .emitStatement("accessor = (%s) %s(%s.class, %s, %s, %s)", accessorType, namingGenerator.createAccessorSpinnerName(), extractRawType(accessorType),
+                JavaWriter.stringLiteral(accessorMethodName), JavaWriter.stringLiteral(bridgeName), bridgeType)
+        .emitStatement("%s = accessor", cacheName)
+        .endControlFlow()
+        .emitStatement("return accessor")
+        .endMethod();
+    }
+
+    private String createBoxedType(String typeName) {
+        if (PRIMITIVE_TYPES.contains(typeName)) {
+            return createCastReturnTypeString(typeName).replaceAll("[()]", "");
+        }
+        return typeName;
+    }
+
+    /**
+     * Implements {@link org.boundbox.runtime.IndexedBoundBox} : each field is indexed by its position in the list of fields
+     * and accessed through its named getter and setter. Primitive variants are only overridden for the primitive types of
+     * the fields, so that they are accessed without boxing.
+     */
+    private void createIndexedFieldAccessors(JavaWriter writer, List<FieldInfo> listFieldInfos, List<String> listSuperClassNames) throws IOException {
+        writeCodeDecoration(writer, "Indexed access to fields");
+        List<String> indexParameter = Arrays.asList("int", "index");
+        String noSuchField = "default : throw new IndexOutOfBoundsException(\"No field \" + index)";
+
+        writer.emitEmptyLine()
+        .emitAnnotation(OVERRIDE)
+        .beginMethod("int", INDEXED_FIELD_COUNT, EnumSet.of(Modifier.PUBLIC))
+        .emitStatement("return %d", listFieldInfos.size())
+        .endMethod()
+        .emitEmptyLine();
+
+        writer.emitAnnotation(OVERRIDE)
+        .beginMethod("String", INDEXED_FIELD_NAME, EnumSet.of(Modifier.PUBLIC), indexParameter, Collections.<String>emptyList())
+        .beginControlFlow("switch( index )");
+        for (int index = 0; index < listFieldInfos.size(); index++) {
+            String fieldName = namingGenerator.createIndexedFieldName(listFieldInfos.get(index), listSuperClassNames);
+            writer.emitStatement("case %d : return %s", index, JavaWriter.stringLiteral(fieldName));
+        }
+        writer.emitStatement(noSuchField)
+        .endControlFlow()
+        .endMethod()
+        .emitEmptyLine();
+
+        writer.emitAnnotation(OVERRIDE)
+        .beginMethod("Object", INDEXED_GET_FIELD, EnumSet.of(Modifier.PUBLIC), indexParameter, Collections.<String>emptyList())
+        .beginControlFlow("switch( index )");
+        for (int index = 0; index < listFieldInfos.size(); index++) {
+            writer.emitStatement("case %d : return %s()", index, createIndexedGetterName(listFieldInfos.get(index), listSuperClassNames));
+        }
+        writer.emitStatement(noSuchField)
+        .endControlFlow()
+        .endMethod()
+        .emitEmptyLine();
+
+        writer.emitAnnotation(OVERRIDE)
+        .beginMethod("void", INDEXED_SET_FIELD, EnumSet.of(Modifier.PUBLIC), Arrays.asList("int", "index", "Object", "value"), Collections.<String>emptyList())
+        .beginControlFlow("switch( index )");
+        for (int index = 0; index < listFieldInfos.size(); index++) {
+            FieldInfo fieldInfo = listFieldInfos.get(index);
+            if (fieldInfo.isFinalField()) {
+                String fieldName = namingGenerator.createIndexedFieldName(fieldInfo, listSuperClassNames);
+                writer.emitStatement("case %d : throw new IllegalArgumentException(%s)", index, JavaWriter.stringLiteral("Field " + fieldName + " is final"));
+            } else {
+                String fieldType = fieldInfo.getFieldTypeName();
+                // unboxing null would throw a NullPointerException
+                String value = PRIMITIVE_TYPES.contains(fieldType) ? String.format("boundBox_checkPrimitiveValue(%d, value)", index) : "value";
+                writer.emitStatement("case %d : %s(%s%s); return", index, createIndexedSetterName(fieldInfo, listSuperClassNames),
+                        createCastReturnTypeString(fieldType), value);
+            }
+        }
+        writer.emitStatement(noSuchField)
+        .endControlFlow()
+        .endMethod();
+
+        for (String primitiveType : PRIMITIVE_TYPES) {
+            createIndexedPrimitiveFieldAccessors(writer, listFieldInfos, listSuperClassNames, primitiveType);
+        }
+
+        createIndexedSnapshot(writer, listFieldInfos, listSuperClassNames);
+    }
+
+    private void createIndexedPrimitiveFieldAccessors(JavaWriter writer, List<FieldInfo> listFieldInfos, List<String> listSuperClassNames, String primitiveType)
+            throws IOException {
+        List<Integer> listGettableIndexes = new ArrayList<Integer>();
+        List<Integer> listSettableIndexes = new ArrayList<Integer>();
+        for (int index = 0; index < listFieldInfos.size(); index++) {
+            FieldInfo fieldInfo = listFieldInfos.get(index);
+            if (primitiveType.equals(fieldInfo.getFieldTypeName())) {
+                listGettableIndexes.add(index);
+                if (!fieldInfo.isFinalField()) {
+                    listSettableIndexes.add(index);
+                }
+            }
+        }
+        String primitiveTypeCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(primitiveType);
+
+        if (!listGettableIndexes.isEmpty()) {
+            String getterName = "boundBox_get" + primitiveTypeCamelCase + "Field";
+            writer.emitEmptyLine()
+            .emitAnnotation(OVERRIDE)
+            .beginMethod(primitiveType, getterName, EnumSet.of(Modifier.PUBLIC), "int", "index")
+            .beginControlFlow("switch( index )");
+            for (int index : listGettableIndexes) {
+                writer.emitStatement("case %d : return %s()", index, createIndexedGetterName(listFieldInfos.get(index), listSuperClassNames));
+            }
+            writer.emitStatement("default : return super.%s(index)", getterName)
+            .endControlFlow()
+            .endMethod();
+        }
+
+        if (!listSettableIndexes.isEmpty()) {
+            String setterName = "boundBox_set" + primitiveTypeCamelCase + "Field";
+            writer.emitEmptyLine()
+            .emitAnnotation(OVERRIDE)
+            .beginMethod("void", setterName, EnumSet.of(Modifier.PUBLIC), "int", "index", primitiveType, "value")
+            .beginControlFlow("switch( index )");
+            for (int index : listSettableIndexes) {
+                writer.emitStatement("case %d : %s(value); return", index, createIndexedSetterName(listFieldInfos.get(index), listSuperClassNames));
+            }
+            writer.emitStatement("default : super.%s(index, value)", setterName)
+            .endControlFlow()
+            .endMethod();
+        }
+    }
+
+    /**
+     * Implements snapshots, restores and diffs of {@link org.boundbox.runtime.IndexedBoundBox} : fields are read and written
+     * through their named getters and setters, each primitive field has a slot in the longs of a
+     * {@link BoundBoxSnapshot} and each other field a slot in its objects, so that primitive values are never boxed.
+     * Fields are handled by private methods of at most {@link #SNAPSHOT_FIELDS_PER_METHOD} fields when there are more, as
+     * the bytecode of a method can't exceed 64 KB.
+     */
+    private void createIndexedSnapshot(JavaWriter writer, List<FieldInfo> listFieldInfos, List<String> listSuperClassNames) throws IOException {
+        List<String> snapshotParameter = Arrays.asList(BoundBoxSnapshot.class.getSimpleName(), "snapshot");
+        List<Integer> listSlots = computeSnapshotSlots(listFieldInfos);
+        int partCount = (listFieldInfos.size() + SNAPSHOT_FIELDS_PER_METHOD - 1) / SNAPSHOT_FIELDS_PER_METHOD;
+        int primitiveFieldCount = 0;
+        for (FieldInfo fieldInfo : listFieldInfos) {
+            if (PRIMITIVE_TYPES.contains(fieldInfo.getFieldTypeName())) {
+                primitiveFieldCount++;
+            }
+        }
+
+        writer.emitEmptyLine()
+        .emitAnnotation(OVERRIDE)
+        .beginMethod(BoundBoxSnapshot.class.getSimpleName(), INDEXED_SNAPSHOT, EnumSet.of(Modifier.PUBLIC))
+        .emitStatement("long[] primitiveValues = new long[%d]", primitiveFieldCount)
+        .emitStatement("Object[] referenceValues = new Object[%d]", listFieldInfos.size() - primitiveFieldCount);
+        if (partCount > 1) {
+            for (int part = 0; part < partCount; part++) {
+                writer.emitStatement("%s%d(primitiveValues, referenceValues)", INDEXED_SNAPSHOT, part);
+            }
+        } else {
+            createSnapshotStatements(writer, listFieldInfos, listSuperClassNames, listSlots, 0);
+        }
+        writer.emitStatement("return new %s(getClass(), primitiveValues, referenceValues)", BoundBoxSnapshot.class.getSimpleName())
+        .endMethod()
+        .emitEmptyLine();
+
+        writer.emitAnnotation(OVERRIDE)
+        .beginMethod("void", INDEXED_RESTORE, EnumSet.of(Modifier.PUBLIC), snapshotParameter, Collections.<String>emptyList())
+        .emitStatement("snapshot.checkTakenBy(this)");
+        if (partCount > 1) {
+            for (int part = 0; part < partCount; part++) {
+                writer.emitStatement("%s%d(snapshot)", INDEXED_RESTORE, part);
+            }
+        } else {
+            createRestoreStatements(writer, listFieldInfos, listSuperClassNames, listSlots, 0);
+        }
+        writer.endMethod()
+        .emitEmptyLine();
+
+        writer.emitAnnotation(OVERRIDE)
+        .beginMethod("int[]", INDEXED_DIFF, EnumSet.of(Modifier.PUBLIC), snapshotParameter, Collections.<String>emptyList())
+        .emitStatement("snapshot.checkTakenBy(this)")
+        .emitStatement("int[] changedIndexes = new int[%d]", listFieldInfos.size())
+        .emitStatement("int changedCount = 0");
+        if (partCount > 1) {
+            for (int part = 0; part < partCount; part++) {
+                writer.emitStatement("changedCount = %s%d(snapshot, changedIndexes, changedCount)", INDEXED_DIFF, part);
+            }
+        } else {
+            createDiffStatements(writer, listFieldInfos, listSuperClassNames, listSlots, 0);
+        }
+        writer.emitStatement("int[] diff = new int[changedCount]")
+        .emitStatement("System.arraycopy(changedIndexes, 0, diff, 0, changedCount)")
+        .emitStatement("return diff")
+        .endMethod();
+
+        if (partCount > 1) {
+            for (int part = 0; part < partCount; part++) {
+                createSnapshotPart(writer, listFieldInfos, listSuperClassNames, listSlots, part);
+            }
+        }
+    }
+
+    private void createSnapshotPart(JavaWriter writer, List<FieldInfo> listFieldInfos, List<String> listSuperClassNames, List<Integer> listSlots, int part)
+            throws IOException {
+        writer.emitEmptyLine()
+        .beginMethod("void", INDEXED_SNAPSHOT + part, EnumSet.of(Modifier.PRIVATE), "long[]", "primitiveValues", "Object[]", "referenceValues");
+        createSnapshotStatements(writer, listFieldInfos, listSuperClassNames, listSlots, part);
+        writer.endMethod()
+        .emitEmptyLine()
+        .beginMethod("void", INDEXED_RESTORE + part, EnumSet.of(Modifier.PRIVATE), BoundBoxSnapshot.class.getSimpleName(), "snapshot");
+        createRestoreStatements(writer, listFieldInfos, listSuperClassNames, listSlots, part);
+        writer.endMethod()
+        .emitEmptyLine()
+        .beginMethod("int", INDEXED_DIFF + part, EnumSet.of(Modifier.PRIVATE), BoundBoxSnapshot.class.getSimpleName(), "snapshot", "int[]", "changedIndexes",
+                "int", "changedCount");
+        createDiffStatements(writer, listFieldInfos, listSuperClassNames, listSlots, part);
+        writer.emitStatement("return changedCount")
+        .endMethod();
+    }
+
+    private void createSnapshotStatements(JavaWriter writer, List<FieldInfo> listFieldInfos, List<String> listSuperClassNames, List<Integer> listSlots, int part)
+            throws IOException {
+        for (int index = part * SNAPSHOT_FIELDS_PER_METHOD; index < Math.min(listFieldInfos.size(), (part + 1) * SNAPSHOT_FIELDS_PER_METHOD); index++) {
+            FieldInfo fieldInfo = listFieldInfos.get(index);
+            String value = createIndexedGetterName(fieldInfo, listSuperClassNames) + "()";
+            if (PRIMITIVE_TYPES.contains(fieldInfo.getFieldTypeName())) {
+                writer.emitStatement("primitiveValues[%d] = %s", listSlots.get(index), createSnapshotEncoding(fieldInfo.getFieldTypeName(), value));
+            } else {
+                writer.emitStatement("referenceValues[%d] = %s", listSlots.get(index), value);
+            }
+        }
+    }
+
+    private void createRestoreStatements(JavaWriter writer, List<FieldInfo> listFieldInfos, List<String> listSuperClassNames, List<Integer> listSlots, int part)
+            throws IOException {
+        for (int index = part * SNAPSHOT_FIELDS_PER_METHOD; index < Math.min(listFieldInfos.size(), (part + 1) * SNAPSHOT_FIELDS_PER_METHOD); index++) {
+            FieldInfo fieldInfo = listFieldInfos.get(index);
+            if (fieldInfo.isFinalField()) {
+                String fieldName = namingGenerator.createIndexedFieldName(fieldInfo, listSuperClassNames);
+                writer.beginControlFlow("if (" + createSnapshotChangeCondition(fieldInfo, listSlots.get(index), listSuperClassNames) + ")")
+                .emitStatement("throw new IllegalArgumentException(%s)", JavaWriter.stringLiteral("Field " + fieldName + " is final"))
+                .endControlFlow();
+            } else {
+                writer.emitStatement("%s(%s)", createIndexedSetterName(fieldInfo, listSuperClassNames),
+                        createSnapshotDecoding(fieldInfo.getFieldTypeName(), listSlots.get(index)));
+            }
+        }
+    }
+
+    private void createDiffStatements(JavaWriter writer, List<FieldInfo> listFieldInfos, List<String> listSuperClassNames, List<Integer> listSlots, int part)
+            throws IOException {
+        for (int index = part * SNAPSHOT_FIELDS_PER_METHOD; index < Math.min(listFieldInfos.size(), (part + 1) * SNAPSHOT_FIELDS_PER_METHOD); index++) {
+            writer.beginControlFlow("if (" + createSnapshotChangeCondition(listFieldInfos.get(index), listSlots.get(index), listSuperClassNames) + ")")
+            .emitStatement("changedIndexes[changedCount++] = %d", index)
+            .endControlFlow();
+        }
+    }
+
+    /** @return the slot of each field in a snapshot : primitive fields and other fields are numbered separately. */
+    private List<Integer> computeSnapshotSlots(List<FieldInfo> listFieldInfos) {
+        List<Integer> listSlots = new ArrayList<Integer>();
+        int primitiveSlot = 0;
+        int referenceSlot = 0;
+        for (FieldInfo fieldInfo : listFieldInfos) {
+            if (PRIMITIVE_TYPES.contains(fieldInfo.getFieldTypeName())) {
+                listSlots.add(primitiveSlot++);
+            } else {
+                listSlots.add(referenceSlot++);
+            }
+        }
+        return listSlots;
+    }
+
+    /** @return the expression of a primitive value as a long, see {@link BoundBoxSnapshot}. */
+    private String createSnapshotEncoding(String primitiveType, String value) {
+        if ("boolean".equals(primitiveType)) {
+            return "(" + value + " ? 1L : 0L)";
+        } else if ("float".equals(primitiveType)) {
+            return "Float.floatToIntBits(" + value + ")";
+        } else if ("double".equals(primitiveType)) {
+            return "Double.doubleToLongBits(" + value + ")";
+        }
+        return value;
+    }
+
+    /** @return the expression of the value of a field in a snapshot, with the type of the field. */
+    private String createSnapshotDecoding(String fieldType, int slot) {
+        if (!PRIMITIVE_TYPES.contains(fieldType)) {
+            return createCastReturnTypeString(fieldType) + "snapshot.getReferenceValue(" + slot + ")";
+        }
+        String value = "snapshot.getPrimitiveValue(" + slot + ")";
+        if ("boolean".equals(fieldType)) {
+            return value + " != 0";
+        } else if ("float".equals(fieldType)) {
+            return "Float.intBitsToFloat((int) " + value + ")";
+        } else if ("double".equals(fieldType)) {
+            return "Double.longBitsToDouble(" + value + ")";
+        } else if ("long".equals(fieldType)) {
+            return value;
+        }
+        return "(" + fieldType + ") " + value;
+    }
+
+    private String createSnapshotChangeCondition(FieldInfo fieldInfo, int slot, List<String> listSuperClassNames) {
+        String fieldType = fieldInfo.getFieldTypeName();
+        String value = createIndexedGetterName(fieldInfo, listSuperClassNames) + "()";
+        if (!PRIMITIVE_TYPES.contains(fieldType)) {
+            return String.format("%s.hasChanged(%s, snapshot.getReferenceValue(%d))", BoundBoxSnapshot.class.getSimpleName(), value, slot);
+        }
+        return String.format("%s != snapshot.getPrimitiveValue(%d)", createSnapshotEncoding(fieldType, value), slot);
+    }
+
+    private String createIndexedGetterName(FieldInfo fieldInfo, List<String> listSuperClassNames) {
+        String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldInfo.getFieldName());
+        return namingGenerator.createGetterName(fieldInfo, listSuperClassNames, fieldNameCamelCase);
+    }
+
+    private String createIndexedSetterName(FieldInfo fieldInfo, List<String> listSuperClassNames) {
+        String fieldNameCamelCase = namingGenerator.computeCamelCaseNameStartUpperCase(fieldInfo.getFieldName());
+        return namingGenerator.createSetterName(fieldInfo, listSuperClassNames, fieldNameCamelCase);
+    }
+
+    private void createDispatcherLookup(JavaWriter writer, String lookupName, int fromId, int toId) throws IOException {
+        writer.beginMethod("Object", lookupName, EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), Arrays.asList("int", "id"),
+                Arrays.asList(Exception.class.getSimpleName()))
+        .emitStatement("Class<?> owner")
+        .beginControlFlow("switch( id )");
+        for (MemberHandle memberHandle : listMemberHandles.subList(fromId, toId)) {
+            writer.emitStatement("case %d : owner = %s; return %s", memberHandle.getId(), memberHandle.getOwner(), memberHandle.getLookup());
+        }
+        writer.emitStatement("default : throw new IllegalArgumentException(\"No member \" + id)")
+        .endControlFlow()
+        .endMethod()
+        .emitEmptyLine();
+    }
+
+    private void createDispatcherOperation(JavaWriter writer, String returnType, String operation, List<String> parameters, String statement) throws IOException {
+        writer.beginMethod(returnType, namingGenerator.createDispatcherName(operation), EnumSet.of(Modifier.PRIVATE, Modifier.STATIC), parameters,
+                Collections.<String>emptyList())
+        .beginControlFlow("try")
+        .emitStatement(statement, namingGenerator.createDispatcherName(DISPATCHER_MEMBER))
+        .endControlFlow();
+        addReflectionExceptionCatchClause(writer, Exception.class);
+        writer.endMethod()
+        .emitEmptyLine();
+    }
+
     private void writeCodeDecoration(JavaWriter writer, String decorationTitle) throws IOException {
         for( String commentLine : javadocGenerator.generateCodeDecoration(decorationTitle)) {
             writer.emitSingleLineComment(commentLine);
@@ -587,6 +1855,12 @@ public class BoundboxWriter {
         }
     }
 
+    private void writeJavadocForBoundAccessMode(JavaWriter writer, FieldInfo fieldInfo, ClassInfo classInfo, String accessMode) throws IOException {
+        if (isWritingJavadoc) {
+            writer.emitJavadoc(javadocGenerator.generateJavadocForBoundAccessMode(classInfo, fieldInfo, accessMode));
+        }
+    }
+
     private void writeJavadocForBoundGetter(JavaWriter writer, FieldInfo fieldInfo, ClassInfo classInfo) throws IOException {
         if (isWritingJavadoc) {
             writer.emitJavadoc(javadocGenerator.generateJavadocForBoundGetter(classInfo, fieldInfo));
@@ -619,20 +1893,78 @@ public class BoundboxWriter {
         return listSuperClassNames.get(inheritable.getInheritanceLevel()) + ".class";
     }
 
-    private String getSuperClassChain(Inheritable inheritable) {
-        StringBuilder superClassChain = new StringBuilder("boundClass");
+    /**
+     * @return an expression of the class that declares a member of an inner class. In compact layout, it can be evaluated
+     * in a static context of the top level BoundBox.
+     */
+    private String getSuperClassChain(Inheritable inheritable, InnerClassInfo innerClassInfo) {
+        StringBuilder superClassChain = new StringBuilder(isCompact() ? createInnerClassResolution(innerClassInfo) : "boundClass");
         for (int inheritanceLevel = 0; inheritanceLevel < inheritable.getInheritanceLevel(); inheritanceLevel++) {
             superClassChain.append(".getSuperclass()");
         }
         return superClassChain.toString();
     }
 
-    private void addReflectionExceptionCatchClause(JavaWriter writer, Class<? extends Exception> exceptionClass) throws IOException {
+    /** @return whether or not members are accessed through a dispatcher. Only reflection is supported in compact layout. */
+    private boolean isCompact() {
+        return layout == Layout.COMPACT && backend == Backend.REFLECTION;
+    }
+
+    private void addReflectionExceptionCatchClause(JavaWriter writer, Class<? extends Throwable> exceptionClass) throws IOException {
         writer.beginControlFlow("catch( " + exceptionClass.getSimpleName() + " e )");
         writer.emitStatement("throw new BoundBoxException(e)");
         writer.endControlFlow();
     }
 
+    /**
+     * @return the suffix of the methods of {@link Field} that access a field of the given type without boxing
+     * its value, like Int for getInt and setInt. An empty string if the type is not primitive.
+     */
+    private String createPrimitiveAccessorSuffix(String fieldType) {
+        if (!PRIMITIVE_TYPES.contains(fieldType)) {
+            return StringUtils.EMPTY;
+        }
+        return StringUtils.capitalize(fieldType);
+    }
+
+    /**
+     * @return the java expression of a compile-time constant, as returned by
+     * {@link javax.lang.model.element.VariableElement#getConstantValue()} : a boxed primitive or a String.
+     */
+    private String createConstantLiteral(Object constantValue) {
+        if (constantValue instanceof String) {
+            return JavaWriter.stringLiteral((String) constantValue);
+        } else if (constantValue instanceof Character) {
+            char character = (Character) constantValue;
+            if (character == '\'') {
+                return "'\\''";
+            }
+            String stringLiteral = JavaWriter.stringLiteral(String.valueOf(character));
+            return "'" + stringLiteral.substring(1, stringLiteral.length() - 1) + "'";
+        } else if (constantValue instanceof Long) {
+            return constantValue + "L";
+        } else if (constantValue instanceof Float) {
+            return createFloatingPointLiteral(((Float) constantValue).doubleValue(), "Float", constantValue + "f");
+        } else if (constantValue instanceof Double) {
+            return createFloatingPointLiteral((Double) constantValue, "Double", constantValue.toString());
+        } else if (constantValue instanceof Short) {
+            return "(short) " + constantValue;
+        } else if (constantValue instanceof Byte) {
+            return "(byte) " + constantValue;
+        }
+        // int and boolean
+        return constantValue.toString();
+    }
+
+    private String createFloatingPointLiteral(double value, String boxedType, String literal) {
+        if (Double.isNaN(value)) {
+            return boxedType + ".NaN";
+        } else if (Double.isInfinite(value)) {
+            return boxedType + (value > 0 ? ".POSITIVE_INFINITY" : ".NEGATIVE_INFINITY");
+        }
+        return literal;
+    }
+
     private String createCastReturnTypeString(String returnType) {
         String castReturnTypeString = "";
         if ("int".equals(returnType)) {
@@ -661,6 +1993,14 @@ public class BoundboxWriter {
         return castReturnTypeString;
     }
 
+    private List<String> createListOfParameterTypes(List<FieldInfo> parameterTypeList) {
+        List<String> listParameterTypes = new ArrayList<String>();
+        for (FieldInfo fieldInfo : parameterTypeList) {
+            listParameterTypes.add(fieldInfo.getFieldTypeName());
+        }
+        return listParameterTypes;
+    }
+
     private String createListOfParametersTypesCommaSeparated(List<FieldInfo> parameterTypeList) {
         List<String> listParameters = new ArrayList<String>();
         for (FieldInfo fieldInfo : parameterTypeList) {
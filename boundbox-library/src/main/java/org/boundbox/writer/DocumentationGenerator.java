@@ -34,6 +34,15 @@ public class DocumentationGenerator {
         return String.format(javadoc, StringUtils.substringAfterLast(className, "."), "boundObject", className);
     }
 
+    public String generateJavadocForBoundBoxRebind(ClassInfo classInfo) throws IOException {
+        String className = classInfo.getClassName();
+        String javadoc = "Binds this BoundBox to another instance of %s, instead of creating a new BoundBox.";
+        javadoc += " \nA BoundBox bound to several instances must not be shared between threads.";
+        javadoc += "\n@param %s the instance of {@link %s} that is bound by this BoundBox from now on.";
+        javadoc += "\n@return this BoundBox.";
+        return String.format(javadoc, StringUtils.substringAfterLast(className, "."), "boundObject", className);
+    }
+
     public String generateJavadocForBoundConstructor(ClassInfo classInfo, MethodInfo methodInfo, String parametersTypesCommaSeparated) throws IOException {
         String className = classInfo.getClassName();
         String javadoc = "Invokes a constructor of the class {@link %s}.";
@@ -64,6 +73,40 @@ public class DocumentationGenerator {
         return String.format(javadoc, fieldName, fieldName, className, className, fieldName);
     }
 
+    public String generateJavadocForBoundAccessMode(ClassInfo classInfo, FieldInfo fieldInfo, String accessMode) throws IOException {
+        String fieldName = fieldInfo.getFieldName();
+        List<String> listSuperClassNames = classInfo.getListSuperClassNames();
+        String className = listSuperClassNames.get(fieldInfo.getInheritanceLevel());
+        String javadoc = "Accesses directly the field %s with the access mode %s of its VarHandle.";
+        if ("compareAndSet".equals(accessMode)) {
+            javadoc += " \nValues of reference fields are compared by identity.";
+        }
+        javadoc += "\n@see java.lang.invoke.VarHandle#%s";
+        javadoc += "\n@see %s#%s";
+        return String.format(javadoc, fieldName, accessMode, accessMode, className, fieldName);
+    }
+
+    public String generateJavadocForBoundAccessor(ClassInfo classInfo, FieldInfo fieldInfo, boolean isSetter) throws IOException {
+        String fieldName = fieldInfo.getFieldName();
+        List<String> listSuperClassNames = classInfo.getListSuperClassNames();
+        String className = listSuperClassNames.get(fieldInfo.getInheritanceLevel());
+        String javadoc = "Returns a reusable %s of the field %s, that accesses it through its MethodHandle. \nThe %s is created once, the first time it is requested.";
+        javadoc += "\n@return a %s that takes any instance of {@link %s} as first argument.";
+        javadoc += "\n@see %s#%s";
+        String accessorKind = isSetter ? "setter" : "getter";
+        return String.format(javadoc, accessorKind, fieldName, accessorKind, accessorKind, className, className, fieldName);
+    }
+
+    public String generateJavadocForBoundInvoker(ClassInfo classInfo, MethodInfo methodInfo, String parametersTypesCommaSeparated) throws IOException {
+        String methodName = methodInfo.getMethodName();
+        List<String> listSuperClassNames = classInfo.getListSuperClassNames();
+        String className = listSuperClassNames.get(methodInfo.getInheritanceLevel());
+        String javadoc = "Returns a reusable invoker of the method %s, that invokes it through its MethodHandle. \nThe invoker is created once, the first time it is requested.";
+        javadoc += "\n@return an invoker that takes any instance of {@link %s} and the arguments of the method.";
+        javadoc += "\n@see %s#%s(%s)";
+        return String.format(javadoc, methodName, className, className, methodName, parametersTypesCommaSeparated);
+    }
+
     public String generateJavadocForBoundMethod(ClassInfo classInfo, MethodInfo methodInfo, String parametersTypesCommaSeparated) throws IOException {
         String className = classInfo.getClassName();
         String methodName = methodInfo.getMethodName();
@@ -0,0 +1,41 @@
+package org.boundbox.writer;
+
+import lombok.Data;
+
+/**
+ * A member of a bound class (field, method or constructor) that a BoundBox looks up only once. The
+ * resolved reflection object, or the method handle made out of it, is kept in a static field of the
+ * BoundBox and reused by all subsequent calls.
+ * @author SNI
+ */
+@Data
+@SuppressWarnings("PMD.UnusedPrivateField")
+class MemberHandle {
+    /** Identifies the handle inside a BoundBox. Used to name its field and resolver. */
+    private final int id;
+    /** Type of the reflection object that represents the member : Field, Method or Constructor. */
+    private final String memberType;
+    /** Expression that looks up the member in the class that declares it, named owner. */
+    private final String lookup;
+    /** Exception thrown when lookup fails. */
+    private final Class<? extends Exception> lookupException;
+    /** Expression of the class that declares the member. */
+    private final String owner;
+    /** Whether or not owner can be evaluated in a static context. */
+    private final boolean staticOwner;
+    /** Method of MethodHandles.Lookup that turns the member into a method handle or a var handle. Null when reflection is used. */
+    private final String unreflection;
+    /** Expression of the exact MethodType the method handle is adapted to. Null when reflection or a var handle is used. */
+    private final String methodType;
+
+    public boolean isVarHandle() {
+        return "unreflectVarHandle".equals(unreflection);
+    }
+
+    public String getHandleType() {
+        if (unreflection == null) {
+            return memberType;
+        }
+        return isVarHandle() ? "VarHandle" : "MethodHandle";
+    }
+}
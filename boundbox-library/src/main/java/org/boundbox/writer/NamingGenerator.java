@@ -77,6 +77,81 @@ public class NamingGenerator {
         return getterName;
     }
     
+    public String createHandleName(int handleId) {
+        return prefixMethod("_handle" + handleId);
+    }
+
+    public String createHandleResolverName(int handleId) {
+        return prefixMethod("_resolve" + handleId);
+    }
+
+    public String createInnerClassHandleName(int innerClassId) {
+        return prefixMethod("_innerClass" + innerClassId);
+    }
+
+    public String createInnerClassResolverName(int innerClassId) {
+        return prefixMethod("_resolveInnerClass" + innerClassId);
+    }
+
+    public String createAccessModeName(@NonNull FieldInfo fieldInfo, @NonNull List<String> listSuperClassNames, @NonNull String accessMode, @NonNull String fieldNameCamelCase) {
+        String accessModeName;
+        if (fieldInfo.getEffectiveInheritanceLevel() == 0) {
+            accessModeName = prefixMethod("_" + accessMode + fieldNameCamelCase);
+        } else {
+            String superClassName = extractSimpleName(listSuperClassNames.get(fieldInfo.getEffectiveInheritanceLevel()));
+            accessModeName = prefixMethod("_super_" + superClassName + "_" + accessMode + fieldNameCamelCase);
+        }
+        return accessModeName;
+    }
+
+    /** @return the name of a field, qualified by the simple name of its class when it is hidden by a sub class. */
+    public String createIndexedFieldName(@NonNull FieldInfo fieldInfo, @NonNull List<String> listSuperClassNames) {
+        if (fieldInfo.getEffectiveInheritanceLevel() == 0) {
+            return fieldInfo.getFieldName();
+        }
+        return extractSimpleName(listSuperClassNames.get(fieldInfo.getEffectiveInheritanceLevel())) + "." + fieldInfo.getFieldName();
+    }
+
+    public String createInvokerName(@NonNull MethodInfo methodInfo, @NonNull List<String> listSuperClassNames, boolean isOverloaded) {
+        StringBuilder invokerName = new StringBuilder("_invokerOf").append(computeCamelCaseNameStartUpperCase(methodInfo.getMethodName()));
+        if (isOverloaded) {
+            //overloads are told apart by the simple names of their parameter types
+            for (FieldInfo parameterInfo : methodInfo.getParameterTypes()) {
+                String parameterTypeName = extractSimpleName(parameterInfo.getFieldTypeName().replaceAll("<.*>", ""));
+                invokerName.append('_').append(parameterTypeName.replace("[]", "Array").replace("...", "Array"));
+            }
+        }
+        if (methodInfo.getEffectiveInheritanceLevel() == 0) {
+            return prefixMethod(invokerName.toString());
+        }
+        String superClassName = extractSimpleName(listSuperClassNames.get(methodInfo.getEffectiveInheritanceLevel()));
+        return prefixMethod("_super_" + superClassName + invokerName);
+    }
+
+    public String createAccessorName(int accessorId) {
+        return prefixMethod("_accessor" + accessorId);
+    }
+
+    public String createAccessorBridgeName(int accessorId) {
+        return prefixMethod("_bridge" + accessorId);
+    }
+
+    public String createAccessorSpinnerName() {
+        return prefixMethod("_spinAccessor");
+    }
+
+    public String createRequireHandleName() {
+        return prefixMethod("_require");
+    }
+
+    public String createUnresolvableHandleName() {
+        return prefixMethod("_unresolvable");
+    }
+
+    public String createDispatcherName(@NonNull String operation) {
+        return prefixMethod("_" + operation);
+    }
+
     public String computeCamelCaseNameStartUpperCase(@NonNull String fieldName) {
         return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
     }
@@ -2,21 +2,34 @@ package org.boundbox.processor;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
@@ -24,6 +37,9 @@ import javax.tools.StandardJavaFileManager;
 import javax.tools.ToolProvider;
 
 import org.apache.commons.io.FileUtils;
+import org.boundbox.Backend;
+import org.boundbox.BoundBox;
+import org.boundbox.Resolution;
 import org.boundbox.model.ClassInfo;
 import org.boundbox.model.FieldInfo;
 import org.boundbox.model.InnerClassInfo;
@@ -32,6 +48,7 @@ import org.boundbox.writer.BoundboxWriter;
 import org.boundbox.writer.NamingGenerator;
 import org.easymock.Capture;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,13 +56,18 @@ import org.junit.Test;
 //https://today.java.net/pub/a/today/2008/04/10/source-code-analysis-using-java-6-compiler-apis.html#invoking-the-compiler-from-code-the-java-compiler-api
 public class BoundBoxProcessorTest {
 
+    private static final int MAX_GC_COUNT = 10;
+    private static final long GC_PAUSE_MILLIS = 50;
+
     private BoundBoxProcessor boundBoxProcessor;
     private File sandBoxDir;
 
     @Before
     public void setup() throws IOException {
         boundBoxProcessor = new BoundBoxProcessor();
+        boundBoxProcessor.setKeepingClassInfos(true);
         BoundboxWriter mockBoundBoxWriter = EasyMock.createNiceMock(BoundboxWriter.class);
+        EasyMock.expect(mockBoundBoxWriter.copy()).andReturn(mockBoundBoxWriter).anyTimes();
         boundBoxProcessor.setBoundboxWriter(mockBoundBoxWriter);
         EasyMock.expect(mockBoundBoxWriter.getNamingGenerator()).andReturn(new NamingGenerator());
         EasyMock.expectLastCall().anyTimes();
@@ -524,6 +546,37 @@ public class BoundBoxProcessorTest {
         assertContains(listFieldInfos, FieldInfo2);
     }
 
+    @Test
+    public void testProcess_classes_with_same_super_class() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithInheritedField.java", "TestClassWithInheritedAndHidingField.java",
+                "TestClassWithSingleField.java" };
+        CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
+
+        // when
+        // Perform the compilation task.
+        task.call();
+
+        // then
+        assertEquals(3, boundBoxProcessor.getListClassInfo().size());
+        List<FieldInfo> listInheritedFieldInfos = new ArrayList<FieldInfo>();
+        for (ClassInfo classInfo : boundBoxProcessor.getListClassInfo()) {
+            if (!"TestClassWithSingleField".equals(classInfo.getClassName())) {
+                assertEquals("TestClassWithSingleField", classInfo.getListSuperClassNames().get(1));
+                for (FieldInfo fieldInfo : classInfo.getListFieldInfos()) {
+                    if (fieldInfo.getInheritanceLevel() == 1) {
+                        listInheritedFieldInfos.add(fieldInfo);
+                    }
+                }
+            }
+        }
+
+        // super class is scanned once, but each BoundBox gets its own copy of its fields
+        assertEquals(2, listInheritedFieldInfos.size());
+        assertTrue(listInheritedFieldInfos.get(0) != listInheritedFieldInfos.get(1));
+        assertEquals(listInheritedFieldInfos.get(0), listInheritedFieldInfos.get(1));
+    }
+
     // ----------------------------------
     // INHERITANCE OF METHODS
     // ----------------------------------
@@ -605,6 +658,33 @@ public class BoundBoxProcessorTest {
         assertContains(listMethodInfos, MethodInfo2);
     }
 
+    @Test
+    public void testProcess_class_with_generic_overriding_method() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithGenericOverridingMethod.java", "TestClassWithGenericMethod.java" };
+        CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
+
+        // when
+        // Perform the compilation task.
+        task.call();
+
+        // then
+        assertFalse(boundBoxProcessor.getListClassInfo().isEmpty());
+        ClassInfo classInfo = boundBoxProcessor.getListClassInfo().get(0);
+
+        List<MethodInfo> listMethodInfos = classInfo.getListMethodInfos();
+        int fooCount = 0;
+        for (MethodInfo methodInfo : listMethodInfos) {
+            if ("foo".equals(methodInfo.getMethodName())) {
+                fooCount++;
+                // foo(T) is overriden by foo(String), overloads with 2 parameters don't override each other
+                boolean isOverridenByFooOfString = methodInfo.getInheritanceLevel() == 1 && methodInfo.getParameterTypes().size() == 1;
+                assertEquals(methodInfo.toString(), isOverridenByFooOfString, methodInfo.isOverriden());
+            }
+        }
+        assertEquals(4, fooCount);
+    }
+
     // ----------------------------------
     // MAX SUPER CLASS
     // ----------------------------------
@@ -892,6 +972,8 @@ public class BoundBoxProcessorTest {
         InnerClassInfo.setEffectiveInheritanceLevel(0);
         List<InnerClassInfo> listInnerClassInfos = classInfo.getListInnerClassInfo();
         assertContains(listInnerClassInfos, InnerClassInfo);
+        // inherited inner classes are declared by the super class
+        assertEquals("TestClassWithStaticInnerClass$InnerClass", listInnerClassInfos.get(0).getBinaryName());
     }
 
     @Test
@@ -1065,6 +1147,7 @@ public class BoundBoxProcessorTest {
         CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
 
         BoundboxWriter mockBoundBoxWriter = EasyMock.createNiceMock(BoundboxWriter.class);
+        EasyMock.expect(mockBoundBoxWriter.copy()).andReturn(mockBoundBoxWriter).anyTimes();
         boundBoxProcessor.setBoundboxWriter(mockBoundBoxWriter);
         EasyMock.expect(mockBoundBoxWriter.getNamingGenerator()).andReturn(new NamingGenerator("BB", "bb"));
         EasyMock.expectLastCall().anyTimes();
@@ -1095,6 +1178,7 @@ public class BoundBoxProcessorTest {
         CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
 
         BoundboxWriter mockBoundBoxWriter = EasyMock.createNiceMock(BoundboxWriter.class);
+        EasyMock.expect(mockBoundBoxWriter.copy()).andReturn(mockBoundBoxWriter).anyTimes();
         boundBoxProcessor.setBoundboxWriter(mockBoundBoxWriter);
         EasyMock.expect(mockBoundBoxWriter.getNamingGenerator()).andReturn(new NamingGenerator("BB", "bb"));
         EasyMock.expectLastCall().anyTimes();
@@ -1118,6 +1202,130 @@ public class BoundBoxProcessorTest {
         assertEquals("bb", capturedPrefixes.getValue()[1]);
     }
 
+    // ----------------------------------
+    // RESOLUTION
+    // ----------------------------------
+    @Test
+    public void testProcess_class_with_eager_resolution() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithEagerResolution.java" };
+        CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
+
+        BoundboxWriter mockBoundBoxWriter = EasyMock.createNiceMock(BoundboxWriter.class);
+        EasyMock.expect(mockBoundBoxWriter.copy()).andReturn(mockBoundBoxWriter).anyTimes();
+        boundBoxProcessor.setBoundboxWriter(mockBoundBoxWriter);
+        EasyMock.expect(mockBoundBoxWriter.getNamingGenerator()).andReturn(new NamingGenerator());
+        EasyMock.expectLastCall().anyTimes();
+        mockBoundBoxWriter.setResolution(Resolution.EAGER);
+        EasyMock.replay(mockBoundBoxWriter);
+        // when
+        // Perform the compilation task.
+        task.call();
+
+        // then
+        assertFalse(boundBoxProcessor.getListClassInfo().isEmpty());
+        EasyMock.verify(mockBoundBoxWriter);
+    }
+
+    // ----------------------------------
+    // BACKEND
+    // ----------------------------------
+    @Test
+    public void testProcess_class_with_method_handles() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithMethodHandles.java" };
+        CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
+
+        BoundboxWriter mockBoundBoxWriter = EasyMock.createNiceMock(BoundboxWriter.class);
+        EasyMock.expect(mockBoundBoxWriter.copy()).andReturn(mockBoundBoxWriter).anyTimes();
+        boundBoxProcessor.setBoundboxWriter(mockBoundBoxWriter);
+        EasyMock.expect(mockBoundBoxWriter.getNamingGenerator()).andReturn(new NamingGenerator());
+        EasyMock.expectLastCall().anyTimes();
+        mockBoundBoxWriter.setBackend(Backend.METHOD_HANDLES);
+        EasyMock.replay(mockBoundBoxWriter);
+        // when
+        // Perform the compilation task.
+        task.call();
+
+        // then
+        assertFalse(boundBoxProcessor.getListClassInfo().isEmpty());
+        EasyMock.verify(mockBoundBoxWriter);
+    }
+
+    @Test
+    public void testProcess_class_with_var_handles_falls_back_to_method_handles_before_java_9() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithVarHandles.java" };
+        CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
+
+        BoundboxWriter mockBoundBoxWriter = EasyMock.createNiceMock(BoundboxWriter.class);
+        EasyMock.expect(mockBoundBoxWriter.copy()).andReturn(mockBoundBoxWriter).anyTimes();
+        boundBoxProcessor.setBoundboxWriter(mockBoundBoxWriter);
+        EasyMock.expect(mockBoundBoxWriter.getNamingGenerator()).andReturn(new NamingGenerator());
+        EasyMock.expectLastCall().anyTimes();
+        boolean isJava9OrLater = SourceVersion.latest().ordinal() >= 9;
+        mockBoundBoxWriter.setBackend(isJava9OrLater ? Backend.VAR_HANDLES : Backend.METHOD_HANDLES);
+        EasyMock.replay(mockBoundBoxWriter);
+        // when
+        // Perform the compilation task.
+        task.call();
+
+        // then
+        assertFalse(boundBoxProcessor.getListClassInfo().isEmpty());
+        EasyMock.verify(mockBoundBoxWriter);
+    }
+
+    @Test
+    public void testProcess_class_with_constants() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithConstants.java" };
+        CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
+
+        // when
+        // Perform the compilation task.
+        task.call();
+
+        // then
+        assertFalse(boundBoxProcessor.getListClassInfo().isEmpty());
+        ClassInfo classInfo = boundBoxProcessor.getListClassInfo().get(0);
+
+        List<FieldInfo> listFieldInfos = classInfo.getListFieldInfos();
+        assertEquals(7, listFieldInfos.size());
+        assertEquals("a \"quoted\"\nline", listFieldInfos.get(0).getConstantValue());
+        assertEquals('\'', listFieldInfos.get(1).getConstantValue());
+        assertEquals(Long.MIN_VALUE, listFieldInfos.get(2).getConstantValue());
+        assertEquals(Float.NaN, listFieldInfos.get(3).getConstantValue());
+        assertEquals(Double.NEGATIVE_INFINITY, listFieldInfos.get(4).getConstantValue());
+        assertEquals((short) -3, listFieldInfos.get(5).getConstantValue());
+        assertNull(listFieldInfos.get(6).getConstantValue());
+    }
+
+    @Test
+    public void testProcess_class_with_directly_accessible_members() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithDirectlyAccessibleMembers.java" };
+        CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
+
+        // when
+        // Perform the compilation task.
+        task.call();
+
+        // then
+        assertFalse(boundBoxProcessor.getListClassInfo().isEmpty());
+        ClassInfo classInfo = boundBoxProcessor.getListClassInfo().get(0);
+
+        for (FieldInfo fieldInfo : classInfo.getListFieldInfos()) {
+            assertEquals(fieldInfo.getFieldName(), !"privateField".equals(fieldInfo.getFieldName()), fieldInfo.isDirectlyAccessible());
+        }
+        for (MethodInfo methodInfo : classInfo.getListMethodInfos()) {
+            assertEquals(methodInfo.getMethodName(), "protectedMethod".equals(methodInfo.getMethodName()), methodInfo.isDirectlyAccessible());
+        }
+        assertEquals(2, classInfo.getListConstructorInfos().size());
+        for (MethodInfo methodInfo : classInfo.getListConstructorInfos()) {
+            assertEquals(methodInfo.getParameterTypes().isEmpty(), methodInfo.isDirectlyAccessible());
+        }
+    }
+
     // ----------------------------------
     // PACKAGE NAME
     // ----------------------------------
@@ -1129,6 +1337,7 @@ public class BoundBoxProcessorTest {
         CompilationTask task = processAnnotations(testSourceFileNames, boundBoxProcessor);
 
         BoundboxWriter mockBoundBoxWriter = EasyMock.createNiceMock(BoundboxWriter.class);
+        EasyMock.expect(mockBoundBoxWriter.copy()).andReturn(mockBoundBoxWriter).anyTimes();
         boundBoxProcessor.setBoundboxWriter(mockBoundBoxWriter);
         EasyMock.expect(mockBoundBoxWriter.getNamingGenerator()).andReturn(new NamingGenerator());
         EasyMock.expectLastCall().anyTimes();
@@ -1385,18 +1594,380 @@ public class BoundBoxProcessorTest {
         assertFalse(listInnerClassInfos.isEmpty());
     }
 
+    // ----------------------------------
+    // UP TO DATE BOUNDBOXES
+    // ----------------------------------
+
+    @Test
+    public void testProcess_up_to_date_boundbox_is_not_rewritten() throws URISyntaxException {
+        // given
+        File boundBoxSourceFile = new File(sandBoxDir, "BoundBoxOfTestClassWithSingleField.java");
+        File boundClassSourceFile = new File(ClassLoader.getSystemResource("TestClassWithSingleField.java").toURI());
+        assertTrue(processAnnotations(Arrays.asList(boundClassSourceFile), new BoundBoxProcessor()).call());
+        assertTrue(boundBoxSourceFile.setLastModified(0));
+        CompilationTask task = processAnnotations(Arrays.asList(boundClassSourceFile, boundBoxSourceFile), new BoundBoxProcessor());
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        assertEquals(0, boundBoxSourceFile.lastModified());
+    }
+
+    @Test
+    public void testProcess_out_of_date_boundbox_that_is_compiled_is_reported() throws Exception {
+        // given
+        File boundBoxSourceFile = new File(sandBoxDir, "BoundBoxOfTestClassWithSingleField.java");
+        File boundClassSourceFile = new File(ClassLoader.getSystemResource("TestClassWithSingleField.java").toURI());
+        assertTrue(processAnnotations(Arrays.asList(boundClassSourceFile), new BoundBoxProcessor()).call());
+        // as if the bound class changed since the BoundBox was generated
+        String outOfDateSource = FileUtils.readFileToString(boundBoxSourceFile) + "// out of date\n";
+        FileUtils.writeStringToFile(boundBoxSourceFile, outOfDateSource);
+        CompilationTask task = processAnnotations(Arrays.asList(boundClassSourceFile, boundBoxSourceFile), new BoundBoxProcessor());
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertFalse(success);
+        assertEquals(outOfDateSource, FileUtils.readFileToString(boundBoxSourceFile));
+    }
+
+    @Test
+    public void testProcess_boundbox_is_rewritten_when_not_compiled() throws URISyntaxException {
+        // given
+        File boundBoxSourceFile = new File(sandBoxDir, "BoundBoxOfTestClassWithSingleField.java");
+        File boundClassSourceFile = new File(ClassLoader.getSystemResource("TestClassWithSingleField.java").toURI());
+        assertTrue(processAnnotations(Arrays.asList(boundClassSourceFile), new BoundBoxProcessor()).call());
+        assertTrue(boundBoxSourceFile.setLastModified(0));
+        CompilationTask task = processAnnotations(Arrays.asList(boundClassSourceFile), new BoundBoxProcessor());
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        assertTrue(boundBoxSourceFile.lastModified() != 0);
+    }
+
+    @Test
+    public void testProcess_boundbox_is_rewritten_when_only_its_class_file_is_on_class_path() throws URISyntaxException {
+        // given
+        File boundBoxSourceFile = new File(sandBoxDir, "BoundBoxOfTestClassWithSingleField.java");
+        File boundBoxClassFile = new File(sandBoxDir, "BoundBoxOfTestClassWithSingleField.class");
+        File boundClassSourceFile = new File(ClassLoader.getSystemResource("TestClassWithSingleField.java").toURI());
+        assertTrue(processAnnotations(Arrays.asList(boundClassSourceFile), new BoundBoxProcessor()).call());
+        assertTrue(boundBoxClassFile.exists());
+        assertTrue(boundBoxSourceFile.setLastModified(0));
+        assertTrue(boundBoxClassFile.setLastModified(0));
+        List<String> options = Arrays.asList("-d", sandBoxDir.getAbsolutePath(), "-classpath",
+                sandBoxDir.getAbsolutePath() + File.pathSeparator + System.getProperty("java.class.path"));
+        CompilationTask task = processAnnotations(Arrays.asList(boundClassSourceFile), options, new BoundBoxProcessor());
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        assertTrue(boundBoxSourceFile.lastModified() != 0);
+        assertTrue(boundBoxClassFile.lastModified() != 0);
+    }
+
+    // ----------------------------------
+    // SCAN CACHE
+    // ----------------------------------
+
+    @Test
+    public void testProcess_super_class_from_class_file_is_read_from_scan_cache() throws URISyntaxException {
+        // given
+        File libraryDir = new File(sandBoxDir, "library");
+        File classesDir = new File(sandBoxDir, "classes");
+        libraryDir.mkdirs();
+        classesDir.mkdirs();
+        File scanCacheFile = new File(sandBoxDir, "boundbox-scan-cache.bin");
+        File superClassSourceFile = new File(ClassLoader.getSystemResource("TestClassWithSingleField.java").toURI());
+        File boundClassSourceFile = new File(ClassLoader.getSystemResource("TestClassWithInheritedField.java").toURI());
+        List<String> libraryOptions = Arrays.asList("-proc:none", "-d", libraryDir.getAbsolutePath());
+        assertTrue(processAnnotations(Arrays.asList(superClassSourceFile), libraryOptions, null).call());
+
+        // super class is only available as a class file
+        List<String> options = Arrays.asList("-d", classesDir.getAbsolutePath(), "-sourcepath", libraryDir.getAbsolutePath(), "-classpath",
+                libraryDir.getAbsolutePath() + File.pathSeparator + System.getProperty("java.class.path"), "-A" + BoundBoxProcessor.OPTION_SCAN_CACHE
+                        + "=" + scanCacheFile.getAbsolutePath());
+        assertTrue(processAnnotations(Arrays.asList(boundClassSourceFile), options, new BoundBoxProcessor()).call());
+        assertTrue(scanCacheFile.exists());
+
+        final List<String> listVisitedTypes = new ArrayList<String>();
+        BoundBoxProcessor processor = new BoundBoxProcessor();
+        processor.setKeepingClassInfos(true);
+        processor.setBoundClassVisitor(new BoundClassScanner() {
+            @Override
+            public Void visitTypeAsClass(TypeElement e, ScanningContext scanningContext) {
+                listVisitedTypes.add(e.toString());
+                return super.visitTypeAsClass(e, scanningContext);
+            }
+        });
+        CompilationTask task = processAnnotations(Arrays.asList(boundClassSourceFile), options, processor);
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        assertEquals(Arrays.asList("TestClassWithInheritedField"), listVisitedTypes);
+        ClassInfo classInfo = processor.getListClassInfo().get(0);
+        assertEquals("TestClassWithSingleField", classInfo.getListSuperClassNames().get(1));
+
+        FieldInfo FieldInfo = new FieldInfo("foo", "java.lang.String");
+        FieldInfo.setInheritanceLevel(1);
+        FieldInfo.setEffectiveInheritanceLevel(0);
+        assertContains(classInfo.getListFieldInfos(), FieldInfo);
+    }
+
+    // ----------------------------------
+    // PARALLEL RENDERING
+    // ----------------------------------
+
+    @Test
+    public void testProcess_boundboxes_rendered_in_parallel_are_rendered_like_serially() throws URISyntaxException, IOException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithSingleField.java", "TestClassWithManyFields.java", "TestClassWithManyMethods.java",
+                "TestClassWithManyConstructors.java", "TestClassWithStaticInnerClass.java", "TestClassWithInheritedField.java" };
+        List<File> listSourceFiles = new ArrayList<File>();
+        for (String sourceFileName : testSourceFileNames) {
+            listSourceFiles.add(new File(ClassLoader.getSystemResource(sourceFileName).toURI()));
+        }
+        File serialDir = new File(sandBoxDir, "serial");
+        File parallelDir = new File(sandBoxDir, "parallel");
+        serialDir.mkdirs();
+        parallelDir.mkdirs();
+        List<String> serialOptions = Arrays.asList("-d", serialDir.getAbsolutePath(), "-A" + BoundBoxProcessor.OPTION_RENDERING_THREADS + "=1");
+        assertTrue(processAnnotations(listSourceFiles, serialOptions, new BoundBoxProcessor()).call());
+        List<String> parallelOptions = Arrays.asList("-d", parallelDir.getAbsolutePath(), "-A" + BoundBoxProcessor.OPTION_RENDERING_THREADS + "=4");
+        CompilationTask task = processAnnotations(listSourceFiles, parallelOptions, new BoundBoxProcessor());
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        for (String sourceFileName : testSourceFileNames) {
+            String boundBoxFileName = "BoundBoxOf" + sourceFileName;
+            File serialBoundBoxFile = new File(serialDir, boundBoxFileName);
+            assertTrue(serialBoundBoxFile.exists());
+            assertEquals(FileUtils.readFileToString(serialBoundBoxFile), FileUtils.readFileToString(new File(parallelDir, boundBoxFileName)));
+        }
+    }
+
+    // ----------------------------------
+    // GRADLE INCREMENTAL PROCESSING
+    // ----------------------------------
+
+    @Test
+    public void testGetSupportedOptions_is_isolating_for_gradle_by_default() {
+        // given
+        BoundBoxProcessor processor = new BoundBoxProcessor();
+
+        // when
+        processor.init(createProcessingEnvironment(new HashMap<String, String>()));
+
+        // then
+        assertTrue(processor.getSupportedOptions().contains(BoundBoxProcessor.GRADLE_ISOLATING_OPTION));
+        assertFalse(processor.getSupportedOptions().contains(BoundBoxProcessor.GRADLE_AGGREGATING_OPTION));
+        assertTrue(processor.getSupportedOptions().contains(BoundBoxProcessor.OPTION_REPORT));
+    }
+
+    @Test
+    public void testGetSupportedOptions_is_aggregating_for_gradle_with_report() {
+        // given
+        BoundBoxProcessor processor = new BoundBoxProcessor();
+        Map<String, String> mapOptions = new HashMap<String, String>();
+        mapOptions.put(BoundBoxProcessor.OPTION_REPORT, "true");
+
+        // when
+        processor.init(createProcessingEnvironment(mapOptions));
+
+        // then
+        assertTrue(processor.getSupportedOptions().contains(BoundBoxProcessor.GRADLE_AGGREGATING_OPTION));
+        assertFalse(processor.getSupportedOptions().contains(BoundBoxProcessor.GRADLE_ISOLATING_OPTION));
+    }
+
+    @Test
+    public void testProcess_boundbox_has_annotated_class_as_single_originating_element() throws URISyntaxException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithSingleField.java" };
+        final Filer mockFiler = EasyMock.createMock(Filer.class);
+        final Capture<Element> originatingElementCapture = new Capture<Element>();
+        BoundBoxProcessor processor = new BoundBoxProcessor() {
+            // annotations of the processor are not inherited
+            @Override
+            public Set<String> getSupportedAnnotationTypes() {
+                return new HashSet<String>(Arrays.asList(BoundBox.class.getName()));
+            }
+
+            @Override
+            public void init(final ProcessingEnvironment env) {
+                try {
+                    EasyMock.expect(mockFiler.createSourceFile(EasyMock.eq("BoundBoxOfTestClassWithSingleField"), EasyMock.capture(originatingElementCapture)))
+                            .andAnswer(new IAnswer<JavaFileObject>() {
+                                @Override
+                                public JavaFileObject answer() throws Throwable {
+                                    return env.getFiler().createSourceFile((CharSequence) EasyMock.getCurrentArguments()[0]);
+                                }
+                            });
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                EasyMock.replay(mockFiler);
+                super.init(createProcessingEnvironment(env, mockFiler));
+            }
+        };
+        CompilationTask task = processAnnotations(testSourceFileNames, processor);
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        EasyMock.verify(mockFiler);
+        assertEquals("TestClassWithSingleField", ((TypeElement) originatingElementCapture.getValue()).getQualifiedName().toString());
+    }
+
+    // ----------------------------------
+    // REPORT
+    // ----------------------------------
+
+    @Test
+    public void testProcess_report_lists_each_boundbox() throws URISyntaxException, IOException {
+        // given
+        List<File> listSourceFiles = Arrays.asList(new File(ClassLoader.getSystemResource("TestClassWithSingleField.java").toURI()), new File(ClassLoader
+                .getSystemResource("TestClassWithManyMethods.java").toURI()));
+        List<String> options = Arrays.asList("-d", sandBoxDir.getAbsolutePath(), "-A" + BoundBoxProcessor.OPTION_REPORT + "=true");
+        CompilationTask task = processAnnotations(listSourceFiles, options, new BoundBoxProcessor());
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        File reportFile = new File(sandBoxDir, ProcessingReport.REPORT_FILE_NAME);
+        assertTrue(reportFile.exists());
+        List<String> listReportLines = Arrays.asList(FileUtils.readFileToString(reportFile).split("\n"));
+        assertEquals(3, listReportLines.size());
+        assertTrue(listReportLines.get(0).startsWith("boundBox,boundClass,"));
+        String[] singleFieldRow = null;
+        for (String reportLine : listReportLines) {
+            if (reportLine.startsWith("BoundBoxOfTestClassWithSingleField,")) {
+                singleFieldRow = reportLine.split(",");
+            }
+        }
+        assertNotNull(singleFieldRow);
+        assertEquals("TestClassWithSingleField", singleFieldRow[1]);
+        assertEquals("1", singleFieldRow[8]);
+        assertTrue(Integer.parseInt(singleFieldRow[12]) > 0);
+        assertEquals("true", singleFieldRow[13]);
+    }
+
+    // ----------------------------------
+    // MEMORY
+    // ----------------------------------
+
+    @Test
+    public void testProcess_models_are_released_after_writing() throws URISyntaxException, InterruptedException {
+        // given
+        String[] testSourceFileNames = new String[] { "TestClassWithManyFields.java", "TestClassWithManyMethods.java", "TestClassWithStaticInnerClass.java",
+                "TestClassWithInheritedField.java", "TestClassWithSingleField.java" };
+        final List<WeakReference<ClassInfo>> listClassInfoReferences = new ArrayList<WeakReference<ClassInfo>>();
+        BoundBoxProcessor processor = new BoundBoxProcessor();
+        processor.setBoundClassVisitor(new BoundClassScanner() {
+            @Override
+            public ClassInfo scan(TypeElement boundClass) {
+                ClassInfo classInfo = super.scan(boundClass);
+                listClassInfoReferences.add(new WeakReference<ClassInfo>(classInfo));
+                return classInfo;
+            }
+        });
+        CompilationTask task = processAnnotations(testSourceFileNames, processor);
+
+        // when
+        // Perform the compilation task.
+        boolean success = task.call();
+
+        // then
+        assertTrue(success);
+        assertEquals(testSourceFileNames.length, listClassInfoReferences.size());
+        assertTrue(processor.getListClassInfo().isEmpty());
+        assertTrue(processor.getListOfInvisibleTypes().isEmpty());
+        // the processor and the compilation task are still reachable, the models must not be
+        for (int gcCount = 0; gcCount < MAX_GC_COUNT && countReachable(listClassInfoReferences) > 0; gcCount++) {
+            System.gc();
+            Thread.sleep(GC_PAUSE_MILLIS);
+        }
+        assertEquals(0, countReachable(listClassInfoReferences));
+        assertNotNull(task);
+    }
 
     // ----------------------------------
     // PRIVATE METHODS
     // ----------------------------------
 
-    private CompilationTask processAnnotations(String[] testSourceFileNames, BoundBoxProcessor boundBoxProcessor) throws URISyntaxException {
-        // Get an instance of java compiler
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    private ProcessingEnvironment createProcessingEnvironment(Map<String, String> mapOptions) {
+        ProcessingEnvironment mockProcessingEnvironment = EasyMock.createNiceMock(ProcessingEnvironment.class);
+        EasyMock.expect(mockProcessingEnvironment.getOptions()).andStubReturn(mapOptions);
+        EasyMock.replay(mockProcessingEnvironment);
+        return mockProcessingEnvironment;
+    }
 
-        // Get a new instance of the standard file manager implementation
-        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+    /** @return a processing environment that delegates to env, but for its filer. */
+    private ProcessingEnvironment createProcessingEnvironment(final ProcessingEnvironment env, final Filer filer) {
+        return new ProcessingEnvironment() {
+            @Override
+            public Map<String, String> getOptions() {
+                return env.getOptions();
+            }
 
+            @Override
+            public Messager getMessager() {
+                return env.getMessager();
+            }
+
+            @Override
+            public Filer getFiler() {
+                return filer;
+            }
+
+            @Override
+            public Elements getElementUtils() {
+                return env.getElementUtils();
+            }
+
+            @Override
+            public Types getTypeUtils() {
+                return env.getTypeUtils();
+            }
+
+            @Override
+            public SourceVersion getSourceVersion() {
+                return env.getSourceVersion();
+            }
+
+            @Override
+            public Locale getLocale() {
+                return env.getLocale();
+            }
+        };
+    }
+
+    private CompilationTask processAnnotations(String[] testSourceFileNames, BoundBoxProcessor boundBoxProcessor) throws URISyntaxException {
         // Get the list of java file objects, in this case we have only
         // one file, TestClass.java
         // http://stackoverflow.com/a/676102/693752
@@ -1404,10 +1975,24 @@ public class BoundBoxProcessorTest {
         for (String sourceFileName : testSourceFileNames) {
             listSourceFiles.add(new File(ClassLoader.getSystemResource(sourceFileName).toURI()));
         }
+        return processAnnotations(listSourceFiles, boundBoxProcessor);
+    }
+
+    private CompilationTask processAnnotations(List<File> listSourceFiles, BoundBoxProcessor boundBoxProcessor) {
+        List<String> options = new ArrayList<String>(Arrays.asList("-d", sandBoxDir.getAbsolutePath()));
+        return processAnnotations(listSourceFiles, options, boundBoxProcessor);
+    }
+
+    private CompilationTask processAnnotations(List<File> listSourceFiles, List<String> options, BoundBoxProcessor boundBoxProcessor) {
+        // Get an instance of java compiler
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        // Get a new instance of the standard file manager implementation
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
         Iterable<? extends JavaFileObject> compilationUnits1 = fileManager.getJavaFileObjectsFromFiles(listSourceFiles);
 
         // Create the compilation task
-        List<String> options = new ArrayList<String>(Arrays.asList("-d", sandBoxDir.getAbsolutePath()));
         CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits1);
 
         if (boundBoxProcessor != null) {
@@ -1423,6 +2008,16 @@ public class BoundBoxProcessorTest {
         return task;
     }
 
+    private int countReachable(List<WeakReference<ClassInfo>> listClassInfoReferences) {
+        int reachableCount = 0;
+        for (WeakReference<ClassInfo> classInfoReference : listClassInfoReferences) {
+            if (classInfoReference.get() != null) {
+                reachableCount++;
+            }
+        }
+        return reachableCount;
+    }
+
     private void assertContains(List<FieldInfo> listFieldInfos, FieldInfo FieldInfo) {
         FieldInfo fieldInfo2 = retrieveFieldInfo(listFieldInfos, FieldInfo);
         assertNotNull(fieldInfo2);
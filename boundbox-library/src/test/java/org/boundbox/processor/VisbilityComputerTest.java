@@ -0,0 +1,128 @@
+package org.boundbox.processor;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VisbilityComputerTest {
+
+    private static final int CALL_COUNT = 100;
+
+    private VisbilityComputer visbilityComputer;
+
+    @Before
+    public void setup() {
+        visbilityComputer = new VisbilityComputer();
+        visbilityComputer.setBoundBoxPackageName("foo");
+    }
+
+    @Test
+    public void testComputeVisibility_is_computed_once_per_package() {
+        // given
+        TypeElement publicType = createTopLevelType(Modifier.PUBLIC, 2);
+        EasyMock.replay(publicType);
+
+        // when
+        for (int i = 0; i < CALL_COUNT; i++) {
+            assertTrue(visbilityComputer.computeVisibility(publicType));
+        }
+        visbilityComputer.setBoundBoxPackageName("bar");
+        for (int i = 0; i < CALL_COUNT; i++) {
+            assertTrue(visbilityComputer.computeVisibility(publicType));
+        }
+
+        // then
+        EasyMock.verify(publicType);
+    }
+
+    @Test
+    public void testComputeVisibility_is_computed_again_after_clear() {
+        // given
+        TypeElement publicType = createTopLevelType(Modifier.PUBLIC, 2);
+        EasyMock.replay(publicType);
+
+        // when
+        assertTrue(visbilityComputer.computeVisibility(publicType));
+        assertTrue(visbilityComputer.computeVisibility(publicType));
+        visbilityComputer.clearComputedVisibilities();
+        assertTrue(visbilityComputer.computeVisibility(publicType));
+
+        // then
+        EasyMock.verify(publicType);
+    }
+
+    @Test
+    public void testFindVisibleSuperType_is_computed_once() {
+        // given
+        TypeElement publicType = createTopLevelType(Modifier.PUBLIC, 1);
+        DeclaredType publicTypeMirror = EasyMock.createNiceMock(DeclaredType.class);
+        EasyMock.expect(publicTypeMirror.getKind()).andStubReturn(TypeKind.DECLARED);
+        EasyMock.expect(publicTypeMirror.asElement()).andStubReturn(publicType);
+
+        TypeElement privateType = EasyMock.createMock(TypeElement.class);
+        EasyMock.expect(privateType.asType()).andStubReturn(publicTypeMirror);
+        EasyMock.expect(privateType.getNestingKind()).andReturn(NestingKind.TOP_LEVEL).times(1);
+        EasyMock.expect(privateType.getModifiers()).andStubReturn(EnumSet.of(Modifier.PRIVATE));
+        EasyMock.expect(privateType.getSuperclass()).andReturn(publicTypeMirror).times(1);
+        EasyMock.replay(publicType, publicTypeMirror, privateType);
+
+        // when
+        for (int i = 0; i < CALL_COUNT; i++) {
+            assertFalse(visbilityComputer.computeVisibility(privateType));
+            assertSame(publicType, visbilityComputer.findVisibleSuperType(privateType));
+        }
+
+        // then
+        EasyMock.verify(publicType, privateType);
+    }
+
+    @Test
+    public void testComputeVisibility_of_field_whose_type_is_an_array_of_invisible_type() {
+        // given
+        TypeElement publicType = createTopLevelType(Modifier.PUBLIC, 1);
+        TypeElement privateType = EasyMock.createNiceMock(TypeElement.class);
+        EasyMock.expect(privateType.getNestingKind()).andStubReturn(NestingKind.TOP_LEVEL);
+        EasyMock.expect(privateType.getModifiers()).andStubReturn(EnumSet.of(Modifier.PRIVATE));
+        DeclaredType privateTypeMirror = EasyMock.createNiceMock(DeclaredType.class);
+        EasyMock.expect(privateTypeMirror.getKind()).andStubReturn(TypeKind.DECLARED);
+        EasyMock.expect(privateTypeMirror.asElement()).andStubReturn(privateType);
+        ArrayType arrayTypeMirror = EasyMock.createNiceMock(ArrayType.class);
+        EasyMock.expect(arrayTypeMirror.getKind()).andStubReturn(TypeKind.ARRAY);
+        EasyMock.expect(arrayTypeMirror.getComponentType()).andStubReturn(privateTypeMirror);
+
+        VariableElement field = EasyMock.createNiceMock(VariableElement.class);
+        EasyMock.expect(field.getEnclosingElement()).andStubReturn(publicType);
+        EasyMock.expect(field.getModifiers()).andStubReturn(EnumSet.of(Modifier.PUBLIC));
+        EasyMock.expect(field.asType()).andStubReturn(arrayTypeMirror);
+        EasyMock.replay(publicType, privateType, privateTypeMirror, arrayTypeMirror, field);
+
+        // when
+        boolean isVisible = visbilityComputer.computeVisibility(field);
+
+        // then
+        assertFalse(isVisible);
+        EasyMock.verify(publicType);
+    }
+
+    private TypeElement createTopLevelType(Modifier modifier, int expectedComputationCount) {
+        TypeElement typeElement = EasyMock.createMock(TypeElement.class);
+        EasyMock.expect(typeElement.asType()).andStubReturn(null);
+        EasyMock.expect(typeElement.getNestingKind()).andReturn(NestingKind.TOP_LEVEL).times(expectedComputationCount);
+        EasyMock.expect(typeElement.getModifiers()).andReturn(EnumSet.of(modifier)).times(expectedComputationCount);
+        return typeElement;
+    }
+}
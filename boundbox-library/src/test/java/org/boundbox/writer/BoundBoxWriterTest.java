@@ -1,9 +1,12 @@
 package org.boundbox.writer;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -11,6 +14,8 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.URISyntaxException;
@@ -32,14 +37,22 @@ import lombok.Getter;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.boundbox.Backend;
+import org.boundbox.BoundBoxException;
+import org.boundbox.Layout;
+import org.boundbox.Resolution;
 import org.boundbox.model.ClassInfo;
 import org.boundbox.model.FieldInfo;
 import org.boundbox.model.InnerClassInfo;
 import org.boundbox.model.MethodInfo;
+import org.boundbox.runtime.BoundBoxSnapshot;
+import org.boundbox.runtime.IndexedBoundBox;
+import org.boundbox.runtime.Invoker;
 import org.easymock.Capture;
 import org.easymock.EasyMock;
 import org.easymock.IAnswer;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -119,6 +132,9 @@ public class BoundBoxWriterTest {
             }
         });
 
+        // code decorations are written with or without javadoc
+        EasyMock.expect(mockDocumentationGenerator.generateCodeDecoration("Indexed access to fields")).andReturn(Collections.<String>emptyList());
+
         EasyMock.replay(mockDocumentationGenerator);
         writer.setWritingJavadoc(false);
 
@@ -147,6 +163,8 @@ public class BoundBoxWriterTest {
         EasyMock.expectLastCall().atLeastOnce();
         EasyMock.expect(mockDocumentationGenerator.generateJavadocForBoundBoxConstructor(EasyMock.anyObject(ClassInfo.class))).andReturn(StringUtils.EMPTY);
         EasyMock.expectLastCall().atLeastOnce();
+        EasyMock.expect(mockDocumentationGenerator.generateJavadocForBoundBoxRebind(EasyMock.anyObject(ClassInfo.class))).andReturn(StringUtils.EMPTY);
+        EasyMock.expect(mockDocumentationGenerator.generateCodeDecoration("Indexed access to fields")).andReturn(Collections.<String>emptyList());
 
         EasyMock.replay(mockDocumentationGenerator);
 
@@ -334,6 +352,53 @@ public class BoundBoxWriterTest {
     // ----------------------------------
     // CONSTRUCTORS
     // ----------------------------------
+    @Test
+    public void testProcess_class_with_constants() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithConstants";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(createConstantFieldInfo("FOO", "java.lang.String", "a \"quoted\"\nline"));
+        listFieldInfos.add(createConstantFieldInfo("QUOTE", "char", '\''));
+        listFieldInfos.add(createConstantFieldInfo("MIN", "long", Long.MIN_VALUE));
+        listFieldInfos.add(createConstantFieldInfo("NOT_A_NUMBER", "float", Float.NaN));
+        listFieldInfos.add(createConstantFieldInfo("INFINITY", "double", Double.NEGATIVE_INFINITY));
+        listFieldInfos.add(createConstantFieldInfo("SHORT", "short", (short) -3));
+        FieldInfo notAConstantFieldInfo = new FieldInfo("NOT_A_CONSTANT", "java.lang.String");
+        notAConstantFieldInfo.setStaticField(true);
+        notAConstantFieldInfo.setFinalField(true);
+        listFieldInfos.add(notAConstantFieldInfo);
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        String boundBoxName = writer.getNamingGenerator().createBoundBoxName(classInfo);
+        Writer out = createWriterInSandbox(boundBoxName);
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        String source = FileUtils.readFileToString(new File(sandBoxDir, classNameToJavaFile(boundBoxName)));
+        assertEquals(1, StringUtils.countMatches(source, "getDeclaredField("));
+
+        CompilationTask task = createCompileTask(boundBoxName, neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(boundBoxName);
+        assertEquals("a \"quoted\"\nline", clazz.getDeclaredMethod("boundBox_getFOO").invoke(null));
+        assertEquals('\'', clazz.getDeclaredMethod("boundBox_getQUOTE").invoke(null));
+        assertEquals(Long.MIN_VALUE, clazz.getDeclaredMethod("boundBox_getMIN").invoke(null));
+        assertEquals(Float.NaN, clazz.getDeclaredMethod("boundBox_getNOT_A_NUMBER").invoke(null));
+        assertEquals(Double.NEGATIVE_INFINITY, clazz.getDeclaredMethod("boundBox_getINFINITY").invoke(null));
+        assertEquals((short) -3, clazz.getDeclaredMethod("boundBox_getSHORT").invoke(null));
+        assertEquals("1", clazz.getDeclaredMethod("boundBox_getNOT_A_CONSTANT").invoke(null));
+    }
+
     @Test
     public void testProcess_class_with_single_constructor() throws Exception {
         // given
@@ -565,6 +630,60 @@ public class BoundBoxWriterTest {
 
     }
 
+    @Test
+    public void testProcess_class_with_directly_accessible_method_wraps_its_exceptions() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithDirectlyAccessibleMembers";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        MethodInfo methodInfo = new MethodInfo("protectedMethod", "void", new ArrayList<FieldInfo>(), null);
+        methodInfo.setDirectlyAccessible(true);
+        classInfo.setListMethodInfos(Arrays.asList(methodInfo));
+        FieldInfo fieldInfo = new FieldInfo("publicField", "java.lang.String");
+        fieldInfo.setDirectlyAccessible(true);
+        classInfo.setListFieldInfos(Arrays.asList(fieldInfo));
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance((Object) null);
+        try {
+            clazz.getDeclaredMethod("protectedMethod").invoke(boundBox);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertEquals(BoundBoxException.class.getName(), e.getCause().getClass().getName());
+            assertEquals(NullPointerException.class, e.getCause().getCause().getClass());
+        }
+        try {
+            clazz.getDeclaredMethod("boundBox_getPublicField").invoke(boundBox);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertEquals(BoundBoxException.class.getName(), e.getCause().getClass().getName());
+        }
+
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        try {
+            clazz.getDeclaredMethod("protectedMethod").invoke(boundBox);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertEquals(BoundBoxException.class.getName(), e.getCause().getClass().getName());
+            assertEquals(IllegalStateException.class, e.getCause().getCause().getClass());
+        }
+    }
+
     // ----------------------------------
     // STATIC METHODS
     // ----------------------------------
@@ -965,6 +1084,50 @@ public class BoundBoxWriterTest {
         assertNotNull(innerClassConstructor);
     }
 
+    @Test
+    public void testProcess_class_with_static_inner_class_resolves_it_by_binary_name() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithStaticInnerClassWithConstructor";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+
+        MethodInfo InnerClassConstructorInfo = new MethodInfo("<init>", "Object", new ArrayList<FieldInfo>(), null);
+        List<MethodInfo> listInnerClassConstructorInfos = new ArrayList<MethodInfo>();
+        listInnerClassConstructorInfos.add(InnerClassConstructorInfo);
+
+        InnerClassInfo innerClassInfo = new InnerClassInfo("InnerClass");
+        innerClassInfo.setStaticInnerClass(true);
+        innerClassInfo.setListConstructorInfos(listInnerClassConstructorInfos);
+
+        classInfo.setListInnerClassInfo(Arrays.<InnerClassInfo>asList(innerClassInfo));
+        classInfo.setListImports(new HashSet<String>());
+
+        String boundBoxName = writer.getNamingGenerator().createBoundBoxName(classInfo);
+        Writer out = createWriterInSandbox(boundBoxName);
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        String source = FileUtils.readFileToString(new File(sandBoxDir, classNameToJavaFile(boundBoxName)));
+        assertFalse(source.contains("getDeclaredClasses()"));
+        assertTrue(source.contains("MemberCache.getInnerClass(boundClass, \"TestClassWithStaticInnerClassWithConstructor$InnerClass\")"));
+
+        CompilationTask task = createCompileTask(boundBoxName, neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(boundBoxName);
+        Method innerClassConstructor = clazz.getDeclaredMethod("boundBox_new_InnerClass");
+        Object firstInstance = innerClassConstructor.invoke(null);
+        Object secondInstance = innerClassConstructor.invoke(null);
+        assertEquals("TestClassWithStaticInnerClassWithConstructor$InnerClass", firstInstance.getClass().getName());
+        assertNotSame(firstInstance, secondInstance);
+    }
+
     @Test
     public void testProcess_class_with_static_inner_class_with_many_constructors() throws Exception {
         // given
@@ -1349,81 +1512,1044 @@ public class BoundBoxWriterTest {
     }
 
     // ----------------------------------
-    // PRIVATE METHODS
+    // RESOLUTION OF MEMBERS
     // ----------------------------------
+    @Test
+    public void testProcess_class_with_lazy_resolution_resolves_field_once() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithSingleField";
+        List<String> neededClasses = new ArrayList<String>();
 
-    private Class<?> loadBoundBoxClass(String className) throws ClassNotFoundException {
-        return new CustomClassLoader().loadClass(className);
-    }
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("foo", "java.lang.String"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
 
-    private CompilationTask createCompileTask(String className, List<String> neededClasses) throws URISyntaxException {
-        String[] writtenSourceFileNames = new String[] { classNameToJavaFile(className) };
-        List<String> neededJavaFiles = new ArrayList<String>();
-        for (String neededClass : neededClasses) {
-            neededJavaFiles.add(classNameToJavaFile(neededClass));
-        }
-        String[] testSourceFileNames = neededJavaFiles.toArray(new String[0]);
-        CompilationTask task = processAnnotations(writtenSourceFileNames, testSourceFileNames);
-        return task;
-    }
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
 
-    private FileWriter createWriterInSandbox(String classFQN) throws IOException {
-        createFolders(classNameToPath(classFQN));
-        sandboxWriter = new FileWriter(new File(sandBoxDir, classNameToJavaFile(classFQN)));
-        return sandboxWriter;
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Field handleField = clazz.getDeclaredField(writer.getNamingGenerator().createHandleName(0));
+        handleField.setAccessible(true);
+        assertNull(handleField.get(null));
+
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        Method getter = clazz.getDeclaredMethod("boundBox_getFoo");
+        Method setter = clazz.getDeclaredMethod("boundBox_setFoo", String.class);
+
+        assertEquals("test", getter.invoke(boundBox));
+        Object handle = handleField.get(null);
+        assertNotNull(handle);
+
+        setter.invoke(boundBox, "bar");
+        assertEquals("bar", getter.invoke(boundBox));
+        assertSame(handle, handleField.get(null));
     }
 
-    private void createFolders(String path) {
-        if (StringUtils.isEmpty(path)) {
-            return;
-        }
+    @Test
+    public void testProcess_class_with_eager_resolution_resolves_members_at_load_time() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithSingleField";
+        List<String> neededClasses = new ArrayList<String>();
 
-        new File(sandBoxDir, path).mkdirs();
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("foo", "java.lang.String"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setResolution(Resolution.EAGER);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Field handleField = clazz.getDeclaredField(writer.getNamingGenerator().createHandleName(0));
+        handleField.setAccessible(true);
+        Object handle = handleField.get(null);
+        assertNotNull(handle);
+
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        assertEquals("test", clazz.getDeclaredMethod("boundBox_getFoo").invoke(boundBox));
+        assertSame(handle, handleField.get(null));
     }
 
-    private String classNameToPath(String classFQN) {
-        return StringUtils.substringBeforeLast(classFQN, ".").replaceAll("\\.", "/");
+    // ----------------------------------
+    // METHOD HANDLES
+    // ----------------------------------
+    @Test
+    public void testProcess_class_with_method_handles_accesses_fields() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithStaticField";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        FieldInfo fieldInfo = new FieldInfo("foo", "java.lang.String");
+        fieldInfo.setStaticField(true);
+        listFieldInfos.add(fieldInfo);
+        FieldInfo fieldInfo2 = new FieldInfo("a", "int");
+        fieldInfo2.setStaticField(true);
+        listFieldInfos.add(fieldInfo2);
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setBackend(Backend.METHOD_HANDLES);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Field handleField = clazz.getDeclaredField(writer.getNamingGenerator().createHandleName(0));
+        assertTrue(Modifier.isFinal(handleField.getModifiers()));
+
+        assertEquals("test", clazz.getDeclaredMethod("boundBox_getFoo").invoke(null));
+        clazz.getDeclaredMethod("boundBox_setA", int.class).invoke(null, 2);
+        assertEquals(2, clazz.getDeclaredMethod("boundBox_getA").invoke(null));
     }
 
-    private String classNameToJavaFile(String classFQN) {
-        return classFQN.replaceAll("\\.", "/").concat(".java");
+    @Test
+    public void testProcess_class_with_method_handles_invokes_methods_and_constructors() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithManyMethods";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<MethodInfo> listConstructorInfos = new ArrayList<MethodInfo>();
+        listConstructorInfos.add(new MethodInfo("<init>", "void", new ArrayList<FieldInfo>(), null));
+        classInfo.setListConstructorInfos(listConstructorInfos);
+        List<MethodInfo> listMethodInfos = new ArrayList<MethodInfo>();
+        FieldInfo fieldInfo = new FieldInfo("a", "int");
+        FieldInfo fieldInfo2 = new FieldInfo("b", Object.class.getName());
+        listMethodInfos.add(new MethodInfo("withManyArguments", "void", Arrays.<FieldInfo>asList(fieldInfo, fieldInfo2), null));
+        listMethodInfos.add(new MethodInfo("withPrimitiveLongReturnType", "long", Arrays.<FieldInfo>asList(), null));
+        listMethodInfos.add(new MethodInfo("withSingleThrownType", "void", Arrays.<FieldInfo>asList(), Arrays.asList("java.io.IOException")));
+        classInfo.setListMethodInfos(listMethodInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setBackend(Backend.METHOD_HANDLES);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getDeclaredMethod("boundBox_new").invoke(null);
+        assertEquals(classUnderTestName, boundObject.getClass().getName());
+
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        clazz.getDeclaredMethod("withManyArguments", int.class, Object.class).invoke(boundBox, 1, "b");
+        assertEquals(0L, clazz.getDeclaredMethod("withPrimitiveLongReturnType").invoke(boundBox));
+        clazz.getDeclaredMethod("withSingleThrownType").invoke(boundBox);
     }
 
-    private CompilationTask processAnnotations(String[] writtenSourceFileNames, String[] testSourceFileNames) throws URISyntaxException {
-        // Get an instance of java compiler
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    @Test
+    public void testProcess_class_with_method_handles_throws_boundbox_exception_for_unresolvable_member() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithSingleField";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
 
-        // Get a new instance of the standard file manager implementation
-        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("doesNotExist", "java.lang.String"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
 
-        // Get the list of java file objects, in this case we have only
-        // one file, TestClass.java
-        // http://stackoverflow.com/a/676102/693752
-        List<File> listSourceFiles = new ArrayList<File>();
-        for (String sourceFileName : writtenSourceFileNames) {
-            listSourceFiles.add(new File(sandBoxDir, sourceFileName));
-        }
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
 
-        for (String sourceFileName : testSourceFileNames) {
-            listSourceFiles.add(new File(ClassLoader.getSystemResource(sourceFileName).toURI()));
+        // when
+        writer.setBackend(Backend.METHOD_HANDLES);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        try {
+            clazz.getDeclaredMethod("boundBox_getDoesNotExist").invoke(boundBox);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertEquals(BoundBoxException.class.getName(), e.getCause().getClass().getName());
         }
-        Iterable<? extends JavaFileObject> compilationUnits1 = fileManager.getJavaFileObjectsFromFiles(listSourceFiles);
+    }
 
-        Iterable<String> options = Arrays.asList("-d", sandBoxDir.getAbsolutePath());
+    @Test
+    public void testProcess_class_with_method_handles_and_static_inner_class() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithStaticInnerClassWithManyFieldsAndMethods";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
 
-        // Create the compilation task
-        CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits1);
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
 
-        task.setProcessors(new LinkedList<Processor>());
-        return task;
-    }
+        List<MethodInfo> listInnerClassConstructorInfos = new ArrayList<MethodInfo>();
+        listInnerClassConstructorInfos.add(new MethodInfo("<init>", "Object", new ArrayList<FieldInfo>(), null));
 
-    // ----------------------------------
-    // INNER CLASS
-    // ----------------------------------
-    private final class CustomClassLoader extends ClassLoader {
+        List<FieldInfo> listInnerClassFieldInfos = new ArrayList<FieldInfo>();
+        FieldInfo innerClassFieldInfo = new FieldInfo("a", int.class.getName());
+        listInnerClassFieldInfos.add(innerClassFieldInfo);
+
+        List<MethodInfo> listInnerClassMethodInfos = new ArrayList<MethodInfo>();
+        listInnerClassMethodInfos.add(new MethodInfo("bar", "void", Arrays.asList(innerClassFieldInfo), null));
+
+        InnerClassInfo innerClassInfo = new InnerClassInfo("InnerClass");
+        innerClassInfo.setStaticInnerClass(true);
+        innerClassInfo.setListConstructorInfos(listInnerClassConstructorInfos);
+        innerClassInfo.setListFieldInfos(listInnerClassFieldInfos);
+        innerClassInfo.setListMethodInfos(listInnerClassMethodInfos);
+
+        classInfo.setListInnerClassInfo(Arrays.<InnerClassInfo>asList(innerClassInfo));
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setBackend(Backend.METHOD_HANDLES);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object innerObject = clazz.getDeclaredMethod("boundBox_new_InnerClass").invoke(null);
+        Class<?> innerClass = clazz.getDeclaredClasses()[0];
+        Object innerBoundBox = innerClass.getDeclaredConstructor(Object.class).newInstance(innerObject);
+        innerClass.getDeclaredMethod("boundBox_setA", int.class).invoke(innerBoundBox, 3);
+        assertEquals(3, innerClass.getDeclaredMethod("boundBox_getA").invoke(innerBoundBox));
+        innerClass.getDeclaredMethod("bar", int.class).invoke(innerBoundBox, 4);
+    }
+
+    @Test
+    public void testProcess_class_with_method_handles_returns_typed_accessors() throws Exception {
+        Assume.assumeTrue(isLambdaMetafactoryAvailable());
+        // given
+        String classUnderTestName = "TestClassWithManyFields";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("foo", "java.lang.String"));
+        listFieldInfos.add(new FieldInfo("a", "int"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setBackend(Backend.METHOD_HANDLES);
+        writer.setWritingAccessors(true);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Object getterOfA = clazz.getDeclaredMethod("boundBox_getterOfA").invoke(null);
+        Object setterOfA = clazz.getDeclaredMethod("boundBox_setterOfA").invoke(null);
+        Object getterOfFoo = clazz.getDeclaredMethod("boundBox_getterOfFoo").invoke(null);
+        assertSame(getterOfA, clazz.getDeclaredMethod("boundBox_getterOfA").invoke(null));
+
+        Method applyAsInt = Class.forName("java.util.function.ToIntFunction").getMethod("applyAsInt", Object.class);
+        Method acceptInt = Class.forName("java.util.function.ObjIntConsumer").getMethod("accept", Object.class, int.class);
+        Method apply = Class.forName("java.util.function.Function").getMethod("apply", Object.class);
+        assertEquals(2, applyAsInt.invoke(getterOfA, boundObject));
+        acceptInt.invoke(setterOfA, boundObject, 3);
+        assertEquals(3, applyAsInt.invoke(getterOfA, boundObject));
+        assertEquals("test", apply.invoke(getterOfFoo, boundObject));
+    }
+
+    @Test
+    public void testProcess_class_with_method_handles_returns_invokers() throws Exception {
+        Assume.assumeTrue(isLambdaMetafactoryAvailable());
+        // given
+        String classUnderTestName = "TestClassWithManyMethods";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<MethodInfo> listMethodInfos = new ArrayList<MethodInfo>();
+        FieldInfo fieldInfo = new FieldInfo("a", "int");
+        FieldInfo fieldInfo2 = new FieldInfo("b", Object.class.getName());
+        listMethodInfos.add(new MethodInfo("withManyArguments", "void", Arrays.<FieldInfo>asList(fieldInfo, fieldInfo2), null));
+        listMethodInfos.add(new MethodInfo("withPrimitiveLongReturnType", "long", Arrays.<FieldInfo>asList(), null));
+        classInfo.setListMethodInfos(listMethodInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setBackend(Backend.METHOD_HANDLES);
+        writer.setWritingAccessors(true);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Invoker withManyArguments = (Invoker) clazz.getDeclaredMethod("boundBox_invokerOfWithManyArguments").invoke(null);
+        Invoker withPrimitiveLongReturnType = (Invoker) clazz.getDeclaredMethod("boundBox_invokerOfWithPrimitiveLongReturnType").invoke(null);
+        assertNull(withManyArguments.invoke(boundObject, 1, "b"));
+        assertEquals(0L, withPrimitiveLongReturnType.invoke(boundObject));
+    }
+
+    private boolean isLambdaMetafactoryAvailable() {
+        try {
+            Class.forName("java.lang.invoke.LambdaMetafactory");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // ----------------------------------
+    // VAR HANDLES
+    // ----------------------------------
+    @Test
+    public void testProcess_class_with_var_handles() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithVarHandles";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("counter", "int"));
+        listFieldInfos.add(new FieldInfo("name", "java.lang.String"));
+        FieldInfo staticFieldInfo = new FieldInfo("total", "long");
+        staticFieldInfo.setStaticField(true);
+        listFieldInfos.add(staticFieldInfo);
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        String boundBoxName = writer.getNamingGenerator().createBoundBoxName(classInfo);
+        Writer out = createWriterInSandbox(boundBoxName);
+
+        // when
+        writer.setBackend(Backend.VAR_HANDLES);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        String source = FileUtils.readFileToString(new File(sandBoxDir, classNameToJavaFile(boundBoxName)));
+        assertTrue(source.contains("boundBox_getVolatileCounter()"));
+        assertTrue(source.contains("boundBox_setReleaseCounter(int counter)"));
+        assertTrue(source.contains("boundBox_compareAndSetName(java.lang.String expectedValue, java.lang.String newValue)"));
+        assertTrue(source.contains("boundBox_getAndAddTotal(long delta)"));
+        assertFalse(source.contains("boundBox_getAndAddName"));
+
+        // VarHandles can only be compiled and run on Java 9 or later
+        Assume.assumeTrue(isVarHandleAvailable());
+        CompilationTask task = createCompileTask(boundBoxName, neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(boundBoxName);
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+
+        clazz.getDeclaredMethod("boundBox_setCounter", int.class).invoke(boundBox, 1);
+        assertEquals(1, clazz.getDeclaredMethod("boundBox_getAndAddCounter", int.class).invoke(boundBox, 2));
+        assertEquals(true, clazz.getDeclaredMethod("boundBox_compareAndSetCounter", int.class, int.class).invoke(boundBox, 3, 4));
+        assertEquals(false, clazz.getDeclaredMethod("boundBox_compareAndSetCounter", int.class, int.class).invoke(boundBox, 3, 5));
+        assertEquals(4, clazz.getDeclaredMethod("boundBox_getVolatileCounter").invoke(boundBox));
+
+        Object name = clazz.getDeclaredMethod("boundBox_getName").invoke(boundBox);
+        assertEquals(true, clazz.getDeclaredMethod("boundBox_compareAndSetName", String.class, String.class).invoke(boundBox, name, "bar"));
+        clazz.getDeclaredMethod("boundBox_setReleaseName", String.class).invoke(boundBox, "baz");
+        assertEquals("baz", clazz.getDeclaredMethod("boundBox_getName").invoke(boundBox));
+
+        clazz.getDeclaredMethod("boundBox_getAndAddTotal", long.class).invoke(null, 5L);
+        assertEquals(5L, clazz.getDeclaredMethod("boundBox_getTotal").invoke(null));
+    }
+
+    private boolean isVarHandleAvailable() {
+        try {
+            Class.forName("java.lang.invoke.VarHandle");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // ----------------------------------
+    // INDEXED ACCESS TO FIELDS
+    // ----------------------------------
+    @Test
+    public void testProcess_class_with_many_fields_gives_indexed_access_to_fields() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithManyFields";
+        List<String> neededClasses = new ArrayList<String>();
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("foo", "java.lang.String"));
+        listFieldInfos.add(new FieldInfo("a", "int"));
+        listFieldInfos.add(new FieldInfo("array1", "double[]"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        assertEquals(3, boundBox.boundBox_fieldCount());
+        assertEquals("foo", boundBox.boundBox_fieldName(0));
+        assertEquals("a", boundBox.boundBox_fieldName(1));
+        assertEquals("test", boundBox.boundBox_getField(0));
+        assertEquals(2, boundBox.boundBox_getIntField(1));
+        assertEquals(2, boundBox.boundBox_getField(1));
+
+        boundBox.boundBox_setField(0, "bar");
+        boundBox.boundBox_setIntField(1, 3);
+        assertEquals("bar", clazz.getDeclaredMethod("boundBox_getFoo").invoke(boundBox));
+        assertEquals(3, clazz.getDeclaredMethod("boundBox_getA").invoke(boundBox));
+
+        try {
+            boundBox.boundBox_getIntField(0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Field foo is not of type int", e.getMessage());
+        }
+        try {
+            boundBox.boundBox_setField(1, null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Field a is primitive and can't be set to null", e.getMessage());
+        }
+        try {
+            boundBox.boundBox_getField(3);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testProcess_class_with_inherited_and_hiding_field_gives_indexed_access_to_both_fields() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithInheritedAndHidingField";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+        neededClasses.add("TestClassWithSingleField");
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        FieldInfo fieldInfo = new FieldInfo("foo", "java.lang.String");
+        fieldInfo.setInheritanceLevel(0);
+        listFieldInfos.add(fieldInfo);
+        FieldInfo fieldInfo2 = new FieldInfo("foo", "java.lang.String");
+        fieldInfo2.setInheritanceLevel(1);
+        listFieldInfos.add(fieldInfo2);
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListSuperClassNames(Arrays.asList(classUnderTestName, "TestClassWithSingleField"));
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        assertEquals(2, boundBox.boundBox_fieldCount());
+        assertEquals("foo", boundBox.boundBox_fieldName(0));
+        assertEquals("TestClassWithSingleField.foo", boundBox.boundBox_fieldName(1));
+
+        BoundBoxSnapshot snapshot = boundBox.boundBox_snapshot();
+        assertEquals("test", snapshot.getReferenceValue(1));
+
+        boundBox.boundBox_setField(1, "bar");
+        assertEquals("test", boundBox.boundBox_getField(0));
+        assertEquals("bar", boundBox.boundBox_getField(1));
+        assertArrayEquals(new int[] { 1 }, boundBox.boundBox_diff(snapshot));
+
+        boundBox.boundBox_restore(snapshot);
+        assertEquals(0, boundBox.boundBox_diff(snapshot).length);
+        assertEquals("test", boundBox.boundBox_getField(1));
+    }
+
+    @Test
+    public void testProcess_class_with_many_fields_snapshots_and_restores_primitive_fields() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithManyFields";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("foo", "java.lang.String"));
+        listFieldInfos.add(new FieldInfo("a", "int"));
+        listFieldInfos.add(new FieldInfo("array1", "double[]"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        BoundBoxSnapshot snapshot = boundBox.boundBox_snapshot();
+        assertEquals(2, snapshot.getPrimitiveValue(0));
+
+        boundBox.boundBox_setIntField(1, 3);
+        boundBox.boundBox_setField(2, new double[] { 1 });
+        assertArrayEquals(new int[] { 1, 2 }, boundBox.boundBox_diff(snapshot));
+
+        boundBox.boundBox_restore(snapshot);
+        assertEquals(0, boundBox.boundBox_diff(snapshot).length);
+        assertEquals(2, boundBox.boundBox_getIntField(1));
+        assertSame(snapshot.getReferenceValue(1), boundBox.boundBox_getField(2));
+    }
+
+    @Test
+    public void testProcess_class_with_many_primitive_fields_snapshots_and_restores_them_unboxed() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithManyPrimitiveFields";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("flag", "boolean"));
+        listFieldInfos.add(new FieldInfo("letter", "char"));
+        listFieldInfos.add(new FieldInfo("ratio", "float"));
+        listFieldInfos.add(new FieldInfo("amount", "double"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        BoundBoxSnapshot snapshot = boundBox.boundBox_snapshot();
+        assertEquals(1, snapshot.getPrimitiveValue(0));
+        assertEquals('a', snapshot.getPrimitiveValue(1));
+        assertEquals(0, boundBox.boundBox_diff(snapshot).length);
+
+        boundBox.boundBox_setBooleanField(0, false);
+        boundBox.boundBox_setCharField(1, 'b');
+        boundBox.boundBox_setFloatField(2, 1.5f);
+        boundBox.boundBox_setDoubleField(3, 0.5);
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, boundBox.boundBox_diff(snapshot));
+
+        boundBox.boundBox_restore(snapshot);
+        assertEquals(0, boundBox.boundBox_diff(snapshot).length);
+        assertTrue(boundBox.boundBox_getBooleanField(0));
+        assertEquals('a', boundBox.boundBox_getCharField(1));
+        assertTrue(Float.isNaN(boundBox.boundBox_getFloatField(2)));
+        assertEquals(-0.5, boundBox.boundBox_getDoubleField(3), 0);
+    }
+
+    @Test
+    public void testProcess_class_with_thousands_of_fields_snapshots_and_restores_them() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithThousandsOfFields";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        for (int index = 0; index < 500; index++) {
+            listFieldInfos.add(new FieldInfo("i" + index, "int"));
+        }
+        for (int index = 0; index < 4000; index++) {
+            listFieldInfos.add(new FieldInfo("o" + index, "java.lang.Object"));
+        }
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        BoundBoxSnapshot snapshot = boundBox.boundBox_snapshot();
+
+        boundBox.boundBox_setIntField(499, 1);
+        boundBox.boundBox_setField(4499, "foo");
+        assertArrayEquals(new int[] { 499, 4499 }, boundBox.boundBox_diff(snapshot));
+
+        boundBox.boundBox_restore(snapshot);
+        assertEquals(0, boundBox.boundBox_diff(snapshot).length);
+        assertEquals(0, boundBox.boundBox_getIntField(499));
+        assertNull(boundBox.boundBox_getField(4499));
+    }
+
+    @Test
+    public void testProcess_class_with_single_final_field_refuses_indexed_set() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithSingleFinalField";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        FieldInfo fieldInfo = new FieldInfo("foo", "java.lang.String");
+        fieldInfo.setFinalField(true);
+        listFieldInfos.add(fieldInfo);
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        assertEquals("test", boundBox.boundBox_getField(0));
+        try {
+            boundBox.boundBox_setField(0, "bar");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Field foo is final", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testProcess_class_with_single_field_rebinds_to_another_instance() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithSingleField";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("foo", "java.lang.String"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Class<?> boundClass = clazz.getClassLoader().loadClass(classUnderTestName);
+        Object boundObject = boundClass.newInstance();
+        Object otherBoundObject = boundClass.newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        assertSame(clazz, clazz.getDeclaredMethod("boundBox_rebind", Object.class).getReturnType());
+
+        assertSame(boundBox, boundBox.boundBox_rebind(otherBoundObject));
+        boundBox.boundBox_setField(0, "bar");
+        assertEquals("bar", clazz.getDeclaredMethod("boundBox_getFoo").invoke(boundBox));
+
+        boundBox.boundBox_rebind(boundObject);
+        assertEquals("test", boundBox.boundBox_getField(0));
+    }
+
+    // ----------------------------------
+    // COMPACT LAYOUT
+    // ----------------------------------
+    @Test
+    public void testProcess_class_with_compact_layout_accesses_fields_through_dispatcher() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithSingleField";
+        List<String> neededClasses = new ArrayList<String>();
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("foo", "java.lang.String"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setLayout(Layout.COMPACT);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        assertNotNull(clazz.getDeclaredMethod(writer.getNamingGenerator().createDispatcherName("get"), int.class, Object.class));
+        try {
+            clazz.getDeclaredField(writer.getNamingGenerator().createHandleName(0));
+            fail();
+        } catch (NoSuchFieldException e) {
+            // expected : members are kept in the table of the dispatcher
+        }
+
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        Method getter = clazz.getDeclaredMethod("boundBox_getFoo");
+        Method setter = clazz.getDeclaredMethod("boundBox_setFoo", String.class);
+
+        assertEquals("test", getter.invoke(boundBox));
+        setter.invoke(boundBox, "bar");
+        assertEquals("bar", getter.invoke(boundBox));
+    }
+
+    @Test
+    public void testProcess_class_with_thousands_of_fields_and_compact_layout_accesses_them_through_dispatcher() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithThousandsOfFields";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        for (int index = 0; index < 500; index++) {
+            listFieldInfos.add(new FieldInfo("i" + index, "int"));
+        }
+        for (int index = 0; index < 4000; index++) {
+            listFieldInfos.add(new FieldInfo("o" + index, "java.lang.Object"));
+        }
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setLayout(Layout.COMPACT);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        IndexedBoundBox boundBox = (IndexedBoundBox) clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+
+        boundBox.boundBox_setIntField(0, 1);
+        boundBox.boundBox_setField(4499, "foo");
+        assertEquals(1, boundBox.boundBox_getIntField(0));
+        assertEquals("foo", boundBox.boundBox_getField(4499));
+    }
+
+    @Test
+    public void testProcess_class_with_compact_layout_invokes_methods_and_constructors() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithManyMethods";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<MethodInfo> listConstructorInfos = new ArrayList<MethodInfo>();
+        listConstructorInfos.add(new MethodInfo("<init>", "void", new ArrayList<FieldInfo>(), null));
+        classInfo.setListConstructorInfos(listConstructorInfos);
+        List<MethodInfo> listMethodInfos = new ArrayList<MethodInfo>();
+        FieldInfo fieldInfo = new FieldInfo("a", "int");
+        FieldInfo fieldInfo2 = new FieldInfo("b", Object.class.getName());
+        listMethodInfos.add(new MethodInfo("withManyArguments", "void", Arrays.<FieldInfo>asList(fieldInfo, fieldInfo2), null));
+        listMethodInfos.add(new MethodInfo("withPrimitiveLongReturnType", "long", Arrays.<FieldInfo>asList(), null));
+        listMethodInfos.add(new MethodInfo("withSingleThrownType", "void", Arrays.<FieldInfo>asList(), Arrays.asList("java.io.IOException")));
+        classInfo.setListMethodInfos(listMethodInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setLayout(Layout.COMPACT);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getDeclaredMethod("boundBox_new").invoke(null);
+        assertEquals(classUnderTestName, boundObject.getClass().getName());
+
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        clazz.getDeclaredMethod("withManyArguments", int.class, Object.class).invoke(boundBox, 1, null);
+        assertEquals(0L, clazz.getDeclaredMethod("withPrimitiveLongReturnType").invoke(boundBox));
+        clazz.getDeclaredMethod("withSingleThrownType").invoke(boundBox);
+    }
+
+    @Test
+    public void testProcess_class_with_compact_layout_throws_boundbox_exception_for_unresolvable_member() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithSingleField";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        List<FieldInfo> listFieldInfos = new ArrayList<FieldInfo>();
+        listFieldInfos.add(new FieldInfo("doesNotExist", "java.lang.String"));
+        classInfo.setListFieldInfos(listFieldInfos);
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setLayout(Layout.COMPACT);
+        writer.setResolution(Resolution.EAGER);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object boundObject = clazz.getClassLoader().loadClass(classUnderTestName).newInstance();
+        Object boundBox = clazz.getDeclaredConstructor(Object.class).newInstance(boundObject);
+        try {
+            clazz.getDeclaredMethod("boundBox_getDoesNotExist").invoke(boundBox);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertEquals(BoundBoxException.class.getName(), e.getCause().getClass().getName());
+        }
+    }
+
+    @Test
+    public void testProcess_class_with_compact_layout_and_static_inner_class() throws Exception {
+        // given
+        String classUnderTestName = "TestClassWithStaticInnerClassWithManyFieldsAndMethods";
+        List<String> neededClasses = new ArrayList<String>();
+        neededClasses.add(classUnderTestName);
+
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+
+        List<MethodInfo> listInnerClassConstructorInfos = new ArrayList<MethodInfo>();
+        listInnerClassConstructorInfos.add(new MethodInfo("<init>", "Object", new ArrayList<FieldInfo>(), null));
+
+        List<FieldInfo> listInnerClassFieldInfos = new ArrayList<FieldInfo>();
+        FieldInfo innerClassFieldInfo = new FieldInfo("a", int.class.getName());
+        listInnerClassFieldInfos.add(innerClassFieldInfo);
+
+        List<MethodInfo> listInnerClassMethodInfos = new ArrayList<MethodInfo>();
+        listInnerClassMethodInfos.add(new MethodInfo("bar", "void", Arrays.asList(innerClassFieldInfo), null));
+
+        InnerClassInfo innerClassInfo = new InnerClassInfo("InnerClass");
+        innerClassInfo.setStaticInnerClass(true);
+        innerClassInfo.setListConstructorInfos(listInnerClassConstructorInfos);
+        innerClassInfo.setListFieldInfos(listInnerClassFieldInfos);
+        innerClassInfo.setListMethodInfos(listInnerClassMethodInfos);
+
+        classInfo.setListInnerClassInfo(Arrays.<InnerClassInfo>asList(innerClassInfo));
+        classInfo.setListImports(new HashSet<String>());
+
+        Writer out = createWriterInSandbox(writer.getNamingGenerator().createBoundBoxName(classInfo));
+
+        // when
+        writer.setLayout(Layout.COMPACT);
+        writer.writeBoundBox(classInfo, out);
+        closeSandboxWriter();
+
+        // then
+        CompilationTask task = createCompileTask(writer.getNamingGenerator().createBoundBoxName(classInfo), neededClasses);
+        boolean result = task.call();
+        assertTrue(result);
+
+        Class<?> clazz = loadBoundBoxClass(writer.getNamingGenerator().createBoundBoxName(classInfo));
+        Object innerObject = clazz.getDeclaredMethod("boundBox_new_InnerClass").invoke(null);
+        Class<?> innerClass = clazz.getDeclaredClasses()[0];
+        Object innerBoundBox = innerClass.getDeclaredConstructor(Object.class).newInstance(innerObject);
+        innerClass.getDeclaredMethod("boundBox_setA", int.class).invoke(innerBoundBox, 3);
+        assertEquals(3, innerClass.getDeclaredMethod("boundBox_getA").invoke(innerBoundBox));
+        innerClass.getDeclaredMethod("bar", int.class).invoke(innerBoundBox, 4);
+    }
+
+    // ----------------------------------
+    // PRIVATE METHODS
+    // ----------------------------------
+
+    private FieldInfo createConstantFieldInfo(String fieldName, String fieldTypeName, Object constantValue) {
+        FieldInfo fieldInfo = new FieldInfo(fieldName, fieldTypeName);
+        fieldInfo.setStaticField(true);
+        fieldInfo.setFinalField(true);
+        fieldInfo.setConstantValue(constantValue);
+        return fieldInfo;
+    }
+
+    private Class<?> loadBoundBoxClass(String className) throws ClassNotFoundException {
+        return new CustomClassLoader().loadClass(className);
+    }
+
+    private CompilationTask createCompileTask(String className, List<String> neededClasses) throws URISyntaxException {
+        String[] writtenSourceFileNames = new String[] { classNameToJavaFile(className) };
+        List<String> neededJavaFiles = new ArrayList<String>();
+        for (String neededClass : neededClasses) {
+            neededJavaFiles.add(classNameToJavaFile(neededClass));
+        }
+        String[] testSourceFileNames = neededJavaFiles.toArray(new String[0]);
+        CompilationTask task = processAnnotations(writtenSourceFileNames, testSourceFileNames);
+        return task;
+    }
+
+    private FileWriter createWriterInSandbox(String classFQN) throws IOException {
+        createFolders(classNameToPath(classFQN));
+        sandboxWriter = new FileWriter(new File(sandBoxDir, classNameToJavaFile(classFQN)));
+        return sandboxWriter;
+    }
+
+    private void createFolders(String path) {
+        if (StringUtils.isEmpty(path)) {
+            return;
+        }
+
+        new File(sandBoxDir, path).mkdirs();
+    }
+
+    private String classNameToPath(String classFQN) {
+        return StringUtils.substringBeforeLast(classFQN, ".").replaceAll("\\.", "/");
+    }
+
+    private String classNameToJavaFile(String classFQN) {
+        return classFQN.replaceAll("\\.", "/").concat(".java");
+    }
+
+    private CompilationTask processAnnotations(String[] writtenSourceFileNames, String[] testSourceFileNames) throws URISyntaxException {
+        // Get an instance of java compiler
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        // Get a new instance of the standard file manager implementation
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
+        // Get the list of java file objects, in this case we have only
+        // one file, TestClass.java
+        // http://stackoverflow.com/a/676102/693752
+        List<File> listSourceFiles = new ArrayList<File>();
+        for (String sourceFileName : writtenSourceFileNames) {
+            listSourceFiles.add(new File(sandBoxDir, sourceFileName));
+        }
+
+        for (String sourceFileName : testSourceFileNames) {
+            listSourceFiles.add(new File(ClassLoader.getSystemResource(sourceFileName).toURI()));
+        }
+        Iterable<? extends JavaFileObject> compilationUnits1 = fileManager.getJavaFileObjectsFromFiles(listSourceFiles);
+
+        Iterable<String> options = Arrays.asList("-d", sandBoxDir.getAbsolutePath());
+
+        // Create the compilation task
+        CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits1);
+
+        task.setProcessors(new LinkedList<Processor>());
+        return task;
+    }
+
+    // ----------------------------------
+    // INNER CLASS
+    // ----------------------------------
+    private final class CustomClassLoader extends ClassLoader {
         @Override
         public Class<?> loadClass(String name) throws ClassNotFoundException {
+            Class<?> loadedClass = findLoadedClass(name);
+            if (loadedClass != null) {
+                return loadedClass;
+            }
             String classPath = name.replaceAll("\\.", File.separator);
             File classFile = new File(sandBoxDir, classPath + ".class");
             if (!classFile.exists()) {
@@ -55,6 +55,21 @@ public class DocumentationGeneratorTest {
         assertTrue(javadoc.contains("@param boundObject"));
     }
 
+    @Test
+    public void testGenerateJavadocForBoundBoxRebind() throws IOException {
+        // given
+        String classUnderTestName = "TestClassWithNothing";
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+
+        // when
+        String javadoc = documentationGenerator.generateJavadocForBoundBoxRebind(classInfo);
+
+        // then
+        assertTrue(StringUtils.isNotEmpty(javadoc));
+        assertTrue(javadoc.contains("@param boundObject"));
+        assertTrue(javadoc.contains("@return this BoundBox."));
+    }
+
     @Test
     public void testGenerateJavadocForBoundConstructor() throws IOException {
         // given
@@ -179,4 +194,36 @@ public class DocumentationGeneratorTest {
         assertEquals(decoratorList.get(0).length(), decoratorList.get(1).length());
     }
 
+
+    @Test
+    public void testGenerateJavadocForBoundAccessMode() throws IOException {
+        // given
+        String classUnderTestName = "TestClassWithNothing";
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        FieldInfo fieldInfo = new FieldInfo("foo", "int");
+
+        // when
+        String javadoc = documentationGenerator.generateJavadocForBoundAccessMode(classInfo, fieldInfo, "compareAndSet");
+
+        // then
+        assertTrue(StringUtils.isNotEmpty(javadoc));
+        assertTrue(javadoc.contains("@see java.lang.invoke.VarHandle#compareAndSet"));
+        assertTrue(javadoc.contains("@see TestClassWithNothing#foo"));
+    }
+
+    @Test
+    public void testGenerateJavadocForBoundAccessor() throws IOException {
+        // given
+        String classUnderTestName = "TestClassWithNothing";
+        ClassInfo classInfo = new ClassInfo(classUnderTestName);
+        FieldInfo fieldInfo = new FieldInfo("foo", "int");
+
+        // when
+        String javadoc = documentationGenerator.generateJavadocForBoundAccessor(classInfo, fieldInfo, true);
+
+        // then
+        assertTrue(StringUtils.isNotEmpty(javadoc));
+        assertTrue(javadoc.contains("setter of the field foo"));
+        assertTrue(javadoc.contains("@see TestClassWithNothing#foo"));
+    }
 }
@@ -1,8 +1,10 @@
 package org.boundbox.writer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.boundbox.model.FieldInfo;
@@ -43,4 +45,20 @@ public class NamingGeneratorTest {
         fail();
     }
 
+    @Test
+    public void testCreateInvokerName_tells_overloads_apart_by_parameter_types() {
+        //given
+        FieldInfo parameterInfo = new FieldInfo("a", "int[]");
+        FieldInfo parameterInfo2 = new FieldInfo("b", "java.util.List<String>");
+        MethodInfo methodInfo = new MethodInfo("foo", "void", Arrays.asList(parameterInfo, parameterInfo2), null);
+
+        //when
+        String invokerName = namingGenerator.createInvokerName(methodInfo, Collections.<String>emptyList(), false);
+        String overloadInvokerName = namingGenerator.createInvokerName(methodInfo, Collections.<String>emptyList(), true);
+
+        //then
+        assertEquals("boundBox_invokerOfFoo", invokerName);
+        assertEquals("boundBox_invokerOfFoo_intArray_List", overloadInvokerName);
+    }
+
 }
@@ -0,0 +1,13 @@
+import org.boundbox.BoundBox;
+
+@SuppressWarnings("unused")
+@BoundBox(boundClass = TestClassWithConstants.class)
+public class TestClassWithConstants {
+    private static final String FOO = "a \"quoted\"\nline";
+    private static final char QUOTE = '\'';
+    private static final long MIN = Long.MIN_VALUE;
+    private static final float NOT_A_NUMBER = Float.NaN;
+    private static final double INFINITY = Double.NEGATIVE_INFINITY;
+    private static final short SHORT = -3;
+    private static final String NOT_A_CONSTANT = String.valueOf(1);
+}
@@ -0,0 +1,22 @@
+import org.boundbox.BoundBox;
+
+@SuppressWarnings("unused")
+@BoundBox(boundClass = TestClassWithDirectlyAccessibleMembers.class)
+public class TestClassWithDirectlyAccessibleMembers {
+    public String publicField;
+    int packageField;
+    private String privateField;
+
+    public TestClassWithDirectlyAccessibleMembers() {
+    }
+
+    private TestClassWithDirectlyAccessibleMembers(int a) {
+    }
+
+    protected void protectedMethod() {
+        throw new IllegalStateException("protectedMethod");
+    }
+
+    private void privateMethod() {
+    }
+}
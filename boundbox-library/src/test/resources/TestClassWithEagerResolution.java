@@ -0,0 +1,8 @@
+import org.boundbox.BoundBox;
+import org.boundbox.Resolution;
+
+@SuppressWarnings("unused")
+@BoundBox(boundClass = TestClassWithEagerResolution.class, resolution = Resolution.EAGER)
+public class TestClassWithEagerResolution {
+    private String foo = "test";
+}
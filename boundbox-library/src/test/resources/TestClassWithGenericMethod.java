@@ -0,0 +1,7 @@
+public class TestClassWithGenericMethod<T> {
+    protected void foo(T a) {
+    }
+
+    protected void foo(Object a, Object b) {
+    }
+}
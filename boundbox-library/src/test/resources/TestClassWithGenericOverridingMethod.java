@@ -0,0 +1,11 @@
+import org.boundbox.BoundBox;
+
+@BoundBox(boundClass = TestClassWithGenericOverridingMethod.class)
+public class TestClassWithGenericOverridingMethod extends TestClassWithGenericMethod<String> {
+    @Override
+    protected void foo(String a) {
+    }
+
+    protected void foo(Object a, int b) {
+    }
+}
@@ -0,0 +1,10 @@
+import org.boundbox.BoundBox;
+
+@SuppressWarnings("unused")
+@BoundBox(boundClass = TestClassWithManyPrimitiveFields.class)
+public class TestClassWithManyPrimitiveFields {
+    private boolean flag = true;
+    private char letter = 'a';
+    private float ratio = Float.NaN;
+    private double amount = -0.5;
+}
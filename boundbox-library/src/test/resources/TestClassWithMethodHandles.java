@@ -0,0 +1,8 @@
+import org.boundbox.Backend;
+import org.boundbox.BoundBox;
+
+@SuppressWarnings("unused")
+@BoundBox(boundClass = TestClassWithMethodHandles.class, backend = Backend.METHOD_HANDLES)
+public class TestClassWithMethodHandles {
+    private String foo = "test";
+}
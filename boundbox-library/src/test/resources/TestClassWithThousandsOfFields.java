@@ -0,0 +1,231 @@
+import org.boundbox.BoundBox;
+
+@SuppressWarnings("unused")
+@BoundBox(boundClass = TestClassWithThousandsOfFields.class)
+public class TestClassWithThousandsOfFields {
+    private int i0, i1, i2, i3, i4, i5, i6, i7, i8, i9, i10, i11, i12, i13, i14, i15, i16, i17, i18, i19;
+    private int i20, i21, i22, i23, i24, i25, i26, i27, i28, i29, i30, i31, i32, i33, i34, i35, i36, i37, i38, i39;
+    private int i40, i41, i42, i43, i44, i45, i46, i47, i48, i49, i50, i51, i52, i53, i54, i55, i56, i57, i58, i59;
+    private int i60, i61, i62, i63, i64, i65, i66, i67, i68, i69, i70, i71, i72, i73, i74, i75, i76, i77, i78, i79;
+    private int i80, i81, i82, i83, i84, i85, i86, i87, i88, i89, i90, i91, i92, i93, i94, i95, i96, i97, i98, i99;
+    private int i100, i101, i102, i103, i104, i105, i106, i107, i108, i109, i110, i111, i112, i113, i114, i115, i116, i117, i118, i119;
+    private int i120, i121, i122, i123, i124, i125, i126, i127, i128, i129, i130, i131, i132, i133, i134, i135, i136, i137, i138, i139;
+    private int i140, i141, i142, i143, i144, i145, i146, i147, i148, i149, i150, i151, i152, i153, i154, i155, i156, i157, i158, i159;
+    private int i160, i161, i162, i163, i164, i165, i166, i167, i168, i169, i170, i171, i172, i173, i174, i175, i176, i177, i178, i179;
+    private int i180, i181, i182, i183, i184, i185, i186, i187, i188, i189, i190, i191, i192, i193, i194, i195, i196, i197, i198, i199;
+    private int i200, i201, i202, i203, i204, i205, i206, i207, i208, i209, i210, i211, i212, i213, i214, i215, i216, i217, i218, i219;
+    private int i220, i221, i222, i223, i224, i225, i226, i227, i228, i229, i230, i231, i232, i233, i234, i235, i236, i237, i238, i239;
+    private int i240, i241, i242, i243, i244, i245, i246, i247, i248, i249, i250, i251, i252, i253, i254, i255, i256, i257, i258, i259;
+    private int i260, i261, i262, i263, i264, i265, i266, i267, i268, i269, i270, i271, i272, i273, i274, i275, i276, i277, i278, i279;
+    private int i280, i281, i282, i283, i284, i285, i286, i287, i288, i289, i290, i291, i292, i293, i294, i295, i296, i297, i298, i299;
+    private int i300, i301, i302, i303, i304, i305, i306, i307, i308, i309, i310, i311, i312, i313, i314, i315, i316, i317, i318, i319;
+    private int i320, i321, i322, i323, i324, i325, i326, i327, i328, i329, i330, i331, i332, i333, i334, i335, i336, i337, i338, i339;
+    private int i340, i341, i342, i343, i344, i345, i346, i347, i348, i349, i350, i351, i352, i353, i354, i355, i356, i357, i358, i359;
+    private int i360, i361, i362, i363, i364, i365, i366, i367, i368, i369, i370, i371, i372, i373, i374, i375, i376, i377, i378, i379;
+    private int i380, i381, i382, i383, i384, i385, i386, i387, i388, i389, i390, i391, i392, i393, i394, i395, i396, i397, i398, i399;
+    private int i400, i401, i402, i403, i404, i405, i406, i407, i408, i409, i410, i411, i412, i413, i414, i415, i416, i417, i418, i419;
+    private int i420, i421, i422, i423, i424, i425, i426, i427, i428, i429, i430, i431, i432, i433, i434, i435, i436, i437, i438, i439;
+    private int i440, i441, i442, i443, i444, i445, i446, i447, i448, i449, i450, i451, i452, i453, i454, i455, i456, i457, i458, i459;
+    private int i460, i461, i462, i463, i464, i465, i466, i467, i468, i469, i470, i471, i472, i473, i474, i475, i476, i477, i478, i479;
+    private int i480, i481, i482, i483, i484, i485, i486, i487, i488, i489, i490, i491, i492, i493, i494, i495, i496, i497, i498, i499;
+    private Object o0, o1, o2, o3, o4, o5, o6, o7, o8, o9, o10, o11, o12, o13, o14, o15, o16, o17, o18, o19;
+    private Object o20, o21, o22, o23, o24, o25, o26, o27, o28, o29, o30, o31, o32, o33, o34, o35, o36, o37, o38, o39;
+    private Object o40, o41, o42, o43, o44, o45, o46, o47, o48, o49, o50, o51, o52, o53, o54, o55, o56, o57, o58, o59;
+    private Object o60, o61, o62, o63, o64, o65, o66, o67, o68, o69, o70, o71, o72, o73, o74, o75, o76, o77, o78, o79;
+    private Object o80, o81, o82, o83, o84, o85, o86, o87, o88, o89, o90, o91, o92, o93, o94, o95, o96, o97, o98, o99;
+    private Object o100, o101, o102, o103, o104, o105, o106, o107, o108, o109, o110, o111, o112, o113, o114, o115, o116, o117, o118, o119;
+    private Object o120, o121, o122, o123, o124, o125, o126, o127, o128, o129, o130, o131, o132, o133, o134, o135, o136, o137, o138, o139;
+    private Object o140, o141, o142, o143, o144, o145, o146, o147, o148, o149, o150, o151, o152, o153, o154, o155, o156, o157, o158, o159;
+    private Object o160, o161, o162, o163, o164, o165, o166, o167, o168, o169, o170, o171, o172, o173, o174, o175, o176, o177, o178, o179;
+    private Object o180, o181, o182, o183, o184, o185, o186, o187, o188, o189, o190, o191, o192, o193, o194, o195, o196, o197, o198, o199;
+    private Object o200, o201, o202, o203, o204, o205, o206, o207, o208, o209, o210, o211, o212, o213, o214, o215, o216, o217, o218, o219;
+    private Object o220, o221, o222, o223, o224, o225, o226, o227, o228, o229, o230, o231, o232, o233, o234, o235, o236, o237, o238, o239;
+    private Object o240, o241, o242, o243, o244, o245, o246, o247, o248, o249, o250, o251, o252, o253, o254, o255, o256, o257, o258, o259;
+    private Object o260, o261, o262, o263, o264, o265, o266, o267, o268, o269, o270, o271, o272, o273, o274, o275, o276, o277, o278, o279;
+    private Object o280, o281, o282, o283, o284, o285, o286, o287, o288, o289, o290, o291, o292, o293, o294, o295, o296, o297, o298, o299;
+    private Object o300, o301, o302, o303, o304, o305, o306, o307, o308, o309, o310, o311, o312, o313, o314, o315, o316, o317, o318, o319;
+    private Object o320, o321, o322, o323, o324, o325, o326, o327, o328, o329, o330, o331, o332, o333, o334, o335, o336, o337, o338, o339;
+    private Object o340, o341, o342, o343, o344, o345, o346, o347, o348, o349, o350, o351, o352, o353, o354, o355, o356, o357, o358, o359;
+    private Object o360, o361, o362, o363, o364, o365, o366, o367, o368, o369, o370, o371, o372, o373, o374, o375, o376, o377, o378, o379;
+    private Object o380, o381, o382, o383, o384, o385, o386, o387, o388, o389, o390, o391, o392, o393, o394, o395, o396, o397, o398, o399;
+    private Object o400, o401, o402, o403, o404, o405, o406, o407, o408, o409, o410, o411, o412, o413, o414, o415, o416, o417, o418, o419;
+    private Object o420, o421, o422, o423, o424, o425, o426, o427, o428, o429, o430, o431, o432, o433, o434, o435, o436, o437, o438, o439;
+    private Object o440, o441, o442, o443, o444, o445, o446, o447, o448, o449, o450, o451, o452, o453, o454, o455, o456, o457, o458, o459;
+    private Object o460, o461, o462, o463, o464, o465, o466, o467, o468, o469, o470, o471, o472, o473, o474, o475, o476, o477, o478, o479;
+    private Object o480, o481, o482, o483, o484, o485, o486, o487, o488, o489, o490, o491, o492, o493, o494, o495, o496, o497, o498, o499;
+    private Object o500, o501, o502, o503, o504, o505, o506, o507, o508, o509, o510, o511, o512, o513, o514, o515, o516, o517, o518, o519;
+    private Object o520, o521, o522, o523, o524, o525, o526, o527, o528, o529, o530, o531, o532, o533, o534, o535, o536, o537, o538, o539;
+    private Object o540, o541, o542, o543, o544, o545, o546, o547, o548, o549, o550, o551, o552, o553, o554, o555, o556, o557, o558, o559;
+    private Object o560, o561, o562, o563, o564, o565, o566, o567, o568, o569, o570, o571, o572, o573, o574, o575, o576, o577, o578, o579;
+    private Object o580, o581, o582, o583, o584, o585, o586, o587, o588, o589, o590, o591, o592, o593, o594, o595, o596, o597, o598, o599;
+    private Object o600, o601, o602, o603, o604, o605, o606, o607, o608, o609, o610, o611, o612, o613, o614, o615, o616, o617, o618, o619;
+    private Object o620, o621, o622, o623, o624, o625, o626, o627, o628, o629, o630, o631, o632, o633, o634, o635, o636, o637, o638, o639;
+    private Object o640, o641, o642, o643, o644, o645, o646, o647, o648, o649, o650, o651, o652, o653, o654, o655, o656, o657, o658, o659;
+    private Object o660, o661, o662, o663, o664, o665, o666, o667, o668, o669, o670, o671, o672, o673, o674, o675, o676, o677, o678, o679;
+    private Object o680, o681, o682, o683, o684, o685, o686, o687, o688, o689, o690, o691, o692, o693, o694, o695, o696, o697, o698, o699;
+    private Object o700, o701, o702, o703, o704, o705, o706, o707, o708, o709, o710, o711, o712, o713, o714, o715, o716, o717, o718, o719;
+    private Object o720, o721, o722, o723, o724, o725, o726, o727, o728, o729, o730, o731, o732, o733, o734, o735, o736, o737, o738, o739;
+    private Object o740, o741, o742, o743, o744, o745, o746, o747, o748, o749, o750, o751, o752, o753, o754, o755, o756, o757, o758, o759;
+    private Object o760, o761, o762, o763, o764, o765, o766, o767, o768, o769, o770, o771, o772, o773, o774, o775, o776, o777, o778, o779;
+    private Object o780, o781, o782, o783, o784, o785, o786, o787, o788, o789, o790, o791, o792, o793, o794, o795, o796, o797, o798, o799;
+    private Object o800, o801, o802, o803, o804, o805, o806, o807, o808, o809, o810, o811, o812, o813, o814, o815, o816, o817, o818, o819;
+    private Object o820, o821, o822, o823, o824, o825, o826, o827, o828, o829, o830, o831, o832, o833, o834, o835, o836, o837, o838, o839;
+    private Object o840, o841, o842, o843, o844, o845, o846, o847, o848, o849, o850, o851, o852, o853, o854, o855, o856, o857, o858, o859;
+    private Object o860, o861, o862, o863, o864, o865, o866, o867, o868, o869, o870, o871, o872, o873, o874, o875, o876, o877, o878, o879;
+    private Object o880, o881, o882, o883, o884, o885, o886, o887, o888, o889, o890, o891, o892, o893, o894, o895, o896, o897, o898, o899;
+    private Object o900, o901, o902, o903, o904, o905, o906, o907, o908, o909, o910, o911, o912, o913, o914, o915, o916, o917, o918, o919;
+    private Object o920, o921, o922, o923, o924, o925, o926, o927, o928, o929, o930, o931, o932, o933, o934, o935, o936, o937, o938, o939;
+    private Object o940, o941, o942, o943, o944, o945, o946, o947, o948, o949, o950, o951, o952, o953, o954, o955, o956, o957, o958, o959;
+    private Object o960, o961, o962, o963, o964, o965, o966, o967, o968, o969, o970, o971, o972, o973, o974, o975, o976, o977, o978, o979;
+    private Object o980, o981, o982, o983, o984, o985, o986, o987, o988, o989, o990, o991, o992, o993, o994, o995, o996, o997, o998, o999;
+    private Object o1000, o1001, o1002, o1003, o1004, o1005, o1006, o1007, o1008, o1009, o1010, o1011, o1012, o1013, o1014, o1015, o1016, o1017, o1018, o1019;
+    private Object o1020, o1021, o1022, o1023, o1024, o1025, o1026, o1027, o1028, o1029, o1030, o1031, o1032, o1033, o1034, o1035, o1036, o1037, o1038, o1039;
+    private Object o1040, o1041, o1042, o1043, o1044, o1045, o1046, o1047, o1048, o1049, o1050, o1051, o1052, o1053, o1054, o1055, o1056, o1057, o1058, o1059;
+    private Object o1060, o1061, o1062, o1063, o1064, o1065, o1066, o1067, o1068, o1069, o1070, o1071, o1072, o1073, o1074, o1075, o1076, o1077, o1078, o1079;
+    private Object o1080, o1081, o1082, o1083, o1084, o1085, o1086, o1087, o1088, o1089, o1090, o1091, o1092, o1093, o1094, o1095, o1096, o1097, o1098, o1099;
+    private Object o1100, o1101, o1102, o1103, o1104, o1105, o1106, o1107, o1108, o1109, o1110, o1111, o1112, o1113, o1114, o1115, o1116, o1117, o1118, o1119;
+    private Object o1120, o1121, o1122, o1123, o1124, o1125, o1126, o1127, o1128, o1129, o1130, o1131, o1132, o1133, o1134, o1135, o1136, o1137, o1138, o1139;
+    private Object o1140, o1141, o1142, o1143, o1144, o1145, o1146, o1147, o1148, o1149, o1150, o1151, o1152, o1153, o1154, o1155, o1156, o1157, o1158, o1159;
+    private Object o1160, o1161, o1162, o1163, o1164, o1165, o1166, o1167, o1168, o1169, o1170, o1171, o1172, o1173, o1174, o1175, o1176, o1177, o1178, o1179;
+    private Object o1180, o1181, o1182, o1183, o1184, o1185, o1186, o1187, o1188, o1189, o1190, o1191, o1192, o1193, o1194, o1195, o1196, o1197, o1198, o1199;
+    private Object o1200, o1201, o1202, o1203, o1204, o1205, o1206, o1207, o1208, o1209, o1210, o1211, o1212, o1213, o1214, o1215, o1216, o1217, o1218, o1219;
+    private Object o1220, o1221, o1222, o1223, o1224, o1225, o1226, o1227, o1228, o1229, o1230, o1231, o1232, o1233, o1234, o1235, o1236, o1237, o1238, o1239;
+    private Object o1240, o1241, o1242, o1243, o1244, o1245, o1246, o1247, o1248, o1249, o1250, o1251, o1252, o1253, o1254, o1255, o1256, o1257, o1258, o1259;
+    private Object o1260, o1261, o1262, o1263, o1264, o1265, o1266, o1267, o1268, o1269, o1270, o1271, o1272, o1273, o1274, o1275, o1276, o1277, o1278, o1279;
+    private Object o1280, o1281, o1282, o1283, o1284, o1285, o1286, o1287, o1288, o1289, o1290, o1291, o1292, o1293, o1294, o1295, o1296, o1297, o1298, o1299;
+    private Object o1300, o1301, o1302, o1303, o1304, o1305, o1306, o1307, o1308, o1309, o1310, o1311, o1312, o1313, o1314, o1315, o1316, o1317, o1318, o1319;
+    private Object o1320, o1321, o1322, o1323, o1324, o1325, o1326, o1327, o1328, o1329, o1330, o1331, o1332, o1333, o1334, o1335, o1336, o1337, o1338, o1339;
+    private Object o1340, o1341, o1342, o1343, o1344, o1345, o1346, o1347, o1348, o1349, o1350, o1351, o1352, o1353, o1354, o1355, o1356, o1357, o1358, o1359;
+    private Object o1360, o1361, o1362, o1363, o1364, o1365, o1366, o1367, o1368, o1369, o1370, o1371, o1372, o1373, o1374, o1375, o1376, o1377, o1378, o1379;
+    private Object o1380, o1381, o1382, o1383, o1384, o1385, o1386, o1387, o1388, o1389, o1390, o1391, o1392, o1393, o1394, o1395, o1396, o1397, o1398, o1399;
+    private Object o1400, o1401, o1402, o1403, o1404, o1405, o1406, o1407, o1408, o1409, o1410, o1411, o1412, o1413, o1414, o1415, o1416, o1417, o1418, o1419;
+    private Object o1420, o1421, o1422, o1423, o1424, o1425, o1426, o1427, o1428, o1429, o1430, o1431, o1432, o1433, o1434, o1435, o1436, o1437, o1438, o1439;
+    private Object o1440, o1441, o1442, o1443, o1444, o1445, o1446, o1447, o1448, o1449, o1450, o1451, o1452, o1453, o1454, o1455, o1456, o1457, o1458, o1459;
+    private Object o1460, o1461, o1462, o1463, o1464, o1465, o1466, o1467, o1468, o1469, o1470, o1471, o1472, o1473, o1474, o1475, o1476, o1477, o1478, o1479;
+    private Object o1480, o1481, o1482, o1483, o1484, o1485, o1486, o1487, o1488, o1489, o1490, o1491, o1492, o1493, o1494, o1495, o1496, o1497, o1498, o1499;
+    private Object o1500, o1501, o1502, o1503, o1504, o1505, o1506, o1507, o1508, o1509, o1510, o1511, o1512, o1513, o1514, o1515, o1516, o1517, o1518, o1519;
+    private Object o1520, o1521, o1522, o1523, o1524, o1525, o1526, o1527, o1528, o1529, o1530, o1531, o1532, o1533, o1534, o1535, o1536, o1537, o1538, o1539;
+    private Object o1540, o1541, o1542, o1543, o1544, o1545, o1546, o1547, o1548, o1549, o1550, o1551, o1552, o1553, o1554, o1555, o1556, o1557, o1558, o1559;
+    private Object o1560, o1561, o1562, o1563, o1564, o1565, o1566, o1567, o1568, o1569, o1570, o1571, o1572, o1573, o1574, o1575, o1576, o1577, o1578, o1579;
+    private Object o1580, o1581, o1582, o1583, o1584, o1585, o1586, o1587, o1588, o1589, o1590, o1591, o1592, o1593, o1594, o1595, o1596, o1597, o1598, o1599;
+    private Object o1600, o1601, o1602, o1603, o1604, o1605, o1606, o1607, o1608, o1609, o1610, o1611, o1612, o1613, o1614, o1615, o1616, o1617, o1618, o1619;
+    private Object o1620, o1621, o1622, o1623, o1624, o1625, o1626, o1627, o1628, o1629, o1630, o1631, o1632, o1633, o1634, o1635, o1636, o1637, o1638, o1639;
+    private Object o1640, o1641, o1642, o1643, o1644, o1645, o1646, o1647, o1648, o1649, o1650, o1651, o1652, o1653, o1654, o1655, o1656, o1657, o1658, o1659;
+    private Object o1660, o1661, o1662, o1663, o1664, o1665, o1666, o1667, o1668, o1669, o1670, o1671, o1672, o1673, o1674, o1675, o1676, o1677, o1678, o1679;
+    private Object o1680, o1681, o1682, o1683, o1684, o1685, o1686, o1687, o1688, o1689, o1690, o1691, o1692, o1693, o1694, o1695, o1696, o1697, o1698, o1699;
+    private Object o1700, o1701, o1702, o1703, o1704, o1705, o1706, o1707, o1708, o1709, o1710, o1711, o1712, o1713, o1714, o1715, o1716, o1717, o1718, o1719;
+    private Object o1720, o1721, o1722, o1723, o1724, o1725, o1726, o1727, o1728, o1729, o1730, o1731, o1732, o1733, o1734, o1735, o1736, o1737, o1738, o1739;
+    private Object o1740, o1741, o1742, o1743, o1744, o1745, o1746, o1747, o1748, o1749, o1750, o1751, o1752, o1753, o1754, o1755, o1756, o1757, o1758, o1759;
+    private Object o1760, o1761, o1762, o1763, o1764, o1765, o1766, o1767, o1768, o1769, o1770, o1771, o1772, o1773, o1774, o1775, o1776, o1777, o1778, o1779;
+    private Object o1780, o1781, o1782, o1783, o1784, o1785, o1786, o1787, o1788, o1789, o1790, o1791, o1792, o1793, o1794, o1795, o1796, o1797, o1798, o1799;
+    private Object o1800, o1801, o1802, o1803, o1804, o1805, o1806, o1807, o1808, o1809, o1810, o1811, o1812, o1813, o1814, o1815, o1816, o1817, o1818, o1819;
+    private Object o1820, o1821, o1822, o1823, o1824, o1825, o1826, o1827, o1828, o1829, o1830, o1831, o1832, o1833, o1834, o1835, o1836, o1837, o1838, o1839;
+    private Object o1840, o1841, o1842, o1843, o1844, o1845, o1846, o1847, o1848, o1849, o1850, o1851, o1852, o1853, o1854, o1855, o1856, o1857, o1858, o1859;
+    private Object o1860, o1861, o1862, o1863, o1864, o1865, o1866, o1867, o1868, o1869, o1870, o1871, o1872, o1873, o1874, o1875, o1876, o1877, o1878, o1879;
+    private Object o1880, o1881, o1882, o1883, o1884, o1885, o1886, o1887, o1888, o1889, o1890, o1891, o1892, o1893, o1894, o1895, o1896, o1897, o1898, o1899;
+    private Object o1900, o1901, o1902, o1903, o1904, o1905, o1906, o1907, o1908, o1909, o1910, o1911, o1912, o1913, o1914, o1915, o1916, o1917, o1918, o1919;
+    private Object o1920, o1921, o1922, o1923, o1924, o1925, o1926, o1927, o1928, o1929, o1930, o1931, o1932, o1933, o1934, o1935, o1936, o1937, o1938, o1939;
+    private Object o1940, o1941, o1942, o1943, o1944, o1945, o1946, o1947, o1948, o1949, o1950, o1951, o1952, o1953, o1954, o1955, o1956, o1957, o1958, o1959;
+    private Object o1960, o1961, o1962, o1963, o1964, o1965, o1966, o1967, o1968, o1969, o1970, o1971, o1972, o1973, o1974, o1975, o1976, o1977, o1978, o1979;
+    private Object o1980, o1981, o1982, o1983, o1984, o1985, o1986, o1987, o1988, o1989, o1990, o1991, o1992, o1993, o1994, o1995, o1996, o1997, o1998, o1999;
+    private Object o2000, o2001, o2002, o2003, o2004, o2005, o2006, o2007, o2008, o2009, o2010, o2011, o2012, o2013, o2014, o2015, o2016, o2017, o2018, o2019;
+    private Object o2020, o2021, o2022, o2023, o2024, o2025, o2026, o2027, o2028, o2029, o2030, o2031, o2032, o2033, o2034, o2035, o2036, o2037, o2038, o2039;
+    private Object o2040, o2041, o2042, o2043, o2044, o2045, o2046, o2047, o2048, o2049, o2050, o2051, o2052, o2053, o2054, o2055, o2056, o2057, o2058, o2059;
+    private Object o2060, o2061, o2062, o2063, o2064, o2065, o2066, o2067, o2068, o2069, o2070, o2071, o2072, o2073, o2074, o2075, o2076, o2077, o2078, o2079;
+    private Object o2080, o2081, o2082, o2083, o2084, o2085, o2086, o2087, o2088, o2089, o2090, o2091, o2092, o2093, o2094, o2095, o2096, o2097, o2098, o2099;
+    private Object o2100, o2101, o2102, o2103, o2104, o2105, o2106, o2107, o2108, o2109, o2110, o2111, o2112, o2113, o2114, o2115, o2116, o2117, o2118, o2119;
+    private Object o2120, o2121, o2122, o2123, o2124, o2125, o2126, o2127, o2128, o2129, o2130, o2131, o2132, o2133, o2134, o2135, o2136, o2137, o2138, o2139;
+    private Object o2140, o2141, o2142, o2143, o2144, o2145, o2146, o2147, o2148, o2149, o2150, o2151, o2152, o2153, o2154, o2155, o2156, o2157, o2158, o2159;
+    private Object o2160, o2161, o2162, o2163, o2164, o2165, o2166, o2167, o2168, o2169, o2170, o2171, o2172, o2173, o2174, o2175, o2176, o2177, o2178, o2179;
+    private Object o2180, o2181, o2182, o2183, o2184, o2185, o2186, o2187, o2188, o2189, o2190, o2191, o2192, o2193, o2194, o2195, o2196, o2197, o2198, o2199;
+    private Object o2200, o2201, o2202, o2203, o2204, o2205, o2206, o2207, o2208, o2209, o2210, o2211, o2212, o2213, o2214, o2215, o2216, o2217, o2218, o2219;
+    private Object o2220, o2221, o2222, o2223, o2224, o2225, o2226, o2227, o2228, o2229, o2230, o2231, o2232, o2233, o2234, o2235, o2236, o2237, o2238, o2239;
+    private Object o2240, o2241, o2242, o2243, o2244, o2245, o2246, o2247, o2248, o2249, o2250, o2251, o2252, o2253, o2254, o2255, o2256, o2257, o2258, o2259;
+    private Object o2260, o2261, o2262, o2263, o2264, o2265, o2266, o2267, o2268, o2269, o2270, o2271, o2272, o2273, o2274, o2275, o2276, o2277, o2278, o2279;
+    private Object o2280, o2281, o2282, o2283, o2284, o2285, o2286, o2287, o2288, o2289, o2290, o2291, o2292, o2293, o2294, o2295, o2296, o2297, o2298, o2299;
+    private Object o2300, o2301, o2302, o2303, o2304, o2305, o2306, o2307, o2308, o2309, o2310, o2311, o2312, o2313, o2314, o2315, o2316, o2317, o2318, o2319;
+    private Object o2320, o2321, o2322, o2323, o2324, o2325, o2326, o2327, o2328, o2329, o2330, o2331, o2332, o2333, o2334, o2335, o2336, o2337, o2338, o2339;
+    private Object o2340, o2341, o2342, o2343, o2344, o2345, o2346, o2347, o2348, o2349, o2350, o2351, o2352, o2353, o2354, o2355, o2356, o2357, o2358, o2359;
+    private Object o2360, o2361, o2362, o2363, o2364, o2365, o2366, o2367, o2368, o2369, o2370, o2371, o2372, o2373, o2374, o2375, o2376, o2377, o2378, o2379;
+    private Object o2380, o2381, o2382, o2383, o2384, o2385, o2386, o2387, o2388, o2389, o2390, o2391, o2392, o2393, o2394, o2395, o2396, o2397, o2398, o2399;
+    private Object o2400, o2401, o2402, o2403, o2404, o2405, o2406, o2407, o2408, o2409, o2410, o2411, o2412, o2413, o2414, o2415, o2416, o2417, o2418, o2419;
+    private Object o2420, o2421, o2422, o2423, o2424, o2425, o2426, o2427, o2428, o2429, o2430, o2431, o2432, o2433, o2434, o2435, o2436, o2437, o2438, o2439;
+    private Object o2440, o2441, o2442, o2443, o2444, o2445, o2446, o2447, o2448, o2449, o2450, o2451, o2452, o2453, o2454, o2455, o2456, o2457, o2458, o2459;
+    private Object o2460, o2461, o2462, o2463, o2464, o2465, o2466, o2467, o2468, o2469, o2470, o2471, o2472, o2473, o2474, o2475, o2476, o2477, o2478, o2479;
+    private Object o2480, o2481, o2482, o2483, o2484, o2485, o2486, o2487, o2488, o2489, o2490, o2491, o2492, o2493, o2494, o2495, o2496, o2497, o2498, o2499;
+    private Object o2500, o2501, o2502, o2503, o2504, o2505, o2506, o2507, o2508, o2509, o2510, o2511, o2512, o2513, o2514, o2515, o2516, o2517, o2518, o2519;
+    private Object o2520, o2521, o2522, o2523, o2524, o2525, o2526, o2527, o2528, o2529, o2530, o2531, o2532, o2533, o2534, o2535, o2536, o2537, o2538, o2539;
+    private Object o2540, o2541, o2542, o2543, o2544, o2545, o2546, o2547, o2548, o2549, o2550, o2551, o2552, o2553, o2554, o2555, o2556, o2557, o2558, o2559;
+    private Object o2560, o2561, o2562, o2563, o2564, o2565, o2566, o2567, o2568, o2569, o2570, o2571, o2572, o2573, o2574, o2575, o2576, o2577, o2578, o2579;
+    private Object o2580, o2581, o2582, o2583, o2584, o2585, o2586, o2587, o2588, o2589, o2590, o2591, o2592, o2593, o2594, o2595, o2596, o2597, o2598, o2599;
+    private Object o2600, o2601, o2602, o2603, o2604, o2605, o2606, o2607, o2608, o2609, o2610, o2611, o2612, o2613, o2614, o2615, o2616, o2617, o2618, o2619;
+    private Object o2620, o2621, o2622, o2623, o2624, o2625, o2626, o2627, o2628, o2629, o2630, o2631, o2632, o2633, o2634, o2635, o2636, o2637, o2638, o2639;
+    private Object o2640, o2641, o2642, o2643, o2644, o2645, o2646, o2647, o2648, o2649, o2650, o2651, o2652, o2653, o2654, o2655, o2656, o2657, o2658, o2659;
+    private Object o2660, o2661, o2662, o2663, o2664, o2665, o2666, o2667, o2668, o2669, o2670, o2671, o2672, o2673, o2674, o2675, o2676, o2677, o2678, o2679;
+    private Object o2680, o2681, o2682, o2683, o2684, o2685, o2686, o2687, o2688, o2689, o2690, o2691, o2692, o2693, o2694, o2695, o2696, o2697, o2698, o2699;
+    private Object o2700, o2701, o2702, o2703, o2704, o2705, o2706, o2707, o2708, o2709, o2710, o2711, o2712, o2713, o2714, o2715, o2716, o2717, o2718, o2719;
+    private Object o2720, o2721, o2722, o2723, o2724, o2725, o2726, o2727, o2728, o2729, o2730, o2731, o2732, o2733, o2734, o2735, o2736, o2737, o2738, o2739;
+    private Object o2740, o2741, o2742, o2743, o2744, o2745, o2746, o2747, o2748, o2749, o2750, o2751, o2752, o2753, o2754, o2755, o2756, o2757, o2758, o2759;
+    private Object o2760, o2761, o2762, o2763, o2764, o2765, o2766, o2767, o2768, o2769, o2770, o2771, o2772, o2773, o2774, o2775, o2776, o2777, o2778, o2779;
+    private Object o2780, o2781, o2782, o2783, o2784, o2785, o2786, o2787, o2788, o2789, o2790, o2791, o2792, o2793, o2794, o2795, o2796, o2797, o2798, o2799;
+    private Object o2800, o2801, o2802, o2803, o2804, o2805, o2806, o2807, o2808, o2809, o2810, o2811, o2812, o2813, o2814, o2815, o2816, o2817, o2818, o2819;
+    private Object o2820, o2821, o2822, o2823, o2824, o2825, o2826, o2827, o2828, o2829, o2830, o2831, o2832, o2833, o2834, o2835, o2836, o2837, o2838, o2839;
+    private Object o2840, o2841, o2842, o2843, o2844, o2845, o2846, o2847, o2848, o2849, o2850, o2851, o2852, o2853, o2854, o2855, o2856, o2857, o2858, o2859;
+    private Object o2860, o2861, o2862, o2863, o2864, o2865, o2866, o2867, o2868, o2869, o2870, o2871, o2872, o2873, o2874, o2875, o2876, o2877, o2878, o2879;
+    private Object o2880, o2881, o2882, o2883, o2884, o2885, o2886, o2887, o2888, o2889, o2890, o2891, o2892, o2893, o2894, o2895, o2896, o2897, o2898, o2899;
+    private Object o2900, o2901, o2902, o2903, o2904, o2905, o2906, o2907, o2908, o2909, o2910, o2911, o2912, o2913, o2914, o2915, o2916, o2917, o2918, o2919;
+    private Object o2920, o2921, o2922, o2923, o2924, o2925, o2926, o2927, o2928, o2929, o2930, o2931, o2932, o2933, o2934, o2935, o2936, o2937, o2938, o2939;
+    private Object o2940, o2941, o2942, o2943, o2944, o2945, o2946, o2947, o2948, o2949, o2950, o2951, o2952, o2953, o2954, o2955, o2956, o2957, o2958, o2959;
+    private Object o2960, o2961, o2962, o2963, o2964, o2965, o2966, o2967, o2968, o2969, o2970, o2971, o2972, o2973, o2974, o2975, o2976, o2977, o2978, o2979;
+    private Object o2980, o2981, o2982, o2983, o2984, o2985, o2986, o2987, o2988, o2989, o2990, o2991, o2992, o2993, o2994, o2995, o2996, o2997, o2998, o2999;
+    private Object o3000, o3001, o3002, o3003, o3004, o3005, o3006, o3007, o3008, o3009, o3010, o3011, o3012, o3013, o3014, o3015, o3016, o3017, o3018, o3019;
+    private Object o3020, o3021, o3022, o3023, o3024, o3025, o3026, o3027, o3028, o3029, o3030, o3031, o3032, o3033, o3034, o3035, o3036, o3037, o3038, o3039;
+    private Object o3040, o3041, o3042, o3043, o3044, o3045, o3046, o3047, o3048, o3049, o3050, o3051, o3052, o3053, o3054, o3055, o3056, o3057, o3058, o3059;
+    private Object o3060, o3061, o3062, o3063, o3064, o3065, o3066, o3067, o3068, o3069, o3070, o3071, o3072, o3073, o3074, o3075, o3076, o3077, o3078, o3079;
+    private Object o3080, o3081, o3082, o3083, o3084, o3085, o3086, o3087, o3088, o3089, o3090, o3091, o3092, o3093, o3094, o3095, o3096, o3097, o3098, o3099;
+    private Object o3100, o3101, o3102, o3103, o3104, o3105, o3106, o3107, o3108, o3109, o3110, o3111, o3112, o3113, o3114, o3115, o3116, o3117, o3118, o3119;
+    private Object o3120, o3121, o3122, o3123, o3124, o3125, o3126, o3127, o3128, o3129, o3130, o3131, o3132, o3133, o3134, o3135, o3136, o3137, o3138, o3139;
+    private Object o3140, o3141, o3142, o3143, o3144, o3145, o3146, o3147, o3148, o3149, o3150, o3151, o3152, o3153, o3154, o3155, o3156, o3157, o3158, o3159;
+    private Object o3160, o3161, o3162, o3163, o3164, o3165, o3166, o3167, o3168, o3169, o3170, o3171, o3172, o3173, o3174, o3175, o3176, o3177, o3178, o3179;
+    private Object o3180, o3181, o3182, o3183, o3184, o3185, o3186, o3187, o3188, o3189, o3190, o3191, o3192, o3193, o3194, o3195, o3196, o3197, o3198, o3199;
+    private Object o3200, o3201, o3202, o3203, o3204, o3205, o3206, o3207, o3208, o3209, o3210, o3211, o3212, o3213, o3214, o3215, o3216, o3217, o3218, o3219;
+    private Object o3220, o3221, o3222, o3223, o3224, o3225, o3226, o3227, o3228, o3229, o3230, o3231, o3232, o3233, o3234, o3235, o3236, o3237, o3238, o3239;
+    private Object o3240, o3241, o3242, o3243, o3244, o3245, o3246, o3247, o3248, o3249, o3250, o3251, o3252, o3253, o3254, o3255, o3256, o3257, o3258, o3259;
+    private Object o3260, o3261, o3262, o3263, o3264, o3265, o3266, o3267, o3268, o3269, o3270, o3271, o3272, o3273, o3274, o3275, o3276, o3277, o3278, o3279;
+    private Object o3280, o3281, o3282, o3283, o3284, o3285, o3286, o3287, o3288, o3289, o3290, o3291, o3292, o3293, o3294, o3295, o3296, o3297, o3298, o3299;
+    private Object o3300, o3301, o3302, o3303, o3304, o3305, o3306, o3307, o3308, o3309, o3310, o3311, o3312, o3313, o3314, o3315, o3316, o3317, o3318, o3319;
+    private Object o3320, o3321, o3322, o3323, o3324, o3325, o3326, o3327, o3328, o3329, o3330, o3331, o3332, o3333, o3334, o3335, o3336, o3337, o3338, o3339;
+    private Object o3340, o3341, o3342, o3343, o3344, o3345, o3346, o3347, o3348, o3349, o3350, o3351, o3352, o3353, o3354, o3355, o3356, o3357, o3358, o3359;
+    private Object o3360, o3361, o3362, o3363, o3364, o3365, o3366, o3367, o3368, o3369, o3370, o3371, o3372, o3373, o3374, o3375, o3376, o3377, o3378, o3379;
+    private Object o3380, o3381, o3382, o3383, o3384, o3385, o3386, o3387, o3388, o3389, o3390, o3391, o3392, o3393, o3394, o3395, o3396, o3397, o3398, o3399;
+    private Object o3400, o3401, o3402, o3403, o3404, o3405, o3406, o3407, o3408, o3409, o3410, o3411, o3412, o3413, o3414, o3415, o3416, o3417, o3418, o3419;
+    private Object o3420, o3421, o3422, o3423, o3424, o3425, o3426, o3427, o3428, o3429, o3430, o3431, o3432, o3433, o3434, o3435, o3436, o3437, o3438, o3439;
+    private Object o3440, o3441, o3442, o3443, o3444, o3445, o3446, o3447, o3448, o3449, o3450, o3451, o3452, o3453, o3454, o3455, o3456, o3457, o3458, o3459;
+    private Object o3460, o3461, o3462, o3463, o3464, o3465, o3466, o3467, o3468, o3469, o3470, o3471, o3472, o3473, o3474, o3475, o3476, o3477, o3478, o3479;
+    private Object o3480, o3481, o3482, o3483, o3484, o3485, o3486, o3487, o3488, o3489, o3490, o3491, o3492, o3493, o3494, o3495, o3496, o3497, o3498, o3499;
+    private Object o3500, o3501, o3502, o3503, o3504, o3505, o3506, o3507, o3508, o3509, o3510, o3511, o3512, o3513, o3514, o3515, o3516, o3517, o3518, o3519;
+    private Object o3520, o3521, o3522, o3523, o3524, o3525, o3526, o3527, o3528, o3529, o3530, o3531, o3532, o3533, o3534, o3535, o3536, o3537, o3538, o3539;
+    private Object o3540, o3541, o3542, o3543, o3544, o3545, o3546, o3547, o3548, o3549, o3550, o3551, o3552, o3553, o3554, o3555, o3556, o3557, o3558, o3559;
+    private Object o3560, o3561, o3562, o3563, o3564, o3565, o3566, o3567, o3568, o3569, o3570, o3571, o3572, o3573, o3574, o3575, o3576, o3577, o3578, o3579;
+    private Object o3580, o3581, o3582, o3583, o3584, o3585, o3586, o3587, o3588, o3589, o3590, o3591, o3592, o3593, o3594, o3595, o3596, o3597, o3598, o3599;
+    private Object o3600, o3601, o3602, o3603, o3604, o3605, o3606, o3607, o3608, o3609, o3610, o3611, o3612, o3613, o3614, o3615, o3616, o3617, o3618, o3619;
+    private Object o3620, o3621, o3622, o3623, o3624, o3625, o3626, o3627, o3628, o3629, o3630, o3631, o3632, o3633, o3634, o3635, o3636, o3637, o3638, o3639;
+    private Object o3640, o3641, o3642, o3643, o3644, o3645, o3646, o3647, o3648, o3649, o3650, o3651, o3652, o3653, o3654, o3655, o3656, o3657, o3658, o3659;
+    private Object o3660, o3661, o3662, o3663, o3664, o3665, o3666, o3667, o3668, o3669, o3670, o3671, o3672, o3673, o3674, o3675, o3676, o3677, o3678, o3679;
+    private Object o3680, o3681, o3682, o3683, o3684, o3685, o3686, o3687, o3688, o3689, o3690, o3691, o3692, o3693, o3694, o3695, o3696, o3697, o3698, o3699;
+    private Object o3700, o3701, o3702, o3703, o3704, o3705, o3706, o3707, o3708, o3709, o3710, o3711, o3712, o3713, o3714, o3715, o3716, o3717, o3718, o3719;
+    private Object o3720, o3721, o3722, o3723, o3724, o3725, o3726, o3727, o3728, o3729, o3730, o3731, o3732, o3733, o3734, o3735, o3736, o3737, o3738, o3739;
+    private Object o3740, o3741, o3742, o3743, o3744, o3745, o3746, o3747, o3748, o3749, o3750, o3751, o3752, o3753, o3754, o3755, o3756, o3757, o3758, o3759;
+    private Object o3760, o3761, o3762, o3763, o3764, o3765, o3766, o3767, o3768, o3769, o3770, o3771, o3772, o3773, o3774, o3775, o3776, o3777, o3778, o3779;
+    private Object o3780, o3781, o3782, o3783, o3784, o3785, o3786, o3787, o3788, o3789, o3790, o3791, o3792, o3793, o3794, o3795, o3796, o3797, o3798, o3799;
+    private Object o3800, o3801, o3802, o3803, o3804, o3805, o3806, o3807, o3808, o3809, o3810, o3811, o3812, o3813, o3814, o3815, o3816, o3817, o3818, o3819;
+    private Object o3820, o3821, o3822, o3823, o3824, o3825, o3826, o3827, o3828, o3829, o3830, o3831, o3832, o3833, o3834, o3835, o3836, o3837, o3838, o3839;
+    private Object o3840, o3841, o3842, o3843, o3844, o3845, o3846, o3847, o3848, o3849, o3850, o3851, o3852, o3853, o3854, o3855, o3856, o3857, o3858, o3859;
+    private Object o3860, o3861, o3862, o3863, o3864, o3865, o3866, o3867, o3868, o3869, o3870, o3871, o3872, o3873, o3874, o3875, o3876, o3877, o3878, o3879;
+    private Object o3880, o3881, o3882, o3883, o3884, o3885, o3886, o3887, o3888, o3889, o3890, o3891, o3892, o3893, o3894, o3895, o3896, o3897, o3898, o3899;
+    private Object o3900, o3901, o3902, o3903, o3904, o3905, o3906, o3907, o3908, o3909, o3910, o3911, o3912, o3913, o3914, o3915, o3916, o3917, o3918, o3919;
+    private Object o3920, o3921, o3922, o3923, o3924, o3925, o3926, o3927, o3928, o3929, o3930, o3931, o3932, o3933, o3934, o3935, o3936, o3937, o3938, o3939;
+    private Object o3940, o3941, o3942, o3943, o3944, o3945, o3946, o3947, o3948, o3949, o3950, o3951, o3952, o3953, o3954, o3955, o3956, o3957, o3958, o3959;
+    private Object o3960, o3961, o3962, o3963, o3964, o3965, o3966, o3967, o3968, o3969, o3970, o3971, o3972, o3973, o3974, o3975, o3976, o3977, o3978, o3979;
+    private Object o3980, o3981, o3982, o3983, o3984, o3985, o3986, o3987, o3988, o3989, o3990, o3991, o3992, o3993, o3994, o3995, o3996, o3997, o3998, o3999;
+}
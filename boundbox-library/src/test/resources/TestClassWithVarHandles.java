@@ -0,0 +1,10 @@
+import org.boundbox.Backend;
+import org.boundbox.BoundBox;
+
+@SuppressWarnings("unused")
+@BoundBox(boundClass = TestClassWithVarHandles.class, backend = Backend.VAR_HANDLES)
+public class TestClassWithVarHandles {
+    private int counter;
+    private String name = "foo";
+    private static long total;
+}
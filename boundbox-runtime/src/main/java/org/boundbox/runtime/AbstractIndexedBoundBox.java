@@ -0,0 +1,107 @@
+package org.boundbox.runtime;
+
+/**
+ * Base class of generated BoundBoxes. Primitive variants of {@link IndexedBoundBox} go through the boxed getter and setter
+ * of the field. BoundBoxes override the variants of the primitive types of their fields, so that those fields are
+ * accessed without boxing, and only fall back to these implementations for fields of other types.
+ * @author SNI
+ */
+public abstract class AbstractIndexedBoundBox implements IndexedBoundBox {
+
+    public boolean boundBox_getBooleanField(int index) {
+        return getBoxedField(index, Boolean.class, "boolean").booleanValue();
+    }
+
+    public byte boundBox_getByteField(int index) {
+        return getBoxedField(index, Byte.class, "byte").byteValue();
+    }
+
+    public char boundBox_getCharField(int index) {
+        return getBoxedField(index, Character.class, "char").charValue();
+    }
+
+    public short boundBox_getShortField(int index) {
+        return getBoxedField(index, Short.class, "short").shortValue();
+    }
+
+    public int boundBox_getIntField(int index) {
+        return getBoxedField(index, Integer.class, "int").intValue();
+    }
+
+    public long boundBox_getLongField(int index) {
+        return getBoxedField(index, Long.class, "long").longValue();
+    }
+
+    public float boundBox_getFloatField(int index) {
+        return getBoxedField(index, Float.class, "float").floatValue();
+    }
+
+    public double boundBox_getDoubleField(int index) {
+        return getBoxedField(index, Double.class, "double").doubleValue();
+    }
+
+    public void boundBox_setBooleanField(int index, boolean value) {
+        setBoxedField(index, Boolean.valueOf(value), "boolean");
+    }
+
+    public void boundBox_setByteField(int index, byte value) {
+        setBoxedField(index, Byte.valueOf(value), "byte");
+    }
+
+    public void boundBox_setCharField(int index, char value) {
+        setBoxedField(index, Character.valueOf(value), "char");
+    }
+
+    public void boundBox_setShortField(int index, short value) {
+        setBoxedField(index, Short.valueOf(value), "short");
+    }
+
+    public void boundBox_setIntField(int index, int value) {
+        setBoxedField(index, Integer.valueOf(value), "int");
+    }
+
+    public void boundBox_setLongField(int index, long value) {
+        setBoxedField(index, Long.valueOf(value), "long");
+    }
+
+    public void boundBox_setFloatField(int index, float value) {
+        setBoxedField(index, Float.valueOf(value), "float");
+    }
+
+    public void boundBox_setDoubleField(int index, double value) {
+        setBoxedField(index, Double.valueOf(value), "double");
+    }
+
+    /**
+     * Called by BoundBoxes before unboxing the value of a primitive field passed to {@link #boundBox_setField(int, Object)}.
+     * @return value.
+     * @throws IllegalArgumentException
+     *             if value is null.
+     */
+    protected Object boundBox_checkPrimitiveValue(int index, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Field " + boundBox_fieldName(index) + " is primitive and can't be set to null");
+        }
+        return value;
+    }
+
+    private <T> T getBoxedField(int index, Class<T> boxedType, String primitiveTypeName) {
+        Object value = boundBox_getField(index);
+        if (!boxedType.isInstance(value)) {
+            throw createTypeMismatch(index, primitiveTypeName);
+        }
+        return boxedType.cast(value);
+    }
+
+    private void setBoxedField(int index, Object value, String primitiveTypeName) {
+        try {
+            boundBox_setField(index, value);
+        } catch (ClassCastException e) {
+            throw createTypeMismatch(index, primitiveTypeName);
+        }
+    }
+
+    private IllegalArgumentException createTypeMismatch(int index, String primitiveTypeName) {
+        return new IllegalArgumentException("Field " + boundBox_fieldName(index) + " is not of type " + primitiveTypeName);
+    }
+}
@@ -0,0 +1,78 @@
+package org.boundbox.runtime;
+
+/**
+ * Values of all fields bound by a BoundBox, as captured by {@link IndexedBoundBox#boundBox_snapshot()}.
+ * <p>
+ * The layout is flat and decided when the BoundBox is generated : each primitive field has a slot in an array of longs,
+ * and each other field a slot in an array of objects. Primitive values are never boxed : booleans are stored as 0 or 1,
+ * floats and doubles as their bits, like {@link Float#floatToIntBits(float)} and {@link Double#doubleToLongBits(double)},
+ * so that two values are equal exactly when their boxes are. Snapshots are shallow : fields referencing objects are
+ * captured by reference.
+ * </p>
+ * <p>
+ * Snapshots are immutable and can only be restored or compared by a BoundBox of the class that took them.
+ * </p>
+ * @author SNI
+ */
+public final class BoundBoxSnapshot {
+
+    private final Class<?> boundBoxClass;
+    private final long[] primitiveValues;
+    private final Object[] referenceValues;
+
+    /**
+     * Called by generated BoundBoxes, which pass arrays they just created and no longer reference.
+     * @param boundBoxClass
+     *            the class of the BoundBox that takes the snapshot.
+     * @param primitiveValues
+     *            the values of primitive fields, in the slots of the BoundBox.
+     * @param referenceValues
+     *            the values of other fields, in the slots of the BoundBox.
+     */
+    public BoundBoxSnapshot(Class<?> boundBoxClass, long[] primitiveValues, Object[] referenceValues) {
+        this.boundBoxClass = boundBoxClass;
+        this.primitiveValues = primitiveValues;
+        this.referenceValues = referenceValues;
+    }
+
+    /** @return the value of a primitive field, see the class documentation for its encoding. */
+    public long getPrimitiveValue(int slot) {
+        return primitiveValues[slot];
+    }
+
+    /** @return the value of a field that is not primitive. */
+    public Object getReferenceValue(int slot) {
+        return referenceValues[slot];
+    }
+
+    /**
+     * @param boundBox
+     *            the BoundBox that restores or compares this snapshot.
+     * @throws IllegalArgumentException
+     *             if the snapshot was not taken by a BoundBox of the same class.
+     */
+    public void checkTakenBy(Object boundBox) {
+        if (boundBox.getClass() != boundBoxClass) {
+            throw new IllegalArgumentException("Snapshot was not taken by a BoundBox of the same class.");
+        }
+    }
+
+    /**
+     * Compares the value of a field that is not primitive to its value in a snapshot. Values changed if they reference
+     * another object, except for boxed primitives and strings, which changed if they are no longer equal.
+     * @return true if the value of the field changed.
+     */
+    public static boolean hasChanged(Object value, Object snapshotValue) {
+        if (value == snapshotValue) {
+            return false;
+        }
+        if (value == null || snapshotValue == null) {
+            return true;
+        }
+        return !(isValue(value) && value.equals(snapshotValue));
+    }
+
+    private static boolean isValue(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof String;
+    }
+}
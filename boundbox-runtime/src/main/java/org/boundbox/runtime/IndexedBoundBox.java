@@ -0,0 +1,113 @@
+package org.boundbox.runtime;
+
+/**
+ * Gives access to all fields bound by a BoundBox by their index, so that generic code, like fixture builders or state
+ * dumpers, can read and write the state of bound objects without reflection. Every generated BoundBox, and BoundBox of
+ * an inner class, implements it.
+ * <p>
+ * Fields are indexed from 0 to {@link #boundBox_fieldCount()} excluded, in the order they are declared in the bound class
+ * and then in its super classes. Indexes are stable as long as the bound class hierarchy doesn't change. Each field is
+ * accessed through the same getters and setters, and the same cached members, as the named accessors of the BoundBox.
+ * </p>
+ * <p>
+ * Primitive variants, like {@link #boundBox_getIntField(int)}, don't box values for fields of their type. All methods
+ * throw an {@link IndexOutOfBoundsException} for an index out of range and an {@link IllegalArgumentException} when the
+ * type of a primitive variant doesn't match the type of the field, when setting a primitive field to null, or when setting
+ * a final field.
+ * </p>
+ * <p>
+ * Methods are prefixed, like other methods of BoundBoxes, so that they never clash with wrappers of bound methods.
+ * </p>
+ * @author SNI
+ */
+public interface IndexedBoundBox {
+
+    /**
+     * Binds the BoundBox to another instance of the bound class, so that a single BoundBox can access many objects in turn,
+     * without allocating a BoundBox per object. A BoundBox bound to several objects must not be shared between threads.
+     * @param boundObject
+     *            the instance now bound by the BoundBox.
+     * @return this BoundBox.
+     */
+    IndexedBoundBox boundBox_rebind(Object boundObject);
+
+    /** @return the number of fields bound by the BoundBox. */
+    int boundBox_fieldCount();
+
+    /**
+     * @return the name of a field. Fields of super classes hidden by the bound class are qualified by the simple name of
+     *         their class, like <code>Parent.foo</code>.
+     */
+    String boundBox_fieldName(int index);
+
+    /** @return the value of a field, primitive values are boxed. */
+    Object boundBox_getField(int index);
+
+    /**
+     * Sets the value of a field.
+     * @throws ClassCastException
+     *             if value doesn't have the type of the field, or the boxed type of a primitive field.
+     * @throws IllegalArgumentException
+     *             if value is null and the field is primitive, or if the field is final.
+     */
+    void boundBox_setField(int index, Object value);
+
+    boolean boundBox_getBooleanField(int index);
+
+    byte boundBox_getByteField(int index);
+
+    char boundBox_getCharField(int index);
+
+    short boundBox_getShortField(int index);
+
+    int boundBox_getIntField(int index);
+
+    long boundBox_getLongField(int index);
+
+    float boundBox_getFloatField(int index);
+
+    double boundBox_getDoubleField(int index);
+
+    void boundBox_setBooleanField(int index, boolean value);
+
+    void boundBox_setByteField(int index, byte value);
+
+    void boundBox_setCharField(int index, char value);
+
+    void boundBox_setShortField(int index, short value);
+
+    void boundBox_setIntField(int index, int value);
+
+    void boundBox_setLongField(int index, long value);
+
+    void boundBox_setFloatField(int index, float value);
+
+    void boundBox_setDoubleField(int index, double value);
+
+    /**
+     * Captures the values of all fields, those of super classes included, in a flat {@link BoundBoxSnapshot}. Primitive
+     * values are not boxed.
+     * @return the values of the fields.
+     */
+    BoundBoxSnapshot boundBox_snapshot();
+
+    /**
+     * Sets back all fields to their values in a snapshot. Fields are written without being read first, final fields
+     * can't be written and are only checked.
+     * @param snapshot
+     *            a snapshot taken by a BoundBox of the same class.
+     * @throws IllegalArgumentException
+     *             if the snapshot was not taken by a BoundBox of the same class, or if a final field changed.
+     */
+    void boundBox_restore(BoundBoxSnapshot snapshot);
+
+    /**
+     * Compares all fields to a snapshot, as described by {@link BoundBoxSnapshot}.
+     * @param snapshot
+     *            a snapshot taken by a BoundBox of the same class.
+     * @return the indexes of the fields that changed since the snapshot was taken, in increasing order.
+     * @throws IllegalArgumentException
+     *             if the snapshot was not taken by a BoundBox of the same class.
+     */
+    int[] boundBox_diff(BoundBoxSnapshot snapshot);
+}
@@ -0,0 +1,19 @@
+package org.boundbox.runtime;
+
+/**
+ * Invokes a method bound by a BoundBox. Invokers are returned by the invoker factories of BoundBoxes, like
+ * <code>BoundBoxOfA.boundBox_invokerOfFoo()</code>, and can be kept and reused on any instance of the bound class.
+ * Exceptions thrown by the method are wrapped in a {@code BoundBoxException}.
+ * @author SNI
+ */
+public interface Invoker {
+
+    /**
+     * @param target
+     *            the instance on which the method is invoked, ignored for static methods.
+     * @param arguments
+     *            the arguments of the method, primitive values boxed.
+     * @return the value returned by the method, boxed, or null if it returns void.
+     */
+    Object invoke(Object target, Object... arguments);
+}
@@ -0,0 +1,149 @@
+package org.boundbox.runtime;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the fields, methods and constructors that BoundBoxes look up, already made accessible, and the inner classes
+ * they load. All BoundBoxes of a class, or of one of its sub classes, share the same lookups.
+ * <p>
+ * Both classes and members are weakly referenced, as members reference their class : the cache never
+ * prevents a class loader from being collected, which matters in long lived JVMs like IDE test runners
+ * or build daemons. Members remain cached as long as a BoundBox uses them.
+ * </p>
+ * @author SNI
+ */
+public final class MemberCache {
+
+    private static final Map<Class<?>, ConcurrentMap<String, Reference<AccessibleObject>>> MAP_CLASS_TO_MEMBERS = new WeakHashMap<Class<?>, ConcurrentMap<String, Reference<AccessibleObject>>>();
+    private static final Map<Class<?>, ConcurrentMap<String, Reference<Class<?>>>> MAP_CLASS_TO_INNER_CLASSES = new WeakHashMap<Class<?>, ConcurrentMap<String, Reference<Class<?>>>>();
+
+    private MemberCache() {
+    }
+
+    /**
+     * Returns a field declared by a class, as {@link Class#getDeclaredField(String)}, accessible.
+     * @param owner the class that declares the field.
+     * @param fieldName the name of the field.
+     * @return the field, accessible.
+     * @throws NoSuchFieldException if owner doesn't declare such a field.
+     */
+    public static Field getDeclaredField(Class<?> owner, String fieldName) throws NoSuchFieldException {
+        ConcurrentMap<String, Reference<AccessibleObject>> mapMembers = getMembers(owner);
+        String key = fieldName;
+        Field field = (Field) get(mapMembers, key);
+        if (field == null) {
+            field = owner.getDeclaredField(fieldName);
+            field = cache(mapMembers, key, field);
+        }
+        return field;
+    }
+
+    /**
+     * Returns a method declared by a class, as {@link Class#getDeclaredMethod(String, Class...)}, accessible.
+     * @param owner the class that declares the method.
+     * @param methodName the name of the method.
+     * @param parameterTypes the types of the parameters of the method.
+     * @return the method, accessible.
+     * @throws NoSuchMethodException if owner doesn't declare such a method.
+     */
+    public static Method getDeclaredMethod(Class<?> owner, String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+        ConcurrentMap<String, Reference<AccessibleObject>> mapMembers = getMembers(owner);
+        String key = createSignature(methodName, parameterTypes);
+        Method method = (Method) get(mapMembers, key);
+        if (method == null) {
+            method = owner.getDeclaredMethod(methodName, parameterTypes);
+            method = cache(mapMembers, key, method);
+        }
+        return method;
+    }
+
+    /**
+     * Returns a constructor declared by a class, as {@link Class#getDeclaredConstructor(Class...)}, accessible.
+     * @param owner the class that declares the constructor.
+     * @param parameterTypes the types of the parameters of the constructor.
+     * @return the constructor, accessible.
+     * @throws NoSuchMethodException if owner doesn't declare such a constructor.
+     */
+    public static Constructor<?> getDeclaredConstructor(Class<?> owner, Class<?>... parameterTypes) throws NoSuchMethodException {
+        ConcurrentMap<String, Reference<AccessibleObject>> mapMembers = getMembers(owner);
+        String key = createSignature("<init>", parameterTypes);
+        Constructor<?> constructor = (Constructor<?>) get(mapMembers, key);
+        if (constructor == null) {
+            constructor = owner.getDeclaredConstructor(parameterTypes);
+            constructor = cache(mapMembers, key, constructor);
+        }
+        return constructor;
+    }
+
+    /**
+     * Returns an inner class of a class, or of one of its super classes, loaded by the class loader of that class without
+     * being initialized, as {@code Class.forName(binaryName, false, owner.getClassLoader())}.
+     * @param owner the class whose class loader loads the inner class.
+     * @param binaryName the binary name of the inner class, like {@code foo.Outer$Inner}.
+     * @return the inner class.
+     * @throws ClassNotFoundException if the class loader of owner can't load such a class.
+     */
+    public static Class<?> getInnerClass(Class<?> owner, String binaryName) throws ClassNotFoundException {
+        ConcurrentMap<String, Reference<Class<?>>> mapInnerClasses;
+        synchronized (MAP_CLASS_TO_INNER_CLASSES) {
+            mapInnerClasses = MAP_CLASS_TO_INNER_CLASSES.get(owner);
+            if (mapInnerClasses == null) {
+                mapInnerClasses = new ConcurrentHashMap<String, Reference<Class<?>>>();
+                MAP_CLASS_TO_INNER_CLASSES.put(owner, mapInnerClasses);
+            }
+        }
+        Reference<Class<?>> referenceToInnerClass = mapInnerClasses.get(binaryName);
+        Class<?> innerClass = referenceToInnerClass == null ? null : referenceToInnerClass.get();
+        if (innerClass == null) {
+            innerClass = Class.forName(binaryName, false, owner.getClassLoader());
+            mapInnerClasses.put(binaryName, new WeakReference<Class<?>>(innerClass));
+        }
+        return innerClass;
+    }
+
+    /* package-private */static int size() {
+        synchronized (MAP_CLASS_TO_MEMBERS) {
+            return MAP_CLASS_TO_MEMBERS.size();
+        }
+    }
+
+    private static ConcurrentMap<String, Reference<AccessibleObject>> getMembers(Class<?> owner) {
+        synchronized (MAP_CLASS_TO_MEMBERS) {
+            ConcurrentMap<String, Reference<AccessibleObject>> mapMembers = MAP_CLASS_TO_MEMBERS.get(owner);
+            if (mapMembers == null) {
+                mapMembers = new ConcurrentHashMap<String, Reference<AccessibleObject>>();
+                MAP_CLASS_TO_MEMBERS.put(owner, mapMembers);
+            }
+            return mapMembers;
+        }
+    }
+
+    private static AccessibleObject get(ConcurrentMap<String, Reference<AccessibleObject>> mapMembers, String key) {
+        Reference<AccessibleObject> referenceToMember = mapMembers.get(key);
+        return referenceToMember == null ? null : referenceToMember.get();
+    }
+
+    private static <T extends AccessibleObject> T cache(ConcurrentMap<String, Reference<AccessibleObject>> mapMembers, String key, T member) {
+        member.setAccessible(true);
+        // concurrent lookups are harmless, they all cache an equivalent member
+        mapMembers.put(key, new WeakReference<AccessibleObject>(member));
+        return member;
+    }
+
+    private static String createSignature(String methodName, Class<?>... parameterTypes) {
+        StringBuilder signature = new StringBuilder(methodName).append('(');
+        for (Class<?> parameterType : parameterTypes) {
+            signature.append(parameterType.getName()).append(',');
+        }
+        return signature.append(')').toString();
+    }
+}
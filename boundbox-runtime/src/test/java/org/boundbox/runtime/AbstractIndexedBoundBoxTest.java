@@ -0,0 +1,108 @@
+package org.boundbox.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class AbstractIndexedBoundBoxTest {
+
+    @Test
+    public void testGetIntField_unboxes_field() {
+        // given
+        ListBoundBox boundBox = new ListBoundBox(Integer.valueOf(3), "foo");
+
+        // when
+        int value = boundBox.boundBox_getIntField(0);
+
+        // then
+        assertEquals(3, value);
+    }
+
+    @Test
+    public void testSetLongField_boxes_value() {
+        // given
+        ListBoundBox boundBox = new ListBoundBox(Long.valueOf(3), "foo");
+
+        // when
+        boundBox.boundBox_setLongField(0, 4L);
+
+        // then
+        assertEquals(Long.valueOf(4), boundBox.boundBox_getField(0));
+    }
+
+    @Test
+    public void testGetIntField_throws_for_field_of_another_type() {
+        // given
+        ListBoundBox boundBox = new ListBoundBox(Integer.valueOf(3), "foo");
+
+        // when
+        try {
+            boundBox.boundBox_getIntField(1);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // then
+            assertEquals("Field field1 is not of type int", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSetIntField_throws_for_field_of_another_type() {
+        // given
+        ListBoundBox boundBox = new ListBoundBox(Integer.valueOf(3), "foo");
+
+        // when
+        try {
+            boundBox.boundBox_setIntField(1, 2);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // then
+            assertEquals("Field field1 is not of type int", e.getMessage());
+        }
+    }
+
+    /** A BoundBox of an int or long field and a String field, kept in an array. */
+    private static final class ListBoundBox extends AbstractIndexedBoundBox {
+        private final Object[] fields;
+
+        private ListBoundBox(Object... fields) {
+            this.fields = fields;
+        }
+
+        public IndexedBoundBox boundBox_rebind(Object boundObject) {
+            return this;
+        }
+
+        public int boundBox_fieldCount() {
+            return fields.length;
+        }
+
+        public String boundBox_fieldName(int index) {
+            return "field" + index;
+        }
+
+        public Object boundBox_getField(int index) {
+            return fields[index];
+        }
+
+        public void boundBox_setField(int index, Object value) {
+            if (index == 1) {
+                fields[index] = (String) value;
+            } else {
+                fields[index] = (Number) value;
+            }
+        }
+
+        public BoundBoxSnapshot boundBox_snapshot() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void boundBox_restore(BoundBoxSnapshot snapshot) {
+            throw new UnsupportedOperationException();
+        }
+
+        public int[] boundBox_diff(BoundBoxSnapshot snapshot) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
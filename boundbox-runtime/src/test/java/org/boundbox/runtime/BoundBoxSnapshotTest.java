@@ -0,0 +1,70 @@
+package org.boundbox.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class BoundBoxSnapshotTest {
+
+    @Test
+    public void testGetValues_returns_values_by_slot() {
+        // given
+        Object reference = new Object();
+
+        // when
+        BoundBoxSnapshot snapshot = new BoundBoxSnapshot(String.class, new long[] { 3, 4 }, new Object[] { reference });
+
+        // then
+        assertEquals(4, snapshot.getPrimitiveValue(1));
+        assertSame(reference, snapshot.getReferenceValue(0));
+    }
+
+    @Test
+    public void testCheckTakenBy_accepts_boundbox_of_same_class() {
+        // given
+        BoundBoxSnapshot snapshot = new BoundBoxSnapshot(String.class, new long[0], new Object[0]);
+
+        // when
+        snapshot.checkTakenBy("foo");
+
+        // then
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckTakenBy_throws_for_boundbox_of_another_class() {
+        // given
+        BoundBoxSnapshot snapshot = new BoundBoxSnapshot(String.class, new long[0], new Object[0]);
+
+        // when
+        snapshot.checkTakenBy(Integer.valueOf(3));
+    }
+
+    @Test
+    public void testHasChanged_compares_references_by_identity() {
+        // given
+        Object reference = new StringBuilder("foo");
+
+        // when
+
+        // then
+        assertFalse(BoundBoxSnapshot.hasChanged(reference, reference));
+        assertTrue(BoundBoxSnapshot.hasChanged(new StringBuilder("foo"), reference));
+        assertTrue(BoundBoxSnapshot.hasChanged(null, reference));
+        assertFalse(BoundBoxSnapshot.hasChanged(null, null));
+    }
+
+    @Test
+    public void testHasChanged_compares_boxes_and_strings_by_equality() {
+        // given
+
+        // when
+
+        // then
+        assertFalse(BoundBoxSnapshot.hasChanged(Integer.valueOf(1000), Integer.valueOf(1000)));
+        assertFalse(BoundBoxSnapshot.hasChanged(new StringBuilder("foo").toString(), "foo"));
+        assertTrue(BoundBoxSnapshot.hasChanged("bar", "foo"));
+    }
+}
@@ -0,0 +1,138 @@
+package org.boundbox.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Test;
+
+public class MemberCacheTest {
+
+    @Test
+    public void testGetDeclaredField() throws Exception {
+        // given
+
+        // when
+        Field field = MemberCache.getDeclaredField(CachedClass.class, "foo");
+        Field field2 = MemberCache.getDeclaredField(CachedClass.class, "foo");
+
+        // then
+        assertSame(field, field2);
+        assertTrue(field.isAccessible());
+        assertEquals("foo", field.get(new CachedClass()));
+    }
+
+    @Test
+    public void testGetDeclaredMethod() throws Exception {
+        // given
+
+        // when
+        Method method = MemberCache.getDeclaredMethod(CachedClass.class, "foo", int.class);
+        Method method2 = MemberCache.getDeclaredMethod(CachedClass.class, "foo", int.class);
+        Method method3 = MemberCache.getDeclaredMethod(CachedClass.class, "foo");
+
+        // then
+        assertSame(method, method2);
+        assertTrue(method.isAccessible());
+        assertEquals(1, method.getParameterTypes().length);
+        assertEquals(0, method3.getParameterTypes().length);
+    }
+
+    @Test
+    public void testGetDeclaredConstructor() throws Exception {
+        // given
+
+        // when
+        Constructor<?> constructor = MemberCache.getDeclaredConstructor(CachedClass.class, String.class);
+        Constructor<?> constructor2 = MemberCache.getDeclaredConstructor(CachedClass.class, String.class);
+
+        // then
+        assertSame(constructor, constructor2);
+        assertTrue(constructor.isAccessible());
+        assertEquals("bar", MemberCache.getDeclaredField(CachedClass.class, "foo").get(constructor.newInstance("bar")));
+    }
+
+    @Test
+    public void testGetInnerClass() throws Exception {
+        // given
+        String binaryName = CachedClass.class.getName() + "$InnerClass";
+
+        // when
+        Class<?> innerClass = MemberCache.getInnerClass(CachedClass.class, binaryName);
+        Class<?> innerClass2 = MemberCache.getInnerClass(CachedClass.class, binaryName);
+
+        // then
+        assertSame(innerClass, innerClass2);
+        assertEquals(binaryName, innerClass.getName());
+        assertSame(CachedClass.class, innerClass.getEnclosingClass());
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void testGetInnerClass_when_class_does_not_exist() throws Exception {
+        MemberCache.getInnerClass(CachedClass.class, CachedClass.class.getName() + "$DoesNotExist");
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void testGetDeclaredField_when_field_does_not_exist() throws Exception {
+        MemberCache.getDeclaredField(CachedClass.class, "bar");
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testGetDeclaredMethod_when_method_does_not_exist() throws Exception {
+        MemberCache.getDeclaredMethod(CachedClass.class, "foo", String.class);
+    }
+
+    @Test
+    public void testCacheDoesNotLeakClassLoaders() throws Exception {
+        // given
+        WeakReference<ClassLoader> referenceToClassLoader = cacheMemberOfClassInNewClassLoader();
+
+        // when
+        for (int gcCount = 0; gcCount < 10 && referenceToClassLoader.get() != null; gcCount++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        // then
+        assertNull(referenceToClassLoader.get());
+    }
+
+    private WeakReference<ClassLoader> cacheMemberOfClassInNewClassLoader() throws Exception {
+        URL testClassesUrl = CachedClass.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader classLoader = new URLClassLoader(new URL[] { testClassesUrl }, null);
+        Class<?> cachedClass = classLoader.loadClass(CachedClass.class.getName());
+        int sizeBefore = MemberCache.size();
+        MemberCache.getDeclaredField(cachedClass, "foo");
+        assertEquals(sizeBefore + 1, MemberCache.size());
+        return new WeakReference<ClassLoader>(classLoader);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class CachedClass {
+        private String foo = "foo";
+
+        private CachedClass() {
+        }
+
+        private CachedClass(String foo) {
+            this.foo = foo;
+        }
+
+        private void foo() {
+        }
+
+        private void foo(int a) {
+        }
+
+        private static final class InnerClass {
+        }
+    }
+}